@@ -0,0 +1,95 @@
+package com.coderscenter.backend.benchmark;
+
+import com.coderscenter.backend.optaplanner.constraints.ScheduleConstraintProvider;
+import com.coderscenter.backend.optaplanner.domain.PlanningTrainer;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import org.openjdk.jmh.annotations.*;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.SolutionManager;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+import org.optaplanner.test.api.score.stream.ConstraintVerifier;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Score-Berechnung des ScheduleConstraintProvider: vollständig über den ConstraintVerifier
+ * und inkrementell über einen Score Director, so wie der Solver einen einzelnen Move bewertet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConstraintScoringBenchmark {
+
+    private static final String TRAINER_VARIABLE = "assignedTrainer";
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int slotCount;
+
+    private ScheduleSolution solution;
+    private HardSoftScore expectedScore;
+    private ConstraintVerifier<ScheduleConstraintProvider, ScheduleSolution> constraintVerifier;
+    private InnerScoreDirector<ScheduleSolution, HardSoftScore> scoreDirector;
+    private List<SlotAssignment> assignments;
+    private List<PlanningTrainer> trainers;
+    private int moveIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        solution = SyntheticScheduleGenerator.generate(slotCount, 42).toSolution();
+
+        SolverFactory<ScheduleSolution> solverFactory = SolverFactory.create(new SolverConfig()
+                .withSolutionClass(ScheduleSolution.class)
+                .withEntityClasses(SlotAssignment.class)
+                .withConstraintProviderClass(ScheduleConstraintProvider.class));
+        SolutionManager<ScheduleSolution, HardSoftScore> solutionManager = SolutionManager.create(solverFactory);
+        expectedScore = solutionManager.update(solution);
+
+        constraintVerifier = ConstraintVerifier.build(new ScheduleConstraintProvider(), ScheduleSolution.class, SlotAssignment.class);
+
+        scoreDirector = ((DefaultSolverFactory<ScheduleSolution>) solverFactory)
+                .<HardSoftScore>getScoreDirectorFactory()
+                .buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        assignments = scoreDirector.getWorkingSolution().getSlotAssignmentList();
+        trainers = scoreDirector.getWorkingSolution().getTrainerList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoreDirector.close();
+    }
+
+    /**
+     * Full score of the solution from scratch, including ConstraintVerifier's consistency check.
+     */
+    @Benchmark
+    public void fullScoreWithConstraintVerifier() {
+        constraintVerifier.verifyThat()
+                .givenSolution(solution)
+                .scores(expectedScore);
+    }
+
+    /**
+     * One change move: reassign a single slot and let the constraint streams update the score incrementally.
+     */
+    @Benchmark
+    public HardSoftScore incrementalChangeMove() {
+        SlotAssignment assignment = assignments.get(moveIndex % assignments.size());
+        PlanningTrainer trainer = trainers.get(moveIndex % trainers.size());
+        moveIndex++;
+
+        scoreDirector.beforeVariableChanged(assignment, TRAINER_VARIABLE);
+        assignment.setAssignedTrainer(trainer);
+        scoreDirector.afterVariableChanged(assignment, TRAINER_VARIABLE);
+        return scoreDirector.calculateScore();
+    }
+}
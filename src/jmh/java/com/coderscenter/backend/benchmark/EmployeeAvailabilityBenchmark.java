@@ -0,0 +1,47 @@
+package com.coderscenter.backend.benchmark;
+
+import com.coderscenter.backend.entities.profile.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employee.isAvailableOn für alle Trainer über alle Tage eines Schedules,
+ * das ist die Tabelle, die SchedulePlanningMapper pro Optimierung aufbaut.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeAvailabilityBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int slotCount;
+
+    private List<Employee> employees;
+    private List<LocalDate> dates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticScheduleGenerator generator = SyntheticScheduleGenerator.generate(slotCount, 42);
+        employees = generator.getEmployees();
+        dates = generator.getSlots().stream()
+                .map(slot -> slot.getStartDate().toLocalDate())
+                .distinct()
+                .toList();
+    }
+
+    @Benchmark
+    public void availabilityTable(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            for (LocalDate date : dates) {
+                blackhole.consume(employee.isAvailableOn(date));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.coderscenter.backend.benchmark;
+
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleDTO;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.mapper.ScheduleMapper;
+import com.coderscenter.backend.mapper.SchedulePlanningMapper;
+import com.coderscenter.backend.optaplanner.domain.PlanningScope;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping geladener Schedules: die DTO-Kette ScheduleMapper -> WeekMapper -> DayMapper -> SlotMapper
+ * und der Aufbau des Planungsproblems durch den SchedulePlanningMapper.
+ * Die Mapper kommen aus einem Spring-Kontext, der nur das mapper-Package scannt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleMapperBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int slotCount;
+
+    private AnnotationConfigApplicationContext context;
+    private ScheduleMapper scheduleMapper;
+    private SchedulePlanningMapper schedulePlanningMapper;
+    private List<Schedule> schedules;
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext("com.coderscenter.backend.mapper");
+        scheduleMapper = context.getBean(ScheduleMapper.class);
+        schedulePlanningMapper = context.getBean(SchedulePlanningMapper.class);
+        // Larger sizes are spread over several groups, as GET /schedule would return them one by one
+        SyntheticScheduleGenerator generator = SyntheticScheduleGenerator.generate(slotCount, 42);
+        schedules = generator.getSchedules();
+        employees = generator.getEmployees();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ResponseScheduleDTO> toResponseDTO() {
+        return schedules.stream().map(scheduleMapper::toResponseDTO).toList();
+    }
+
+    @Benchmark
+    public ScheduleSolution toPlanningSolution() {
+        return schedulePlanningMapper.toSolution(schedules, employees, PlanningScope.FULL);
+    }
+}
@@ -0,0 +1,223 @@
+package com.coderscenter.backend.benchmark;
+
+import com.coderscenter.backend.entities.group_management.Group;
+import com.coderscenter.backend.entities.group_management.Program;
+import com.coderscenter.backend.entities.group_management.Subject;
+import com.coderscenter.backend.entities.pk.course_subject.Course_Subject_Employee_in;
+import com.coderscenter.backend.entities.profile.Address;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.entities.profile.User;
+import com.coderscenter.backend.entities.schedule_management.Day;
+import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import com.coderscenter.backend.entities.schedule_management.Week;
+import com.coderscenter.backend.enums.DayLabel;
+import com.coderscenter.backend.enums.Role;
+import com.coderscenter.backend.mapper.SchedulePlanningMapper;
+import com.coderscenter.backend.optaplanner.domain.PlanningScope;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Erzeugt reproduzierbare Stundenpläne beliebiger Größe (100 bis 50.000 Slots) ohne Datenbank.
+ * Pro Gruppe gibt es bis zu 40 Wochen mit 5 Tagen à 6 Einheiten, je 100 Slots kommt ein Trainer dazu.
+ * Für den Solver-Benchmark lassen sich Gruppen, Wochen und Trainer auch einzeln vorgeben.
+ */
+public final class SyntheticScheduleGenerator {
+
+    public static final int SLOTS_PER_DAY = 6;
+    public static final int DAYS_PER_WEEK = 5;
+    public static final int MAX_WEEKS_PER_GROUP = 40;
+    public static final int SUBJECT_COUNT = 12;
+
+    private static final LocalDateTime FIRST_MONDAY = LocalDateTime.of(2026, 1, 5, 0, 0);
+
+    private final Random random;
+    private final List<Subject> subjects = new ArrayList<>();
+    private final List<Employee> employees = new ArrayList<>();
+    private final List<Schedule> schedules = new ArrayList<>();
+
+    private SyntheticScheduleGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generate schedules with exactly {@code slotCount} slots in total.
+     */
+    public static SyntheticScheduleGenerator generate(int slotCount, long seed) {
+        SyntheticScheduleGenerator generator = new SyntheticScheduleGenerator(seed);
+        generator.createSubjects();
+        generator.createEmployees(Math.max(5, slotCount / 100));
+        generator.createSchedules(slotCount, MAX_WEEKS_PER_GROUP);
+        return generator;
+    }
+
+    /**
+     * Generate {@code groups} schedules of {@code weeks} full weeks each, staffed by {@code trainers} trainers.
+     */
+    public static SyntheticScheduleGenerator generate(int groups, int weeks, int trainers, long seed) {
+        if (weeks > MAX_WEEKS_PER_GROUP) {
+            throw new IllegalArgumentException("At most " + MAX_WEEKS_PER_GROUP + " weeks per group, got " + weeks);
+        }
+        SyntheticScheduleGenerator generator = new SyntheticScheduleGenerator(seed);
+        generator.createSubjects();
+        generator.createEmployees(trainers);
+        generator.createSchedules(groups * weeks * DAYS_PER_WEEK * SLOTS_PER_DAY, weeks);
+        return generator;
+    }
+
+    public List<Subject> getSubjects() {
+        return subjects;
+    }
+
+    public List<Schedule> getSchedules() {
+        return schedules;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public List<Slot> getSlots() {
+        return schedules.stream()
+                .flatMap(schedule -> schedule.getWeeks().stream())
+                .flatMap(week -> week.getDays().stream())
+                .flatMap(day -> day.getSlots().stream())
+                .toList();
+    }
+
+    /**
+     * The planning problem over all generated schedules, the same way the optimizer builds it.
+     */
+    public ScheduleSolution toSolution() {
+        return new SchedulePlanningMapper().toSolution(schedules, employees, PlanningScope.FULL);
+    }
+
+    private void createSubjects() {
+        for (long i = 1; i <= SUBJECT_COUNT; i++) {
+            subjects.add(Subject.builder().subjectId(i).name("Fach " + i).courses(new ArrayList<>()).build());
+        }
+    }
+
+    private void createEmployees(int count) {
+        DayLabel[] weekdays = Arrays.copyOf(DayLabel.values(), DAYS_PER_WEEK);
+        for (long i = 1; i <= count; i++) {
+            List<Subject> qualified = new ArrayList<>();
+            qualified.add(subjects.get((int) (i % SUBJECT_COUNT)));
+            qualified.add(subjects.get((int) ((i + 1) % SUBJECT_COUNT)));
+            qualified.add(subjects.get(random.nextInt(SUBJECT_COUNT)));
+
+            Set<DayLabel> workDays = new HashSet<>();
+            for (DayLabel weekday : weekdays) {
+                if (random.nextInt(10) < 8) {
+                    workDays.add(weekday);
+                }
+            }
+            Set<LocalDate> holidays = new HashSet<>();
+            Set<LocalDate> unavailableDates = new HashSet<>();
+            for (int d = 0; d < 10; d++) {
+                holidays.add(FIRST_MONDAY.toLocalDate().plusDays(random.nextInt(MAX_WEEKS_PER_GROUP * 7)));
+                unavailableDates.add(FIRST_MONDAY.toLocalDate().plusDays(random.nextInt(MAX_WEEKS_PER_GROUP * 7)));
+            }
+
+            employees.add(Employee.builder()
+                    .id(i)
+                    .firstName("Trainer" + i)
+                    .lastName("Benchmark")
+                    .email("trainer" + i + "@benchmark.test")
+                    .phone("0660" + i)
+                    .birthDate(LocalDate.of(1985, 1, 1))
+                    .svn("SVN" + i)
+                    .salary(3000.0)
+                    .address(Address.builder().id(i).street("Straße " + i).city("Wien").zip("1010").build())
+                    .user(User.builder()
+                            .id(i)
+                            .username("trainer" + i)
+                            .email("trainer" + i + "@benchmark.test")
+                            .role(Role.TRAINER)
+                            .permissions(new ArrayList<>())
+                            .enabled(true)
+                            .build())
+                    .subjects(qualified)
+                    .courses(new ArrayList<>())
+                    .workDays(workDays)
+                    .holidays(holidays)
+                    .unavailableDates(unavailableDates)
+                    .build());
+        }
+    }
+
+    private void createSchedules(int slotCount, int weeksPerGroup) {
+        Program program = Program.builder().programId(1L).duration(12).type("Benchmark").groups(new ArrayList<>()).build();
+        int slotsPerGroup = weeksPerGroup * DAYS_PER_WEEK * SLOTS_PER_DAY;
+        long slotId = 1;
+        long dayId = 1;
+        long weekId = 1;
+        long groupId = 1;
+        int remaining = slotCount;
+
+        while (remaining > 0) {
+            int groupSlots = Math.min(remaining, slotsPerGroup);
+            remaining -= groupSlots;
+
+            Group group = Group.builder()
+                    .groupId(groupId)
+                    .name("Gruppe " + groupId)
+                    .startDate(FIRST_MONDAY.toLocalDate())
+                    .endDate(FIRST_MONDAY.toLocalDate().plusWeeks(weeksPerGroup))
+                    .isActive(true)
+                    .program(program)
+                    .students(new ArrayList<>())
+                    .courses(new ArrayList<>())
+                    .build();
+            // Two main trainers per group for different subjects
+            for (int c = 0; c < 2; c++) {
+                Employee mainTrainer = employees.get(random.nextInt(employees.size()));
+                Course_Subject_Employee_in course = new Course_Subject_Employee_in(group, mainTrainer.getSubjects().get(0), mainTrainer);
+                group.getCourses().add(course);
+                mainTrainer.getCourses().add(course);
+            }
+
+            Schedule schedule = Schedule.builder().scheduleId(groupId).group(group).weeks(new ArrayList<>()).build();
+            int created = 0;
+            for (int w = 0; created < groupSlots; w++) {
+                LocalDateTime weekStart = FIRST_MONDAY.plusWeeks(w);
+                Week week = Week.builder()
+                        .weekId(weekId++)
+                        .label("KW " + (w + 1))
+                        .weekStartDate(weekStart)
+                        .schedule(schedule)
+                        .days(new ArrayList<>())
+                        .build();
+                for (int d = 0; d < DAYS_PER_WEEK && created < groupSlots; d++) {
+                    LocalDateTime dayDate = weekStart.plusDays(d);
+                    Day day = Day.builder()
+                            .dayId(dayId++)
+                            .label(DayLabel.values()[d])
+                            .dayDate(dayDate)
+                            .week(week)
+                            .slots(new ArrayList<>())
+                            .build();
+                    for (int s = 0; s < SLOTS_PER_DAY && created < groupSlots; s++, created++) {
+                        day.getSlots().add(Slot.builder()
+                                .slotId(slotId++)
+                                .slotTopic("Einheit " + s)
+                                .startDate(dayDate.withHour(8 + s))
+                                .endDate(dayDate.withHour(8 + s).withMinute(50))
+                                .day(day)
+                                .subject(subjects.get((int) ((groupId + s) % SUBJECT_COUNT)))
+                                .employee(random.nextInt(4) == 0 ? null : employees.get(random.nextInt(employees.size())))
+                                .build());
+                    }
+                    week.getDays().add(day);
+                }
+                schedule.getWeeks().add(week);
+            }
+            schedules.add(schedule);
+            groupId++;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.coderscenter.backend.benchmark;
+
+import com.coderscenter.backend.entities.profile.User;
+import com.coderscenter.backend.enums.Role;
+import com.coderscenter.backend.services.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT-Verarbeitung pro Request: Username aus dem Token lesen und Token gegen den User prüfen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    // Same format as jwt.token.secret, only used for benchmarking
+    private static final String SECRET = "6D5A7134743777217A25432A462D4A614E645267556B58703273357538782F41"
+            + "6D5A7134743777217A25432A462D4A614E645267556B58703273357538782F41";
+
+    private TokenService tokenService;
+    private UserDetails user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenService, "jwtPreFix", "Bearer");
+
+        User benchmarkUser = User.builder()
+                .username("benchmark")
+                .email("benchmark@benchmark.test")
+                .role(Role.TRAINER)
+                .permissions(new ArrayList<>())
+                .enabled(true)
+                .build();
+        user = benchmarkUser;
+        token = tokenService.generateTokenWithClaims(benchmarkUser);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return tokenService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return tokenService.isTokenValid(token, user);
+    }
+}
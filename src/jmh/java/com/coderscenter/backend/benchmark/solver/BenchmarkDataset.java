@@ -0,0 +1,177 @@
+package com.coderscenter.backend.benchmark.solver;
+
+import com.coderscenter.backend.benchmark.SyntheticScheduleGenerator;
+import com.coderscenter.backend.entities.group_management.Group;
+import com.coderscenter.backend.entities.group_management.Subject;
+import com.coderscenter.backend.entities.pk.course_subject.Course_Subject_Employee_in;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.entities.schedule_management.Day;
+import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import com.coderscenter.backend.entities.schedule_management.Week;
+import com.coderscenter.backend.enums.DayLabel;
+import com.coderscenter.backend.mapper.SchedulePlanningMapper;
+import com.coderscenter.backend.optaplanner.domain.PlanningScope;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * Flache, serialisierbare Form eines Benchmark-Datensatzes.
+ * Wird als JSON/XML-Fixture exportiert und beim Benchmark wieder zu Entities und einem Planungsproblem aufgebaut,
+ * damit jede Solver-Konfiguration exakt dieselben Daten bekommt.
+ */
+public record BenchmarkDataset(
+        String name,
+        int groups,
+        int weeks,
+        int trainers,
+        long seed,
+        List<SubjectFixture> subjects,
+        List<TrainerFixture> trainerList,
+        List<GroupFixture> groupList,
+        List<SlotFixture> slots) {
+
+    public record SubjectFixture(long id, String name) {
+    }
+
+    public record TrainerFixture(long id, String firstName, String lastName, List<Long> subjectIds,
+                                 Set<DayLabel> workDays, Set<LocalDate> holidays, Set<LocalDate> unavailableDates) {
+    }
+
+    public record CourseFixture(long subjectId, long employeeId) {
+    }
+
+    public record GroupFixture(long id, String name, List<CourseFixture> mainTrainers) {
+    }
+
+    public record SlotFixture(long id, long groupId, long subjectId, LocalDateTime start, LocalDateTime end,
+                              Long employeeId) {
+    }
+
+    /**
+     * Generate a dataset of {@code groups} × {@code weeks} × {@code trainers}.
+     */
+    public static BenchmarkDataset generate(int groups, int weeks, int trainers, long seed) {
+        SyntheticScheduleGenerator generator = SyntheticScheduleGenerator.generate(groups, weeks, trainers, seed);
+        String name = groups + "groups-" + weeks + "weeks-" + trainers + "trainers";
+
+        List<SubjectFixture> subjects = generator.getSubjects().stream()
+                .map(subject -> new SubjectFixture(subject.getSubjectId(), subject.getName()))
+                .toList();
+        List<TrainerFixture> trainerList = generator.getEmployees().stream()
+                .map(employee -> new TrainerFixture(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                        employee.getSubjects().stream().map(Subject::getSubjectId).toList(),
+                        new TreeSet<>(employee.getWorkDays()),
+                        new TreeSet<>(employee.getHolidays()),
+                        new TreeSet<>(employee.getUnavailableDates())))
+                .toList();
+        List<GroupFixture> groupList = generator.getSchedules().stream()
+                .map(Schedule::getGroup)
+                .map(group -> new GroupFixture(group.getGroupId(), group.getName(), group.getCourses().stream()
+                        .map(course -> new CourseFixture(course.getSubject().getSubjectId(), course.getEmployee().getId()))
+                        .toList()))
+                .toList();
+        List<SlotFixture> slots = generator.getSlots().stream()
+                .map(slot -> new SlotFixture(slot.getSlotId(),
+                        slot.getDay().getWeek().getSchedule().getGroup().getGroupId(),
+                        slot.getSubject().getSubjectId(),
+                        slot.getStartDate(),
+                        slot.getEndDate(),
+                        slot.getEmployee() != null ? slot.getEmployee().getId() : null))
+                .toList();
+
+        return new BenchmarkDataset(name, groups, weeks, trainers, seed, subjects, trainerList, groupList, slots);
+    }
+
+    /**
+     * Rebuild the schedule/slot graph and map it to a planning problem the same way the optimizer does.
+     */
+    public ScheduleSolution toSolution() {
+        Map<Long, Subject> subjectsById = new HashMap<>();
+        subjects.forEach(fixture -> subjectsById.put(fixture.id(),
+                Subject.builder().subjectId(fixture.id()).name(fixture.name()).courses(new ArrayList<>()).build()));
+
+        Map<Long, Employee> employeesById = new LinkedHashMap<>();
+        trainerList.forEach(fixture -> employeesById.put(fixture.id(), Employee.builder()
+                .id(fixture.id())
+                .firstName(fixture.firstName())
+                .lastName(fixture.lastName())
+                .subjects(new ArrayList<>(fixture.subjectIds().stream().map(subjectsById::get).toList()))
+                .courses(new ArrayList<>())
+                .workDays(new HashSet<>(fixture.workDays()))
+                .holidays(new HashSet<>(fixture.holidays()))
+                .unavailableDates(new HashSet<>(fixture.unavailableDates()))
+                .build()));
+
+        Map<Long, Schedule> schedulesByGroup = new LinkedHashMap<>();
+        for (GroupFixture fixture : groupList) {
+            Group group = Group.builder()
+                    .groupId(fixture.id())
+                    .name(fixture.name())
+                    .isActive(true)
+                    .students(new ArrayList<>())
+                    .courses(new ArrayList<>())
+                    .build();
+            for (CourseFixture courseFixture : fixture.mainTrainers()) {
+                Employee mainTrainer = employeesById.get(courseFixture.employeeId());
+                Course_Subject_Employee_in course = new Course_Subject_Employee_in(group,
+                        subjectsById.get(courseFixture.subjectId()), mainTrainer);
+                group.getCourses().add(course);
+                mainTrainer.getCourses().add(course);
+            }
+            schedulesByGroup.put(fixture.id(),
+                    Schedule.builder().scheduleId(fixture.id()).group(group).weeks(new ArrayList<>()).build());
+        }
+
+        // Weeks and days are derived from the slot dates, ids only need to be unique within the dataset
+        Map<Long, Map<LocalDate, Week>> weeksByGroup = new HashMap<>();
+        Map<Long, Map<LocalDate, Day>> daysByGroup = new HashMap<>();
+        long[] nextWeekId = {1};
+        long[] nextDayId = {1};
+        for (SlotFixture fixture : slots) {
+            Schedule schedule = schedulesByGroup.get(fixture.groupId());
+            LocalDate date = fixture.start().toLocalDate();
+            LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+            Week week = weeksByGroup.computeIfAbsent(fixture.groupId(), id -> new HashMap<>())
+                    .computeIfAbsent(monday, start -> {
+                        Week created = Week.builder()
+                                .weekId(nextWeekId[0]++)
+                                .weekStartDate(start.atStartOfDay())
+                                .schedule(schedule)
+                                .days(new ArrayList<>())
+                                .build();
+                        schedule.getWeeks().add(created);
+                        return created;
+                    });
+            Day day = daysByGroup.computeIfAbsent(fixture.groupId(), id -> new HashMap<>())
+                    .computeIfAbsent(date, dayDate -> {
+                        Day created = Day.builder()
+                                .dayId(nextDayId[0]++)
+                                .label(DayLabel.values()[dayDate.getDayOfWeek().getValue() - 1])
+                                .dayDate(dayDate.atStartOfDay())
+                                .week(week)
+                                .slots(new ArrayList<>())
+                                .build();
+                        week.getDays().add(created);
+                        return created;
+                    });
+            day.getSlots().add(Slot.builder()
+                    .slotId(fixture.id())
+                    .startDate(fixture.start())
+                    .endDate(fixture.end())
+                    .day(day)
+                    .subject(subjectsById.get(fixture.subjectId()))
+                    .employee(fixture.employeeId() != null ? employeesById.get(fixture.employeeId()) : null)
+                    .build());
+        }
+
+        return new SchedulePlanningMapper().toSolution(new ArrayList<>(schedulesByGroup.values()),
+                new ArrayList<>(employeesById.values()), PlanningScope.FULL);
+    }
+}
@@ -0,0 +1,88 @@
+package com.coderscenter.backend.benchmark.solver;
+
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Liest die Benchmark-Fixtures (JSON oder XML) als Planungsproblem ein.
+ * Als Ergebnis wird nur die Zuordnung slotId -> employeeId geschrieben, wie sie auch ein Optimierungsjob speichert.
+ */
+public class ScheduleDatasetFileIO implements SolutionFileIO<ScheduleSolution> {
+
+    public static final String JSON_EXTENSION = "json";
+    public static final String XML_EXTENSION = "xml";
+
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .build();
+
+    private static final ObjectMapper XML_MAPPER = XmlMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .build();
+
+    @Override
+    public String getInputFileExtension() {
+        return JSON_EXTENSION;
+    }
+
+    @Override
+    public ScheduleSolution read(File inputSolutionFile) {
+        return readDataset(inputSolutionFile).toSolution();
+    }
+
+    @Override
+    public void write(ScheduleSolution solution, File outputSolutionFile) {
+        Map<Long, Long> assignments = new TreeMap<>();
+        for (SlotAssignment assignment : solution.getSlotAssignmentList()) {
+            if (assignment.getAssignedTrainer() != null) {
+                assignments.put(assignment.getId(), assignment.getAssignedTrainer().getEmployeeId());
+            }
+        }
+        writeValue(assignments, outputSolutionFile);
+    }
+
+    /**
+     * Read a fixture, the format is chosen by the file extension.
+     */
+    public static BenchmarkDataset readDataset(File file) {
+        try {
+            return mapperFor(file).readValue(file, BenchmarkDataset.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read benchmark dataset " + file, e);
+        }
+    }
+
+    /**
+     * Write a fixture, the format is chosen by the file extension.
+     */
+    public static void writeDataset(BenchmarkDataset dataset, File file) {
+        writeValue(dataset, file);
+    }
+
+    private static void writeValue(Object value, File file) {
+        try {
+            mapperFor(file).writeValue(file, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+
+    private static ObjectMapper mapperFor(File file) {
+        return file.getName().endsWith("." + XML_EXTENSION) ? XML_MAPPER : JSON_MAPPER;
+    }
+}
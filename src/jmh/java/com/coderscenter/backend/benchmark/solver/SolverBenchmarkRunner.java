@@ -0,0 +1,141 @@
+package com.coderscenter.backend.benchmark.solver;
+
+import com.coderscenter.backend.optaplanner.constraints.ScheduleConstraintProvider;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import com.coderscenter.backend.optaplanner.partition.WeekSolutionPartitioner;
+import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+import org.optaplanner.benchmark.config.PlannerBenchmarkConfig;
+import org.optaplanner.benchmark.config.ProblemBenchmarksConfig;
+import org.optaplanner.benchmark.config.SolverBenchmarkConfig;
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline-Vergleich von Solver-Konfigurationen mit dem OptaPlanner-Benchmarker.
+ * Erzeugt Datensätze steigender Größe (Gruppen × Wochen × Trainer), exportiert sie als JSON/XML-Fixtures
+ * und schreibt einen HTML-Report nach {@code target/solver-benchmark}.
+ * <p>
+ * Einstellbar über System-Properties:
+ * <ul>
+ *     <li>{@code benchmark.sizes}: Datensätze als {@code GruppenxWochenxTrainer}, kommagetrennt</li>
+ *     <li>{@code benchmark.spentSeconds}: Zeitlimit pro Konfiguration und Datensatz</li>
+ *     <li>{@code benchmark.warmUpSeconds}: Aufwärmzeit vor der Messung</li>
+ *     <li>{@code benchmark.moveThreadCounts}: zu vergleichende Move-Thread-Anzahlen</li>
+ *     <li>{@code benchmark.seed}: Seed der Datengenerierung</li>
+ * </ul>
+ */
+public final class SolverBenchmarkRunner {
+
+    private static final File OUTPUT_DIRECTORY = new File("target/solver-benchmark");
+
+    private SolverBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) {
+        String sizes = System.getProperty("benchmark.sizes", "1x4x6,3x12x15,6x24x40");
+        long spentSeconds = Long.getLong("benchmark.spentSeconds", 30L);
+        long warmUpSeconds = Long.getLong("benchmark.warmUpSeconds", 30L);
+        String moveThreadCounts = System.getProperty("benchmark.moveThreadCounts", "2,AUTO");
+        long seed = Long.getLong("benchmark.seed", 42L);
+
+        List<File> inputFiles = exportDatasets(sizes, seed, new File(OUTPUT_DIRECTORY, "datasets"));
+
+        SolverConfig baseSolverConfig = new SolverConfig()
+                .withSolutionClass(ScheduleSolution.class)
+                .withEntityClasses(SlotAssignment.class)
+                .withConstraintProviderClass(ScheduleConstraintProvider.class)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(spentSeconds));
+
+        PlannerBenchmarkConfig benchmarkConfig = new PlannerBenchmarkConfig()
+                .withName("Schedule solver (seed " + seed + ")")
+                .withBenchmarkDirectory(OUTPUT_DIRECTORY)
+                // One solver at a time, otherwise move threads compete with parallel benchmarks for the CPU
+                .withParallelBenchmarkCount("1")
+                .withWarmUpSecondsSpentLimit(warmUpSeconds)
+                .withInheritedSolverBenchmarkConfig(new SolverBenchmarkConfig()
+                        .withSolverConfig(baseSolverConfig)
+                        .withProblemBenchmarksConfig(new ProblemBenchmarksConfig()
+                                .withSolutionFileIOClass(ScheduleDatasetFileIO.class)
+                                .withInputSolutionFileList(inputFiles)
+                                .withProblemStatisticTypes(ProblemStatisticType.BEST_SCORE,
+                                        ProblemStatisticType.SCORE_CALCULATION_SPEED,
+                                        ProblemStatisticType.MOVE_COUNT_PER_STEP)))
+                .withSolverBenchmarkConfigList(createSolverBenchmarkConfigs(moveThreadCounts, spentSeconds));
+
+        PlannerBenchmarkFactory.create(benchmarkConfig).buildPlannerBenchmark().benchmark();
+        System.out.println("Solver benchmark report written to " + OUTPUT_DIRECTORY.getAbsolutePath());
+    }
+
+    private static List<File> exportDatasets(String sizes, long seed, File directory) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("Could not create " + directory);
+        }
+        List<File> inputFiles = new ArrayList<>();
+        for (String size : sizes.split(",")) {
+            int[] dimensions = Arrays.stream(size.trim().split("x")).mapToInt(Integer::parseInt).toArray();
+            if (dimensions.length != 3) {
+                throw new IllegalArgumentException("Expected <groups>x<weeks>x<trainers>, got " + size);
+            }
+            BenchmarkDataset dataset = BenchmarkDataset.generate(dimensions[0], dimensions[1], dimensions[2], seed);
+            File jsonFile = new File(directory, dataset.name() + "." + ScheduleDatasetFileIO.JSON_EXTENSION);
+            ScheduleDatasetFileIO.writeDataset(dataset, jsonFile);
+            ScheduleDatasetFileIO.writeDataset(dataset, new File(directory, dataset.name() + "." + ScheduleDatasetFileIO.XML_EXTENSION));
+            System.out.println("Exported dataset " + dataset.name() + " with " + dataset.slots().size() + " slots");
+            inputFiles.add(jsonFile);
+        }
+        return inputFiles;
+    }
+
+    // Benchmark names end up in file names of the report and must match [\w\d _\-.()]
+    private static List<SolverBenchmarkConfig> createSolverBenchmarkConfigs(String moveThreadCounts, long spentSeconds) {
+        List<SolverBenchmarkConfig> configs = new ArrayList<>();
+        // Construction heuristics, each followed by the same local search
+        configs.add(solverBenchmark("FirstFit - LateAcceptance",
+                ConstructionHeuristicType.FIRST_FIT, LocalSearchType.LATE_ACCEPTANCE, null));
+        configs.add(solverBenchmark("CheapestInsertion - LateAcceptance",
+                ConstructionHeuristicType.CHEAPEST_INSERTION, LocalSearchType.LATE_ACCEPTANCE, null));
+        // Local search algorithms
+        configs.add(solverBenchmark("FirstFit - TabuSearch",
+                ConstructionHeuristicType.FIRST_FIT, LocalSearchType.TABU_SEARCH, null));
+        // Move threads
+        for (String moveThreadCount : moveThreadCounts.split(",")) {
+            configs.add(solverBenchmark("LateAcceptance - " + moveThreadCount.trim() + " move threads",
+                    ConstructionHeuristicType.FIRST_FIT, LocalSearchType.LATE_ACCEPTANCE, moveThreadCount.trim()));
+        }
+        // Same phases as the optimizer uses for long schedules
+        configs.add(new SolverBenchmarkConfig()
+                .withName("Partitioned by week")
+                .withSolverConfig(new SolverConfig().withPhases(
+                        new PartitionedSearchPhaseConfig()
+                                .withSolutionPartitionerClass(WeekSolutionPartitioner.class)
+                                .withSolutionPartitionerCustomProperties(Map.of("minMovableSlotsPerPart", "20"))
+                                .withPhaseConfigs(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig())
+                                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(spentSeconds * 2 / 3)),
+                        new LocalSearchPhaseConfig())));
+        return configs;
+    }
+
+    private static SolverBenchmarkConfig solverBenchmark(String name, ConstructionHeuristicType constructionHeuristicType,
+                                                         LocalSearchType localSearchType, String moveThreadCount) {
+        SolverConfig solverConfig = new SolverConfig()
+                .withPhases(new ConstructionHeuristicPhaseConfig().withConstructionHeuristicType(constructionHeuristicType),
+                        new LocalSearchPhaseConfig().withLocalSearchType(localSearchType));
+        if (moveThreadCount != null) {
+            solverConfig.setMoveThreadCount(moveThreadCount);
+        }
+        return new SolverBenchmarkConfig().withName(name).withSolverConfig(solverConfig);
+    }
+}
@@ -0,0 +1,71 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.components.AggregateVersionTracker.Target;
+import com.coderscenter.backend.entities.group_management.Group;
+import com.coderscenter.backend.entities.group_management.Program;
+import com.coderscenter.backend.entities.group_management.Subject;
+import com.coderscenter.backend.entities.pk.course_subject.Course_Subject_Employee_in;
+import com.coderscenter.backend.entities.profile.*;
+import com.coderscenter.backend.entities.schedule_management.Day;
+import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import com.coderscenter.backend.entities.schedule_management.Week;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meldet jedes über JPA geschriebene Entity dem {@link AggregateVersionTracker} als Änderung des Stundenplans,
+ * der Gruppe oder des Profils, in dessen Antwort es erscheint.
+ */
+@Component
+@RequiredArgsConstructor
+public class AggregateVersionListener {
+
+    // Lazy, the tracker needs the repositories and thereby the EntityManagerFactory that creates this listener
+    private final ObjectProvider<AggregateVersionTracker> aggregateVersionTracker;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        AggregateVersionTracker tracker = aggregateVersionTracker.getObject();
+        switch (entity) {
+            case Schedule schedule -> tracker.touchOnCommit(Target.SCHEDULE, schedule.getScheduleId());
+            case Week week -> tracker.touchOnCommit(Target.SCHEDULE, scheduleId(week));
+            case Day day -> tracker.touchOnCommit(Target.SCHEDULE, scheduleId(day.getWeek()));
+            case Slot slot -> tracker.touchOnCommit(Target.SCHEDULE, slot.getDay() != null ? scheduleId(slot.getDay().getWeek()) : null);
+            case Group group -> tracker.touchOnCommit(Target.GROUP, group.getGroupId());
+            case Course_Subject_Employee_in course -> tracker.touchOnCommit(Target.GROUP, groupId(course.getGroup()));
+            case Student student -> tracker.touchOnCommit(Target.GROUP, groupId(student.getGroup()));
+            case Employee employee -> tracker.touchOnCommit(Target.EMPLOYEE, employee.getId());
+            case Subject subject -> tracker.touchOnCommit(Target.SUBJECT, subject.getSubjectId());
+            case Program program -> tracker.touchOnCommit(Target.PROGRAM, program.getProgramId());
+            case Profile profile -> {
+                tracker.touchOnCommit(Target.PROFILE, profile.getId());
+                tracker.touchOnCommit(Target.ALL_GROUPS, null);
+            }
+            case ProfileImage profileImage -> {
+                tracker.touchOnCommit(Target.PROFILE_IMAGE, profileImage.getId());
+                tracker.touchOnCommit(Target.ALL_GROUPS, null);
+            }
+            // Users and addresses of students and trainers are part of every group response
+            case User user -> tracker.touchOnCommit(Target.ALL_GROUPS, null);
+            case Address address -> tracker.touchOnCommit(Target.ALL_GROUPS, null);
+            case Permission permission -> tracker.touchOnCommit(Target.ALL_GROUPS, null);
+            default -> {
+            }
+        }
+    }
+
+    private Long scheduleId(Week week) {
+        return week != null && week.getSchedule() != null ? week.getSchedule().getScheduleId() : null;
+    }
+
+    private Long groupId(Group group) {
+        return group != null ? group.getGroupId() : null;
+    }
+}
@@ -0,0 +1,139 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.repositories.GroupRepository;
+import com.coderscenter.backend.repositories.ProfileRepository;
+import com.coderscenter.backend.repositories.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Führt die Versionen von Stundenplänen, Gruppen und Profilen, aus denen ETag und Last-Modified der GET-Antworten entstehen.
+ * Geänderte Aggregate werden während der Transaktion gesammelt, meist über den {@link AggregateVersionListener},
+ * und unmittelbar vor dem Commit in derselben Transaktion mit je einem UPDATE pro Art hochgezählt.
+ * Eine zurückgerollte Änderung erzeugt so keine neue Version, eine übernommene nie eine veraltete.
+ */
+@Component
+@RequiredArgsConstructor
+public class AggregateVersionTracker implements TransactionExecutionListener {
+
+    /**
+     * What a collected id refers to. Trainers, subjects, programs and profile images are resolved to their
+     * groups, schedules or profiles by the UPDATE itself, their collections are not loaded during the flush.
+     */
+    public enum Target {
+        SCHEDULE, GROUP, ALL_GROUPS, EMPLOYEE, SUBJECT, PROGRAM, PROFILE, PROFILE_IMAGE
+    }
+
+    private final ScheduleRepository scheduleRepository;
+    private final GroupRepository groupRepository;
+    private final ProfileRepository profileRepository;
+    // Lazy, the transaction manager is created with its execution listeners and thereby with this tracker
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    /**
+     * Collect from the start of every writing transaction: changes that only the commit itself flushes reach the
+     * listener after the beforeCommit callbacks have started, a collector registered at that point would be skipped.
+     */
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure == null && !transaction.isReadOnly() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending();
+        }
+    }
+
+    /**
+     * Bump the version of an aggregate as part of the commit of the current transaction.
+     * @param id ignored for {@link Target#ALL_GROUPS}, nothing happens for other targets if null
+     */
+    public void touchOnCommit(Target target, Long id) {
+        if (id == null && target != Target.ALL_GROUPS) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingTouches pending = new PendingTouches();
+            pending.add(target, id);
+            new TransactionTemplate(transactionManager.getObject()).executeWithoutResult(status -> pending.touchAll());
+            return;
+        }
+        pending().add(target, id);
+    }
+
+    /**
+     * Bump schedule versions for writes that bypass JPA, e.g. the batched trainer update of an optimization.
+     */
+    public void touchSchedulesOnCommit(Collection<Long> scheduleIds) {
+        scheduleIds.forEach(scheduleId -> touchOnCommit(Target.SCHEDULE, scheduleId));
+    }
+
+    // One collector per transaction; a REQUIRES_NEW transaction suspends the synchronizations and gets its own
+    private PendingTouches pending() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingTouches pending) {
+                return pending;
+            }
+        }
+        PendingTouches pending = new PendingTouches();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private class PendingTouches implements TransactionSynchronization {
+
+        private final Map<Target, Set<Long>> ids = new EnumMap<>(Target.class);
+
+        void add(Target target, Long id) {
+            Set<Long> targetIds = ids.computeIfAbsent(target, key -> new HashSet<>());
+            if (id != null) {
+                targetIds.add(id);
+            }
+        }
+
+        /**
+         * Runs in the committing transaction, a failed UPDATE rolls back the change instead of leaving a stale version.
+         */
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // The entity listener reports changes while Hibernate flushes, the commit would only flush after this callback
+            scheduleRepository.flush();
+            touchAll();
+        }
+
+        void touchAll() {
+            LocalDateTime now = LocalDateTime.now();
+            new EnumMap<>(ids).forEach((target, targetIds) -> touch(target, targetIds, now));
+        }
+
+        private void touch(Target target, Set<Long> targetIds, LocalDateTime now) {
+            if (target != Target.ALL_GROUPS && targetIds.isEmpty()) {
+                return;
+            }
+            switch (target) {
+                case SCHEDULE -> scheduleRepository.touch(targetIds, now);
+                case GROUP -> groupRepository.touch(targetIds, now);
+                case ALL_GROUPS -> groupRepository.touchAll(now);
+                case EMPLOYEE -> {
+                    groupRepository.touchByCourseEmployees(targetIds, now);
+                    scheduleRepository.touchBySlotEmployees(targetIds, now);
+                }
+                case SUBJECT -> {
+                    groupRepository.touchByCourseSubjects(targetIds, now);
+                    scheduleRepository.touchBySlotSubjects(targetIds, now);
+                }
+                case PROGRAM -> groupRepository.touchByPrograms(targetIds, now);
+                case PROFILE -> profileRepository.touch(targetIds, now);
+                case PROFILE_IMAGE -> profileRepository.touchByImages(targetIds, now);
+            }
+        }
+    }
+}
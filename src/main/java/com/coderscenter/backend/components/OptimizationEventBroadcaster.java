@@ -0,0 +1,141 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.dtos.optimization.OptimizationJobResponse;
+import com.coderscenter.backend.mapper.OptimizationJobMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Verteilt Fortschritt und Abschluss von Optimierungsjobs per Server-Sent Events,
+ * damit das Frontend den Status nicht mehr pollen muss.
+ * Events: "progress" mit Score und Fortschritt, "summary" mit dem fertigen Job.
+ */
+@Component
+@Slf4j
+public class OptimizationEventBroadcaster {
+
+    private static final long PROGRESS_INTERVAL_NANOS = Duration.ofMillis(250).toNanos();
+
+    private final OptimizationJobMapper optimizationJobMapper;
+    private final long emitterTimeoutMillis;
+
+    private final Map<String, List<SseEmitter>> emittersByJob = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastProgressSent = new ConcurrentHashMap<>();
+    // Jobs that finished recently, for subscribers that looked the job up just before its summary was published
+    private final Cache<String, OptimizationJobResponse> recentSummaries;
+
+    public OptimizationEventBroadcaster(OptimizationJobMapper optimizationJobMapper,
+                                        @Value("${optimization.stream.timeout-minutes:15}") long timeoutMinutes) {
+        this.optimizationJobMapper = optimizationJobMapper;
+        this.emitterTimeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+        this.recentSummaries = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .build();
+    }
+
+    /**
+     * Open a stream for a job. The current state is sent right away; a finished job gets its summary and the stream is closed.
+     */
+    public SseEmitter subscribe(OptimizationJobResponse job, boolean finished) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        String jobId = job.getJobId();
+
+        if (finished) {
+            send(emitter, "summary", job);
+            emitter.complete();
+            return emitter;
+        }
+
+        List<SseEmitter> emitters = emittersByJob.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> remove(jobId, emitter));
+        emitter.onTimeout(() -> remove(jobId, emitter));
+        emitter.onError(error -> remove(jobId, emitter));
+
+        // The job may have finished after the caller checked it; no later summary would reach this stream then
+        OptimizationJobResponse summary = recentSummaries.getIfPresent(jobId);
+        if (summary != null) {
+            emittersByJob.remove(jobId, emitters);
+            finish(emitters, emitter, summary);
+            return emitter;
+        }
+
+        if (!send(emitter, "progress", optimizationJobMapper.toProgressEvent(job))) {
+            remove(jobId, emitter);
+        }
+        return emitter;
+    }
+
+    /**
+     * Publish the current progress of a job, throttled so that fast score improvements do not flood clients.
+     */
+    public void publishProgress(OptimizationJobResponse job) {
+        List<SseEmitter> emitters = emittersByJob.get(job.getJobId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Long last = lastProgressSent.get(job.getJobId());
+        if (last != null && now - last < PROGRESS_INTERVAL_NANOS) {
+            return;
+        }
+        lastProgressSent.put(job.getJobId(), now);
+        emitters.forEach(emitter -> {
+            if (!send(emitter, "progress", optimizationJobMapper.toProgressEvent(job))) {
+                remove(job.getJobId(), emitter);
+            }
+        });
+    }
+
+    /**
+     * Send the final summary of a job and close all of its streams.
+     */
+    public void publishSummary(OptimizationJobResponse job) {
+        lastProgressSent.remove(job.getJobId());
+        // Marked before the streams are taken, so a subscriber registering concurrently sees one or the other
+        recentSummaries.put(job.getJobId(), job);
+        List<SseEmitter> emitters = emittersByJob.remove(job.getJobId());
+        if (emitters == null) {
+            return;
+        }
+        emitters.forEach(emitter -> finish(emitters, emitter, job));
+    }
+
+    // Whoever removes the emitter from its list sends the summary, so it goes out exactly once
+    private void finish(List<SseEmitter> emitters, SseEmitter emitter, OptimizationJobResponse job) {
+        if (emitters.remove(emitter)) {
+            send(emitter, "summary", job);
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping optimization stream subscriber: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(String jobId, SseEmitter emitter) {
+        List<SseEmitter> emitters = emittersByJob.get(jobId);
+        if (emitters != null) {
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.coderscenter.backend.components;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Eigener Thread-Pool für OptaPlanner-Jobs, damit Solver nicht den gemeinsamen ForkJoinPool blockieren.
+ * Jobs warten in einer begrenzten FIFO-Warteschlange; pro Schedule darf nur ein Job aktiv sein.
+ * Ein gruppenübergreifender Job reserviert alle Schedules, die er plant.
+ */
+@Component
+@Slf4j
+public class OptimizationJobScheduler {
+
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, String> activeJobBySchedule = new ConcurrentHashMap<>();
+
+    public OptimizationJobScheduler(@Value("${optimization.solver.worker-count:1}") int workerCount,
+                                    @Value("${optimization.solver.queue-capacity:20}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workerCount, workerCount,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "optaplanner-solver-" + threadNumber.incrementAndGet()));
+        log.info("Optimization scheduler started with {} worker(s) and queue capacity {}", workerCount, queueCapacity);
+    }
+
+    /**
+     * Reserve the schedules for a new job. Either all schedules are reserved or none.
+     * @param scheduleIds schedules to optimize
+     * @param jobId id of the new job
+     * @return the id of a job that is already active for one of the schedules, or empty if the reservation succeeded
+     */
+    public Optional<String> reserve(Collection<Long> scheduleIds, String jobId) {
+        List<Long> reserved = new ArrayList<>(scheduleIds.size());
+        for (Long scheduleId : scheduleIds) {
+            String activeJobId = activeJobBySchedule.putIfAbsent(scheduleId, jobId);
+            if (activeJobId != null) {
+                release(reserved, jobId);
+                return Optional.of(activeJobId);
+            }
+            reserved.add(scheduleId);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Release the reservation of schedules, e.g. when a job could not be queued.
+     */
+    public void release(Collection<Long> scheduleIds, String jobId) {
+        scheduleIds.forEach(scheduleId -> activeJobBySchedule.remove(scheduleId, jobId));
+    }
+
+    /**
+     * Queue a job. The schedule reservations are released once the job has finished.
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public void submit(String jobId, Collection<Long> scheduleIds, Runnable work) {
+        executor.execute(new SolverTask(jobId, () -> {
+            try {
+                work.run();
+            } finally {
+                release(scheduleIds, jobId);
+            }
+        }));
+    }
+
+    /**
+     * Position of a job in the waiting queue.
+     * @return 1-based position, or 0 if the job is not waiting (running or finished)
+     */
+    public int getQueuePosition(String jobId) {
+        int position = 1;
+        for (Runnable queued : executor.getQueue()) {
+            if (queued instanceof SolverTask task && task.jobId().equals(jobId)) {
+                return position;
+            }
+            position++;
+        }
+        return 0;
+    }
+
+    /**
+     * Remove a job that has not started yet from the queue.
+     * @return true if the job was still waiting and has been removed
+     */
+    public boolean cancelQueued(String jobId, Collection<Long> scheduleIds) {
+        boolean removed = executor.getQueue().removeIf(queued -> queued instanceof SolverTask task && task.jobId().equals(jobId));
+        if (removed) {
+            release(scheduleIds, jobId);
+        }
+        return removed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record SolverTask(String jobId, Runnable work) implements Runnable {
+        @Override
+        public void run() {
+            work.run();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.dtos.slot.SlotBooking;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hält den {@link TrainerBookingIndex} bei jedem Schreiben eines Slots über JPA aktuell,
+ * auch wenn Slots per Cascade mit ihrem Tag, ihrer Woche oder ihrem Stundenplan gespeichert oder gelöscht werden.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotBookingListener {
+
+    // Lazy, the index needs the SlotRepository and thereby the EntityManagerFactory that creates this listener
+    private final ObjectProvider<TrainerBookingIndex> trainerBookingIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Slot slot) {
+        trainerBookingIndex.getObject().putAfterCommit(new SlotBooking(
+                slot.getSlotId(),
+                slot.getEmployee() != null ? slot.getEmployee().getId() : null,
+                slot.getStartDate(),
+                slot.getEndDate()));
+    }
+
+    @PostRemove
+    public void onRemove(Slot slot) {
+        trainerBookingIndex.getObject().removeAfterCommit(slot.getSlotId());
+    }
+}
@@ -0,0 +1,137 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.entities.group_management.Subject;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.enums.DayLabel;
+import com.coderscenter.backend.repositories.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * In-Memory-Abbild aller Trainer mit Fächern, Arbeitstagen, Urlaubs- und Abwesenheitstagen sowie Haupttrainer-Zuordnungen.
+ * Ergänzt den {@link TrainerBookingIndex}, damit die Vertretungssuche ohne Laden der Employee-Entities auskommt.
+ * Änderungen an Trainern und Kursen markieren das Abbild über {@link TrainerAvailabilityListener} als veraltet,
+ * neu geladen wird beim nächsten Zugriff.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrainerAvailabilityIndex {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile Snapshot snapshot = new Snapshot(List.of(), Map.of());
+
+    /**
+     * Snapshot of one trainer, detached from the persistence context.
+     */
+    public record TrainerProfile(Long employeeId, String firstName, String lastName, Set<Long> subjectIds,
+                                 Set<DayLabel> workDays, Set<LocalDate> holidays, Set<LocalDate> unavailableDates) {
+
+        public boolean isQualifiedFor(Long subjectId) {
+            return subjectIds.contains(subjectId);
+        }
+
+        /**
+         * Same rules as {@link Employee#isAvailableOn(LocalDate)}.
+         */
+        public boolean isAvailableOn(LocalDate date) {
+            return workDays.contains(DayLabel.values()[date.getDayOfWeek().getValue() - 1])
+                    && !holidays.contains(date)
+                    && !unavailableDates.contains(date);
+        }
+    }
+
+    private record CourseKey(Long groupId, Long subjectId) {
+    }
+
+    private record Snapshot(List<TrainerProfile> trainers, Map<CourseKey, Set<Long>> mainTrainersByCourse) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        stale.set(false);
+        try {
+            snapshot = transactionTemplate.execute(status -> load());
+        } catch (RuntimeException e) {
+            stale.set(true);
+            throw e;
+        }
+        log.info("Trainer availability index loaded with {} trainers", snapshot.trainers().size());
+    }
+
+    /**
+     * All trainers ordered by last and first name.
+     */
+    public List<TrainerProfile> getTrainers() {
+        return current().trainers();
+    }
+
+    /**
+     * Whether the trainer is main trainer of the group for the subject (Course_Subject_Employee_in).
+     */
+    public boolean isMainTrainer(Long groupId, Long subjectId, Long employeeId) {
+        return current().mainTrainersByCourse().getOrDefault(new CourseKey(groupId, subjectId), Set.of()).contains(employeeId);
+    }
+
+    /**
+     * Mark the index as outdated once the current transaction has committed.
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stale.set(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stale.set(true);
+            }
+        });
+    }
+
+    private Snapshot current() {
+        if (stale.get()) {
+            synchronized (this) {
+                if (stale.get()) {
+                    reload();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private Snapshot load() {
+        List<TrainerProfile> trainers = new ArrayList<>();
+        Map<CourseKey, Set<Long>> mainTrainersByCourse = new HashMap<>();
+        for (Employee employee : employeeRepository.findAllForOptimization()) {
+            trainers.add(new TrainerProfile(
+                    employee.getId(),
+                    employee.getFirstName(),
+                    employee.getLastName(),
+                    employee.getSubjects().stream().map(Subject::getSubjectId).collect(Collectors.toUnmodifiableSet()),
+                    Set.copyOf(employee.getWorkDays()),
+                    Set.copyOf(employee.getHolidays()),
+                    Set.copyOf(employee.getUnavailableDates())));
+            employee.getCourses().forEach(course -> mainTrainersByCourse
+                    .computeIfAbsent(new CourseKey(course.getGroup().getGroupId(), course.getSubject().getSubjectId()), key -> new HashSet<>())
+                    .add(employee.getId()));
+        }
+        trainers.sort(Comparator.comparing(TrainerProfile::lastName, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(TrainerProfile::firstName, Comparator.nullsLast(Comparator.naturalOrder())));
+        return new Snapshot(List.copyOf(trainers), mainTrainersByCourse);
+    }
+}
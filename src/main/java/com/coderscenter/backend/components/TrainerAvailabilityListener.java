@@ -0,0 +1,26 @@
+package com.coderscenter.backend.components;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Markiert den {@link TrainerAvailabilityIndex} als veraltet, sobald Trainer oder Haupttrainer-Zuordnungen über JPA geschrieben werden.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrainerAvailabilityListener {
+
+    // Lazy, the index needs the EmployeeRepository and thereby the EntityManagerFactory that creates this listener
+    private final ObjectProvider<TrainerAvailabilityIndex> trainerAvailabilityIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        trainerAvailabilityIndex.getObject().invalidateAfterCommit();
+    }
+}
@@ -0,0 +1,235 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.dtos.slot.SlotBooking;
+import com.coderscenter.backend.repositories.SlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-Memory-Index aller gebuchten Slots pro Trainer, nach Startzeit sortiert.
+ * Beantwortet "ist Trainer X zwischen start und end frei" in O(log n) ohne Datenbankabfrage oder Solver-Lauf.
+ * Der Index wird beim Start geladen und über {@link SlotBookingListener} nach jedem Commit nachgeführt.
+ * Schreibzugriffe anderer Instanzen sieht er erst nach einem {@link #reload()}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrainerBookingIndex {
+
+    private static final Comparator<SlotBooking> BY_START = Comparator
+            .comparing(SlotBooking::startDate)
+            .thenComparing(SlotBooking::slotId);
+
+    private final SlotRepository slotRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, SlotBooking> bookingsBySlot = new HashMap<>();
+    private final Map<Long, TrainerBookings> bookingsByTrainer = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<SlotBooking> bookings = slotRepository.findAllBookings();
+        lock.writeLock().lock();
+        try {
+            bookingsBySlot.clear();
+            bookingsByTrainer.clear();
+            bookings.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Trainer booking index loaded with {} slots of {} trainers", bookings.size(), bookingsByTrainer.size());
+    }
+
+    /**
+     * Check whether a trainer has no other slot overlapping the given time range.
+     * @param ignoredSlotIds slots to leave out, e.g. the slot that is being edited
+     */
+    public boolean isFree(Long employeeId, LocalDateTime start, LocalDateTime end, Collection<Long> ignoredSlotIds) {
+        return findOverlapping(employeeId, start, end, ignoredSlotIds).isEmpty();
+    }
+
+    /**
+     * Slots of a trainer that overlap the given time range, ordered by start.
+     * @param ignoredSlotIds slots to leave out, e.g. the slot that is being edited
+     */
+    public List<SlotBooking> findOverlapping(Long employeeId, LocalDateTime start, LocalDateTime end, Collection<Long> ignoredSlotIds) {
+        if (employeeId == null || start == null || end == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            TrainerBookings trainerBookings = bookingsByTrainer.get(employeeId);
+            return trainerBookings == null ? List.of() : trainerBookings.findOverlapping(start, end, ignoredSlotIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Slots of a trainer starting within [from, to), ordered by start, e.g. to measure the load of a week.
+     */
+    public List<SlotBooking> findStartingBetween(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        if (employeeId == null || from == null || to == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            TrainerBookings trainerBookings = bookingsByTrainer.get(employeeId);
+            return trainerBookings == null ? List.of() : trainerBookings.findStartingBetween(from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Current booking of a slot as known to the index.
+     */
+    public Optional<SlotBooking> find(Long slotId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(bookingsBySlot.get(slotId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Record a created or changed slot once the current transaction has committed.
+     */
+    public void putAfterCommit(SlotBooking booking) {
+        afterCommit(() -> put(booking));
+    }
+
+    /**
+     * Forget a deleted slot once the current transaction has committed.
+     */
+    public void removeAfterCommit(Long slotId) {
+        afterCommit(() -> remove(slotId));
+    }
+
+    /**
+     * Move slots to other trainers once the current transaction has committed, for writes that bypass JPA.
+     * @param assignments slotId -> employeeId
+     */
+    public void reassignAfterCommit(Map<Long, Long> assignments) {
+        Map<Long, Long> copy = new HashMap<>(assignments);
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                copy.forEach((slotId, employeeId) -> {
+                    SlotBooking current = bookingsBySlot.get(slotId);
+                    if (current != null) {
+                        removeLocked(slotId);
+                        add(new SlotBooking(slotId, employeeId, current.startDate(), current.endDate()));
+                    }
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void put(SlotBooking booking) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(booking.slotId());
+            add(booking);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long slotId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(slotId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(SlotBooking booking) {
+        if (booking.slotId() == null || booking.startDate() == null || booking.endDate() == null) {
+            return;
+        }
+        bookingsBySlot.put(booking.slotId(), booking);
+        if (booking.employeeId() != null) {
+            bookingsByTrainer.computeIfAbsent(booking.employeeId(), id -> new TrainerBookings()).add(booking);
+        }
+    }
+
+    private void removeLocked(Long slotId) {
+        SlotBooking previous = bookingsBySlot.remove(slotId);
+        if (previous != null && previous.employeeId() != null) {
+            TrainerBookings trainerBookings = bookingsByTrainer.get(previous.employeeId());
+            if (trainerBookings != null) {
+                trainerBookings.remove(previous);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        // A rolled back write must not show up as booking
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    /**
+     * Slots of one trainer sorted by start. Booked slots may overlap each other (existing conflicts),
+     * so a query looks back by the longest slot duration instead of only at the previous entry.
+     */
+    private static final class TrainerBookings {
+
+        private final TreeSet<SlotBooking> byStart = new TreeSet<>(BY_START);
+        private Duration longest = Duration.ZERO;
+
+        void add(SlotBooking booking) {
+            byStart.add(booking);
+            Duration duration = Duration.between(booking.startDate(), booking.endDate());
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+        }
+
+        void remove(SlotBooking booking) {
+            byStart.remove(booking);
+        }
+
+        List<SlotBooking> findOverlapping(LocalDateTime start, LocalDateTime end, Collection<Long> ignoredSlotIds) {
+            // Every overlapping slot starts before end and no earlier than start minus the longest duration
+            SlotBooking from = new SlotBooking(Long.MIN_VALUE, null, start.minus(longest), null);
+            SlotBooking to = new SlotBooking(Long.MIN_VALUE, null, end, null);
+            List<SlotBooking> overlapping = new ArrayList<>();
+            for (SlotBooking booking : byStart.subSet(from, true, to, false)) {
+                if (booking.overlaps(start, end) && (ignoredSlotIds == null || !ignoredSlotIds.contains(booking.slotId()))) {
+                    overlapping.add(booking);
+                }
+            }
+            return overlapping;
+        }
+
+        List<SlotBooking> findStartingBetween(LocalDateTime from, LocalDateTime to) {
+            return new ArrayList<>(byStart.subSet(new SlotBooking(Long.MIN_VALUE, null, from, null), true,
+                    new SlotBooking(Long.MIN_VALUE, null, to, null), false));
+        }
+    }
+}
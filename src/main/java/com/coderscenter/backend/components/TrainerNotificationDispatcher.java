@@ -0,0 +1,52 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.services.TrainerNotificationService;
+import com.coderscenter.backend.services.TrainerNotificationService.Digest;
+import com.coderscenter.backend.services.helperService.EmailSendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versendet die vorgemerkten Einsatzänderungen im Hintergrund, eine E-Mail pro Trainer.
+ * Die Outbox wird ohne Sperren gelesen, deshalb darf nur eine Instanz {@code notifications.dispatch.enabled} gesetzt haben.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrainerNotificationDispatcher {
+
+    private final TrainerNotificationService trainerNotificationService;
+    private final EmailSendingService emailSendingService;
+
+    @Value("${notifications.dispatch.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(fixedDelayString = "${notifications.dispatch.interval-ms:30000}",
+            initialDelayString = "${notifications.dispatch.interval-ms:30000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        for (Digest digest : trainerNotificationService.collectDueDigests()) {
+            // Nothing left after coalescing, or the trainer no longer exists
+            if (digest.body() == null) {
+                trainerNotificationService.markSent(digest);
+                continue;
+            }
+            // Sent outside of any transaction, a slow mail API must not hold database connections
+            try {
+                if (emailSendingService.sendEmailSync(digest.email(), digest.subject(), digest.body())) {
+                    trainerNotificationService.markSent(digest);
+                    log.info("Notified trainer {} about {} schedule changes", digest.employeeId(), digest.notifications().size());
+                } else {
+                    trainerNotificationService.markFailed(digest, "E-Mail wurde nicht angenommen");
+                }
+            } catch (Exception e) {
+                trainerNotificationService.markFailed(digest, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.coderscenter.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Lokale Caches für selten geänderte Stammdaten: Fächer, Programme, Berechtigungen und Trainer-Zusammenfassungen.
+ * Jeder Cache ist über cache.&lt;name&gt;.max-size und cache.&lt;name&gt;.ttl-minutes begrenzt, Treffer und Fehlzugriffe
+ * erscheinen als Micrometer-Metrik cache.gets. Die schreibenden Services leeren die betroffenen Einträge mit @CacheEvict.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SUBJECTS = "subjects";
+    public static final String PROGRAMS = "programs";
+    public static final String PERMISSIONS = "permissions";
+    public static final String TRAINER_SUMMARIES = "trainer-summaries";
+
+    /**
+     * Only the caches above exist, a misspelled cache name fails instead of creating an unbounded cache.
+     * Puts and evictions inside a transaction take effect after the commit, so a rolled back write does not leave stale entries.
+     */
+    @Bean
+    public CacheManager cacheManager(Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+        for (String name : List.of(SUBJECTS, PROGRAMS, PERMISSIONS, TRAINER_SUMMARIES)) {
+            cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                    .maximumSize(environment.getProperty("cache." + name + ".max-size", Long.class, 1000L))
+                    .expireAfterWrite(Duration.ofMinutes(environment.getProperty("cache." + name + ".ttl-minutes", Long.class, 60L)))
+                    .recordStats()
+                    .build());
+        }
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
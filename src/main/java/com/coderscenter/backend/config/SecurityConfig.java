@@ -1,6 +1,7 @@
 package com.coderscenter.backend.config;
 
 import com.coderscenter.backend.components.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,6 +43,8 @@ public class SecurityConfig {
                 //Hier wird konfiguriert wer auf welchen Pfad zugreiffen darf
                 // er arbeitet von oben nach unten ab bedeutet wenn man einmal nicht berechtigt ist fliegt man sofort eaus
                 .authorizeHttpRequests(auth -> auth
+                        // SSE-Streams werden asynchron abgeschlossen, der Request wurde beim Öffnen bereits geprüft
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/h2/**").permitAll()
                         .requestMatchers("/auth/swagger-ui.html", "/auth/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/api/auth/login").permitAll()
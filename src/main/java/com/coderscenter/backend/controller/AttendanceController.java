@@ -1,6 +1,8 @@
 package com.coderscenter.backend.controller;
 
 import com.coderscenter.backend.dtos.attendance.RequestAttendanceDTO;
+import com.coderscenter.backend.dtos.attendance.RequestAttendanceFilterDTO;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
 import com.coderscenter.backend.exceptions.EmptyOptionalException;
 import com.coderscenter.backend.services.AttendanceService;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +19,8 @@ public class AttendanceController {
     private final AttendanceService absenceService;
 
     @GetMapping
-    public ResponseEntity<?> getAll() {
-        return new ResponseEntity<>(absenceService.getAllAttendances(), HttpStatus.OK);
+    public ResponseEntity<?> getAll(RequestPageDTO pageRequest, RequestAttendanceFilterDTO filter) {
+        return new ResponseEntity<>(absenceService.getAllAttendances(pageRequest, filter), HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
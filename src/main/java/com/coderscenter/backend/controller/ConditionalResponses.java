@@ -0,0 +1,37 @@
+package com.coderscenter.backend.controller;
+
+import com.coderscenter.backend.dtos.version.AggregateVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+/**
+ * Antworten auf bedingte GET-Anfragen: 304 ohne Body, solange If-None-Match oder If-Modified-Since zum aktuellen
+ * Versionsstand passen, sonst 200 mit ETag und Last-Modified. Clients dürfen eine Antwort nur nach Rückfrage wiederverwenden.
+ */
+final class ConditionalResponses {
+
+    @FunctionalInterface
+    interface Body<T, E extends Exception> {
+        T get() throws E;
+    }
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param version current version, read before the body so the ETag can lag behind the data but never lead it;
+     *                empty if the resource does not exist, the body then reports the error as before
+     * @param body    only built if the client's copy is outdated
+     */
+    static <T, E extends Exception> ResponseEntity<T> respond(WebRequest request, Optional<AggregateVersion> version,
+                                                               Body<T, E> body) throws E {
+        if (version.isPresent() && request.checkNotModified(version.get().eTag(), version.get().lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body.get());
+    }
+}
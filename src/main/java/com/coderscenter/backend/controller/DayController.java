@@ -2,6 +2,7 @@ package com.coderscenter.backend.controller;
 
 import com.coderscenter.backend.dtos.day.RequestDayDTO;
 import com.coderscenter.backend.dtos.day.ResponseDayDTO;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
 import com.coderscenter.backend.dtos.slot.RequestSlotDTO;
 import com.coderscenter.backend.exceptions.EmptyOptionalException;
 import com.coderscenter.backend.mapper.DayMapper;
@@ -21,8 +22,8 @@ public class DayController {
     private final DayMapper dayMapper;
 
     @GetMapping
-    public ResponseEntity<?> getAll() {
-        return new ResponseEntity<>(dayService.getAllDays(), HttpStatus.OK);
+    public ResponseEntity<?> getAll(RequestPageDTO pageRequest) {
+        return new ResponseEntity<>(dayService.getAllDays(pageRequest), HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
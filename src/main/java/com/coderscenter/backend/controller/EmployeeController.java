@@ -3,6 +3,8 @@ package com.coderscenter.backend.controller;
 import com.coderscenter.backend.dtos.employee.request.RequestEmployeeDTO;
 import com.coderscenter.backend.dtos.employee.request.UpdateEmployeeDTO;
 import com.coderscenter.backend.dtos.employee.response.ResponseEmployeeDTO;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.services.EmployeeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +12,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("api/employee")
 @RequiredArgsConstructor
@@ -20,8 +20,8 @@ public class EmployeeController {
     private final EmployeeService employeeService;
 
     @GetMapping
-    public ResponseEntity<List<ResponseEmployeeDTO>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<ResponsePageDTO<Object>> getAllEmployees(RequestPageDTO pageRequest) {
+        return ResponseEntity.ok(employeeService.getAllEmployees(pageRequest));
     }
 
     @GetMapping("/{employeeId}")
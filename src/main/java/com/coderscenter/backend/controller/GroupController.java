@@ -9,6 +9,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/admin/group")
@@ -17,18 +20,24 @@ public class GroupController {
 
     private final GroupService groupService;
 
+    /**
+     * Answers If-None-Match with 304 while no group, course, student or trainer changed
+     */
     @GetMapping
-    public ResponseEntity<?> getAll() {
-        return new ResponseEntity<>(groupService.getAllGroups(), HttpStatus.OK);
+    public ResponseEntity<?> getAll(WebRequest request) {
+        return ConditionalResponses.respond(request, Optional.of(groupService.getGroupListVersion()),
+                groupService::getAllGroups);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getById(@PathVariable Long id) throws UsernameNotFoundException, EmptyOptionalException {
-        return new ResponseEntity<>(groupService.getGroupById(id),HttpStatus.OK);
+    public ResponseEntity<?> getById(@PathVariable Long id, WebRequest request) throws UsernameNotFoundException, EmptyOptionalException {
+        return ConditionalResponses.respond(request, groupService.findGroupVersion(id),
+                () -> groupService.getGroupById(id));
     }
     @GetMapping("/{id}/course")
-    public ResponseEntity<?> getCoursesById(@PathVariable Long id) throws UsernameNotFoundException, EmptyOptionalException {
-        return new ResponseEntity<>(groupService.getCoursesById(id),HttpStatus.OK);
+    public ResponseEntity<?> getCoursesById(@PathVariable Long id, WebRequest request) throws UsernameNotFoundException, EmptyOptionalException {
+        return ConditionalResponses.respond(request, groupService.findGroupVersion(id),
+                () -> groupService.getCoursesById(id));
     }
 
 
@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,13 +32,15 @@ public class ProfileController {
 
     /**
      * Get a profile by the associated user ID.
+     * Answers If-None-Match / If-Modified-Since with 304 while the profile is unchanged.
      *
      * @param userId ID of the user
      * @return {@link ResponseProfileDTO} with profile details
      */
     @GetMapping("/{userId}")
-    public ResponseEntity<ResponseProfileDTO> getProfileByUserId(@PathVariable Long userId) {
-        return ResponseEntity.ok(profileService.getProfileByUserId(userId));
+    public ResponseEntity<ResponseProfileDTO> getProfileByUserId(@PathVariable Long userId, WebRequest request) {
+        return ConditionalResponses.respond(request, profileService.findProfileVersion(userId),
+                () -> profileService.getProfileByUserId(userId));
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.coderscenter.backend.controller;
 
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
 import com.coderscenter.backend.dtos.schedule.RequestScheduleDTO;
 import com.coderscenter.backend.dtos.week.RequestWeekDTO;
 import com.coderscenter.backend.exceptions.EmptyOptionalException;
@@ -9,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("api/schedule")
@@ -18,13 +20,23 @@ public class ScheduleController {
     private final ScheduleService scheduleService;
 
     @GetMapping
-    public ResponseEntity<?> getAll() {
-        return new ResponseEntity<>(scheduleService.getAllSchedules(), HttpStatus.OK);
+    public ResponseEntity<?> getAll(RequestPageDTO pageRequest) {
+        return new ResponseEntity<>(scheduleService.getAllSchedules(pageRequest), HttpStatus.OK);
     }
 
+    /**
+     * Answers If-None-Match / If-Modified-Since with 304 while the schedule and its group are unchanged
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getById(@PathVariable Long id) throws UsernameNotFoundException {
-        return new ResponseEntity<>(scheduleService.getScheduleById(id),HttpStatus.OK);
+    public ResponseEntity<?> getById(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.respond(request, scheduleService.findScheduleVersion(id),
+                () -> scheduleService.getScheduleView(id));
+    }
+
+    @GetMapping("/{id}/full")
+    public ResponseEntity<?> getFullById(@PathVariable Long id, WebRequest request) throws UsernameNotFoundException {
+        return ConditionalResponses.respond(request, scheduleService.findScheduleVersion(id),
+                () -> scheduleService.getScheduleById(id));
     }
 
     @PostMapping
@@ -0,0 +1,45 @@
+package com.coderscenter.backend.controller;
+
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleDiffDTO;
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleSnapshotDTO;
+import com.coderscenter.backend.dtos.schedule.ResponseSnapshotRollbackDTO;
+import com.coderscenter.backend.enums.SnapshotSource;
+import com.coderscenter.backend.services.ScheduleSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/schedule/{scheduleId}/snapshots")
+@RequiredArgsConstructor
+public class ScheduleSnapshotController {
+
+    private final ScheduleSnapshotService scheduleSnapshotService;
+
+    @GetMapping
+    public ResponseEntity<List<ResponseScheduleSnapshotDTO>> getAll(@PathVariable Long scheduleId) {
+        return new ResponseEntity<>(scheduleSnapshotService.getSnapshots(scheduleId), HttpStatus.OK);
+    }
+
+    @PostMapping
+    public ResponseEntity<ResponseScheduleSnapshotDTO> postNew(@PathVariable Long scheduleId) {
+        return new ResponseEntity<>(scheduleSnapshotService.createSnapshot(scheduleId, SnapshotSource.MANUAL, null), HttpStatus.CREATED);
+    }
+
+    /**
+     * Changes from {@code base} (default: the live schedule) to the snapshot {@code version}.
+     */
+    @GetMapping("/{version}/diff")
+    public ResponseEntity<ResponseScheduleDiffDTO> diff(@PathVariable Long scheduleId, @PathVariable Integer version,
+                                                        @RequestParam(required = false) Integer base) {
+        return new ResponseEntity<>(scheduleSnapshotService.diff(scheduleId, version, base), HttpStatus.OK);
+    }
+
+    @PostMapping("/{version}/rollback")
+    public ResponseEntity<ResponseSnapshotRollbackDTO> rollback(@PathVariable Long scheduleId, @PathVariable Integer version) {
+        return new ResponseEntity<>(scheduleSnapshotService.rollback(scheduleId, version), HttpStatus.OK);
+    }
+}
@@ -2,9 +2,18 @@ package com.coderscenter.backend.controller;
 
 
 import com.coderscenter.backend.dtos.group.request.RequestGroupDTO;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.slot.FreeTimeWindow;
 import com.coderscenter.backend.dtos.slot.RequestSlotDTO;
+import com.coderscenter.backend.dtos.slot.RequestSlotEditDTO;
+import com.coderscenter.backend.dtos.slot.RequestSlotFilterDTO;
+import com.coderscenter.backend.dtos.slot.ResponseSlotCandidateDTO;
+import com.coderscenter.backend.dtos.slot.ResponseSlotValidationDTO;
+import com.coderscenter.backend.dtos.slot.SlotCalendarRow;
 import com.coderscenter.backend.exceptions.EmptyOptionalException;
 import com.coderscenter.backend.mapper.SlotMapper;
+import com.coderscenter.backend.services.SlotCalendarService;
+import com.coderscenter.backend.services.SlotCandidateService;
 import com.coderscenter.backend.services.SlotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,17 +21,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("api/schedule/slot")
 @RequiredArgsConstructor
 public class SlotController {
 
     private final SlotService slotService;
+    private final SlotCandidateService slotCandidateService;
+    private final SlotCalendarService slotCalendarService;
     private final SlotMapper slotMapper;
 
     @GetMapping
-    public ResponseEntity<?> getAll() {
-        return new ResponseEntity<>(slotService.getAllSlots(), HttpStatus.OK);
+    public ResponseEntity<?> getAll(RequestPageDTO pageRequest, RequestSlotFilterDTO filter) {
+        return new ResponseEntity<>(slotService.getAllSlots(pageRequest, filter), HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
@@ -30,6 +43,37 @@ public class SlotController {
         return new ResponseEntity<>(slotService.getSlotById(id),HttpStatus.OK);
     }
 
+    @GetMapping("/{id}/candidates")
+    public ResponseEntity<List<ResponseSlotCandidateDTO>> getCandidates(@PathVariable Long id,
+                                                                        @RequestParam(defaultValue = "false") boolean includeBlocked,
+                                                                        @RequestParam(required = false) Integer limit) {
+        return new ResponseEntity<>(slotCandidateService.getCandidates(id, includeBlocked, limit), HttpStatus.OK);
+    }
+
+    /**
+     * Calendar views, from and to are inclusive dd.MM.yyyy dates. Without them the current week is returned.
+     */
+    @GetMapping("/calendar/trainer/{employeeId}")
+    public ResponseEntity<List<SlotCalendarRow>> getTrainerCalendar(@PathVariable Long employeeId,
+                                                                    @RequestParam(required = false) String from,
+                                                                    @RequestParam(required = false) String to) {
+        return new ResponseEntity<>(slotCalendarService.getTrainerCalendar(employeeId, from, to), HttpStatus.OK);
+    }
+
+    @GetMapping("/calendar/group/{groupId}")
+    public ResponseEntity<List<SlotCalendarRow>> getGroupCalendar(@PathVariable Long groupId,
+                                                                  @RequestParam(required = false) String from,
+                                                                  @RequestParam(required = false) String to) {
+        return new ResponseEntity<>(slotCalendarService.getGroupCalendar(groupId, from, to), HttpStatus.OK);
+    }
+
+    @GetMapping("/calendar/group/{groupId}/free")
+    public ResponseEntity<List<FreeTimeWindow>> getGroupFreeTime(@PathVariable Long groupId,
+                                                                 @RequestParam(required = false) String from,
+                                                                 @RequestParam(required = false) String to) {
+        return new ResponseEntity<>(slotCalendarService.getGroupFreeTime(groupId, from, to), HttpStatus.OK);
+    }
+
 //    @PostMapping
 //    public ResponseEntity<?> postNew(@RequestBody RequestSlotDTO requestSlotDTO) throws UsernameNotFoundException, EmptyOptionalException {
 //        return new ResponseEntity<>(slotMapper.toResponseDTO(slotService.createNew(requestSlotDTO)), HttpStatus.CREATED);
@@ -40,6 +84,11 @@ public class SlotController {
         return new ResponseEntity<>(slotService.updateSlot(id, requestSlotDTO),HttpStatus.CREATED);
     }
 
+    @PostMapping("/validate")
+    public ResponseEntity<List<ResponseSlotValidationDTO>> validate(@RequestBody List<RequestSlotEditDTO> edits) throws UsernameNotFoundException {
+        return new ResponseEntity<>(slotService.validateSlots(edits), HttpStatus.OK);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> delete(@PathVariable Long id) throws EmptyOptionalException {
         return new ResponseEntity<>(slotService.deleteSlot(id),HttpStatus.OK);
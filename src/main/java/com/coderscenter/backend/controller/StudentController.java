@@ -1,5 +1,7 @@
 package com.coderscenter.backend.controller;
 
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.dtos.student.request.RequestStudentDTO;
 import com.coderscenter.backend.dtos.student.request.UpdateStudentDTO;
 import com.coderscenter.backend.dtos.student.response.ResponseStudentDTO;
@@ -10,8 +12,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/student")
 @RequiredArgsConstructor
@@ -19,8 +19,8 @@ public class StudentController {
     private final StudentService studentService;
 
     @GetMapping
-    public ResponseEntity<List<ResponseStudentDTO>> getAllStudents() {
-        return ResponseEntity.ok(studentService.getAllStudents());
+    public ResponseEntity<ResponsePageDTO<Object>> getAllStudents(RequestPageDTO pageRequest) {
+        return ResponseEntity.ok(studentService.getAllStudents(pageRequest));
     }
 
     @GetMapping("/{studentId}")
@@ -3,13 +3,20 @@ package com.coderscenter.backend.controller;
 import com.coderscenter.backend.dtos.optimization.OptimizationJobResponse;
 import com.coderscenter.backend.dtos.optimization.OptimizationRequest;
 import com.coderscenter.backend.dtos.optimization.OptimizationResultResponse;
+import com.coderscenter.backend.dtos.optimization.QuickPlanResponse;
+import com.coderscenter.backend.dtos.optimization.ScoreExplanationResponse;
+import com.coderscenter.backend.exceptions.InvalidDateRangeException;
+import com.coderscenter.backend.exceptions.InvalidOptimizationRequestException;
+import com.coderscenter.backend.exceptions.OptimizationConflictException;
 import com.coderscenter.backend.services.TrainingOptimizationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.Map;
 
 @RestController
@@ -22,10 +29,14 @@ public class TrainingOptimizationController {
     private final TrainingOptimizationService optimizationService;
 
     @PostMapping("/optimize/{scheduleId}")
-    public ResponseEntity<OptimizationJobResponse> startOptimization(@PathVariable Long scheduleId) {
+    public ResponseEntity<OptimizationJobResponse> startOptimization(
+            @PathVariable Long scheduleId,
+            @RequestBody(required = false) OptimizationRequest request) {
         try {
-            OptimizationJobResponse job = optimizationService.startOptimization(scheduleId);
+            OptimizationJobResponse job = optimizationService.startOptimization(scheduleId, request);
             return ResponseEntity.ok(job);
+        } catch (InvalidDateRangeException | InvalidOptimizationRequestException e) {
+            throw e;
         } catch (IllegalArgumentException e) {
             log.warn("Schedule not found: {}", scheduleId);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Schedule not found: " + scheduleId);
@@ -35,6 +46,40 @@ public class TrainingOptimizationController {
         }
     }
 
+    @PostMapping("/optimize-all")
+    public ResponseEntity<OptimizationJobResponse> startBatchOptimization(
+            @RequestBody(required = false) OptimizationRequest request) {
+        try {
+            OptimizationJobResponse job = optimizationService.startBatchOptimization(request);
+            return ResponseEntity.ok(job);
+        } catch (InvalidDateRangeException | InvalidOptimizationRequestException | OptimizationConflictException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            log.warn("Batch optimization not possible: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error starting batch optimization: {}", e.getMessage(), e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to start optimization");
+        }
+    }
+
+    @PostMapping("/quick-plan/{scheduleId}")
+    public ResponseEntity<QuickPlanResponse> createQuickPlan(
+            @PathVariable Long scheduleId,
+            @RequestBody(required = false) OptimizationRequest request) {
+        try {
+            return ResponseEntity.ok(optimizationService.createQuickPlan(scheduleId, request));
+        } catch (InvalidDateRangeException | InvalidOptimizationRequestException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            log.warn("Schedule not found: {}", scheduleId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Schedule not found: " + scheduleId);
+        } catch (Exception e) {
+            log.error("Error creating quick plan for schedule {}: {}", scheduleId, e.getMessage(), e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to create quick plan");
+        }
+    }
+
     @GetMapping("/status/{jobId}")
     public ResponseEntity<OptimizationJobResponse> getOptimizationStatus(@PathVariable String jobId) {
         try {
@@ -49,6 +94,32 @@ public class TrainingOptimizationController {
         }
     }
 
+    @GetMapping(value = "/stream/{jobId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOptimization(@PathVariable String jobId) {
+        try {
+            return optimizationService.streamOptimization(jobId);
+        } catch (IllegalArgumentException e) {
+            log.warn("Job not found: {}", jobId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Optimization job not found: " + jobId);
+        }
+    }
+
+    @GetMapping("/explain/{jobId}")
+    public ResponseEntity<ScoreExplanationResponse> getScoreExplanation(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(optimizationService.getScoreExplanation(jobId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Job not found: {}", jobId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Optimization job not found: " + jobId);
+        } catch (IllegalStateException e) {
+            log.warn("No score explanation for job {}: {}", jobId, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error explaining score of job {}: {}", jobId, e.getMessage(), e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to explain optimization score");
+        }
+    }
+
     @PostMapping("/stop/{jobId}")
     public ResponseEntity<OptimizationJobResponse> stopOptimization(@PathVariable String jobId) {
         try {
@@ -70,6 +141,8 @@ public class TrainingOptimizationController {
         try {
             OptimizationResultResponse result = optimizationService.applyOptimization(jobId, scheduleId);
             return ResponseEntity.ok(result);
+        } catch (OptimizationConflictException e) {
+            throw e;
         } catch (IllegalArgumentException e) {
             log.warn("Job or schedule not found - Job: {}, Schedule: {}", jobId, scheduleId);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
@@ -79,6 +152,22 @@ public class TrainingOptimizationController {
         }
     }
     
+    @PostMapping("/apply-all/{jobId}")
+    public ResponseEntity<OptimizationResultResponse> applyBatchOptimization(@PathVariable String jobId) {
+        try {
+            OptimizationResultResponse result = optimizationService.applyBatchOptimization(jobId);
+            return ResponseEntity.ok(result);
+        } catch (OptimizationConflictException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            log.warn("Batch job not applicable - Job: {}: {}", jobId, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error applying batch optimization for job {}: {}", jobId, e.getMessage(), e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to apply optimization");
+        }
+    }
+    
     @GetMapping("/debug/jobs")
     public ResponseEntity<Map<String, String>> getAllJobs() {
         try {
@@ -1,5 +1,7 @@
 package com.coderscenter.backend.controller;
 
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.dtos.user.request.FirstPasswordSetDTO;
 import com.coderscenter.backend.dtos.user.request.UserAdminUpdateDTO;
 import com.coderscenter.backend.dtos.user.request.UserSelfUpdateDTO;
@@ -11,8 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("api/admin/user")
 @RequiredArgsConstructor
@@ -23,13 +23,14 @@ public class UserController {
     // === Admin Endpoints ===
 
     /**
-     * Get all users.
+     * Get one page of users.
      *
-     * @return list of {@link ResponseUserDTO}
+     * @param pageRequest page, size, cursor and fields
+     * @return page of {@link ResponseUserDTO}
      */
     @GetMapping
-    public ResponseEntity<List<ResponseUserDTO>> getAll() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<ResponsePageDTO<Object>> getAll(RequestPageDTO pageRequest) {
+        return ResponseEntity.ok(userService.getAllUsers(pageRequest));
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.coderscenter.backend.controller;
 
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
 import com.coderscenter.backend.dtos.week.RequestWeekDTO;
 import com.coderscenter.backend.exceptions.EmptyOptionalException;
 import com.coderscenter.backend.mapper.WeekMapper;
@@ -19,8 +20,8 @@ public class WeekController {
     private final WeekMapper weekMapper;
 
     @GetMapping
-    public ResponseEntity<?> getAll() {
-        return new ResponseEntity<>(weekService.getAllWeeks(), HttpStatus.OK);
+    public ResponseEntity<?> getAll(RequestPageDTO pageRequest) {
+        return new ResponseEntity<>(weekService.getAllWeeks(pageRequest), HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,19 @@
+package com.coderscenter.backend.dtos.attendance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional filters of GET /api/attendance, bound from query parameters.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestAttendanceFilterDTO {
+
+    private String from; // dd.MM.yyyy, inclusive
+    private String to; // dd.MM.yyyy, inclusive
+}
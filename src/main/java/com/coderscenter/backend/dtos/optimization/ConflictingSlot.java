@@ -0,0 +1,24 @@
+package com.coderscenter.backend.dtos.optimization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConflictingSlot {
+
+    private Long slotId;
+    private Long groupId;
+    private Long subjectId;
+    private Long employeeId; // trainer assigned by the solver
+    private LocalDateTime startDate;
+    private Integer hardScore; // sum of the hard penalties this slot takes part in
+    private List<String> constraintNames; // hard constraints broken by this slot
+}
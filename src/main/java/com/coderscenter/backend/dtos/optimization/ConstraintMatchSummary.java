@@ -0,0 +1,20 @@
+package com.coderscenter.backend.dtos.optimization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConstraintMatchSummary {
+
+    private String constraintName;
+    private Boolean hard; // true if the constraint weight is a hard score
+    private String weight; // weight of the constraint for the job's optimization goal
+    private Integer matchCount;
+    private Integer hardScore; // contribution of this constraint to the total score
+    private Integer softScore;
+}
@@ -0,0 +1,22 @@
+package com.coderscenter.backend.dtos.optimization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupOptimizationResult {
+
+    private Long groupId;
+    private String groupName;
+    private Long scheduleId;
+    private String scheduleRevision; // fingerprint of this schedule when the problem was loaded
+    private Integer totalSlots;
+    private Integer assignedSlots;
+    private Integer mainTrainerSlots; // slots taught by the group's main trainer for the subject
+    private Integer conflictSlots; // slots involved in at least one hard constraint violation
+}
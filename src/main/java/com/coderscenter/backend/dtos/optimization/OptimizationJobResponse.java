@@ -1,6 +1,5 @@
 package com.coderscenter.backend.dtos.optimization;
 
-import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -17,20 +17,31 @@ import java.util.List;
 public class OptimizationJobResponse {
     
     private String jobId;
-    private String status; // "running", "completed", "failed", "cancelled"
+    private Long scheduleId; // null for jobs over all active groups
+    private List<Long> scheduleIds; // every schedule planned by this job
+    private String status; // "queued", "running", "completed", "failed", "cancelled"
+    private String optimizationGoal;
+    private Integer queuePosition; // 1-based position while queued
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
     private Integer totalLessons;
     private Integer totalTrainers;
     private Integer progress; // 0-100
+    private Long elapsedMillis; // solver time spent so far
     private Boolean feasible;
     private String score;
     private String message;
     private Integer primaryTrainerAssignments;
     private Double primaryTrainerPercentage;
     private String fullReport;
+    private String scheduleRevision; // fingerprint of the schedule's slots when the problem was loaded
+    private List<GroupOptimizationResult> groupResults; // per-group outcome of a job over all active groups
     
-    // OptaPlanner solution data (not serialized to frontend)
+    // Score explanation of a completed job, served by the explain endpoint (not serialized with the job)
     @JsonIgnore
-    private List<SlotAssignment> optimizedSlotAssignments;
+    private ScoreExplanationResponse explanation;
+    
+    // OptaPlanner solution data as slotId -> employeeId (not serialized to frontend)
+    @JsonIgnore
+    private Map<Long, Long> optimizedAssignments;
 }
@@ -0,0 +1,22 @@
+package com.coderscenter.backend.dtos.optimization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptimizationProgressEvent {
+
+    private String jobId;
+    private String status;
+    private Integer queuePosition;
+    private Integer progress; // 0-100
+    private Long elapsedMillis;
+    private String score; // best score so far
+    private Boolean feasible;
+    private String message;
+}
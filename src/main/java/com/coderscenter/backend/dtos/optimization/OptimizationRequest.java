@@ -12,6 +12,14 @@ import lombok.NoArgsConstructor;
 public class OptimizationRequest {
     
     private Long scheduleId;
-    private Integer maxRunTimeMinutes; // Default: 5 minutes
-    private String optimizationGoal; // "BALANCE_WORKLOAD", "MAXIMIZE_PRIMARY_TRAINERS", "MINIMIZE_CONFLICTS"
-}
\ No newline at end of file
+    private Integer maxRunTimeMinutes; // Default: 30 seconds, capped by optimization.solver.max-run-time-minutes
+    private Integer unimprovedSeconds; // Stop once the best score has not improved for this long
+    private Boolean stopWhenFeasible; // Stop at the first solution without hard constraint violations
+    private Boolean partitioned; // Solve calendar weeks in parallel; default: automatic for long schedules
+    private String optimizationGoal; // "BALANCED" (default), "BALANCE_WORKLOAD", "MAXIMIZE_PRIMARY_TRAINERS", "MINIMIZE_CONFLICTS"
+    
+    // Incremental re-optimization: only slots inside the window are changed, all others keep their trainer
+    private String windowStart; // dd.MM.yyyy, inclusive
+    private String windowEnd; // dd.MM.yyyy, inclusive
+    private Boolean pinPastSlots; // Default: true, slots that already started are never changed
+}
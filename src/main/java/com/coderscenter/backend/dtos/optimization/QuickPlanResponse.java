@@ -0,0 +1,30 @@
+package com.coderscenter.backend.dtos.optimization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuickPlanResponse {
+
+    private Long scheduleId;
+    private String scheduleRevision; // fingerprint of the schedule's slots the draft was computed from
+    private String optimizationGoal;
+    private String score;
+    private Boolean feasible;
+    private Boolean complete; // false if the time limit hit before every movable slot had a trainer
+    private Long elapsedMillis;
+    private Integer totalSlots;
+    private Integer movableSlots;
+    private Integer assignedSlots;
+    private Integer changedSlots; // Slots whose trainer differs from the current schedule
+    private Map<Long, Long> assignments; // slotId -> employeeId of the draft, unassigned slots are left out
+    private List<ConflictingSlot> conflictingSlots; // slots that break at least one hard constraint
+}
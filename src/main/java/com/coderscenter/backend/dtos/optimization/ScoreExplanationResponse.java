@@ -0,0 +1,21 @@
+package com.coderscenter.backend.dtos.optimization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreExplanationResponse {
+
+    private String jobId;
+    private String score;
+    private Boolean feasible;
+    private List<ConstraintMatchSummary> constraints; // one entry per constraint, hard constraints first
+    private List<ConflictingSlot> conflictingSlots; // slots that break at least one hard constraint
+}
@@ -0,0 +1,21 @@
+package com.coderscenter.backend.dtos.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Query parameters shared by all list endpoints, bound from ?page=&size=&cursor=&fields=.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestPageDTO {
+
+    private Integer page; // 0-based page for offset paging, default 0
+    private Integer size; // default paging.default-size, capped at paging.max-size
+    private String cursor; // keyset paging: empty for the first page, then nextCursor of the previous response
+    private String fields; // comma-separated top-level fields to return, default all
+}
@@ -0,0 +1,23 @@
+package com.coderscenter.backend.dtos.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponsePageDTO<T> {
+
+    private List<T> content;
+    private Integer page; // null for keyset paging
+    private Integer size;
+    private Long totalElements; // only counted for offset paging
+    private Integer totalPages; // only counted for offset paging
+    private boolean hasNext;
+    private String nextCursor; // keyset paging: pass as cursor to get the next page, null on the last page
+}
@@ -0,0 +1,21 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseScheduleDiffDTO {
+
+    private Long scheduleId;
+    private Integer baseVersion; // null = live schedule
+    private Integer targetVersion;
+    private int changedSlots;
+    private List<SlotAssignmentChangeDTO> changes; // only slots that differ, ordered by slotId
+}
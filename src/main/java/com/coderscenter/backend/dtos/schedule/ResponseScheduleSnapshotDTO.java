@@ -0,0 +1,26 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import com.coderscenter.backend.enums.SnapshotSource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseScheduleSnapshotDTO {
+
+    private Long snapshotId;
+    private Long scheduleId;
+    private Integer version;
+    private SnapshotSource source;
+    private String jobId; // optimization job the snapshot belongs to, if any
+    private String score; // solver score, only for OPTIMIZATION snapshots
+    private LocalDateTime createdAt;
+    private Integer slotCount;
+    private Integer assignedSlots;
+}
@@ -0,0 +1,19 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import com.coderscenter.backend.dtos.group.response.ResponseGroupDTO;
+import com.coderscenter.backend.dtos.subject.ResponseSubjectDTO;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Builder
+@Data
+public class ResponseScheduleViewDTO {
+
+    private Long scheduleId;
+    private ResponseGroupDTO group;
+    private List<ScheduleWeekViewDTO> weeks;
+    private List<ScheduleTrainerViewDTO> trainers; // every trainer of a slot or a course of the group, once
+    private List<ResponseSubjectDTO> subjects; // every subject of a slot or a course of the group, once
+}
@@ -0,0 +1,22 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseSnapshotRollbackDTO {
+
+    private Long scheduleId;
+    private Integer restoredVersion;
+    private Integer backupVersion; // snapshot of the schedule right before the rollback
+    private int changedSlots;
+    private int skippedSlots; // deleted since the snapshot, unassigned in it or locked
+    private List<SlotAssignmentChangeDTO> changes; // changes that were written
+}
@@ -0,0 +1,8 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import com.coderscenter.backend.enums.DayLabel;
+
+import java.time.LocalDateTime;
+
+public record ScheduleDayRow(Long dayId, Long weekId, DayLabel label, LocalDateTime dayDate) {
+}
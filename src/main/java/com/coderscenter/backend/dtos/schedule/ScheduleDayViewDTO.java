@@ -0,0 +1,17 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import com.coderscenter.backend.enums.DayLabel;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Builder
+@Data
+public class ScheduleDayViewDTO {
+
+    private Long dayId;
+    private DayLabel label;
+    private String dayDate;
+    private List<ScheduleSlotViewDTO> slots;
+}
@@ -0,0 +1,10 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * Slot with subject and trainer as plain ids.
+ */
+public record ScheduleSlotRow(Long slotId, Long dayId, String slotTopic, LocalDateTime startDate, LocalDateTime endDate,
+                              Long subjectId, Long employeeId, boolean locked) {
+}
@@ -0,0 +1,17 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class ScheduleSlotViewDTO {
+
+    private Long slotId;
+    private String slotTopic;
+    private String startDate;
+    private String endDate;
+    private Long subjectId; // key into ResponseScheduleViewDTO.subjects
+    private Long employeeId; // key into ResponseScheduleViewDTO.trainers, null if unassigned
+    private boolean locked;
+}
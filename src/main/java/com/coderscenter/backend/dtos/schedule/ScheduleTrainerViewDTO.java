@@ -0,0 +1,18 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleTrainerViewDTO {
+
+    private Long employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+}
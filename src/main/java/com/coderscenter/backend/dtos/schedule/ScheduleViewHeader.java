@@ -0,0 +1,11 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import java.time.LocalDate;
+
+/**
+ * Schedule with its group and program as one row, program columns are null if the group has none.
+ */
+public record ScheduleViewHeader(Long scheduleId, Long groupId, String groupName, LocalDate groupStartDate,
+                                 LocalDate groupEndDate, Boolean groupActive, Long programId, Integer programDuration,
+                                 String programType) {
+}
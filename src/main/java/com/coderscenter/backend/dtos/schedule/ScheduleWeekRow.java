@@ -0,0 +1,6 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import java.time.LocalDateTime;
+
+public record ScheduleWeekRow(Long weekId, String label, LocalDateTime weekStartDate) {
+}
@@ -0,0 +1,16 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Builder
+@Data
+public class ScheduleWeekViewDTO {
+
+    private Long weekId;
+    private String label;
+    private String weekStartDate;
+    private List<ScheduleDayViewDTO> days;
+}
@@ -0,0 +1,19 @@
+package com.coderscenter.backend.dtos.schedule;
+
+import com.coderscenter.backend.enums.SlotChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotAssignmentChangeDTO {
+
+    private Long slotId;
+    private SlotChangeType type;
+    private Long fromEmployeeId; // trainer in the base, null if unassigned or ADDED
+    private Long toEmployeeId; // trainer in the target, null if unassigned or REMOVED
+}
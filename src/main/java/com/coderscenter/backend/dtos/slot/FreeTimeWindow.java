@@ -0,0 +1,9 @@
+package com.coderscenter.backend.dtos.slot;
+
+import java.time.LocalDateTime;
+
+/**
+ * Zeitraum innerhalb eines Unterrichtstages, in dem der Raum einer Gruppe nicht durch einen Slot belegt ist.
+ */
+public record FreeTimeWindow(Long dayId, LocalDateTime startDate, LocalDateTime endDate, long minutes) {
+}
@@ -14,5 +14,7 @@ public class RequestSlotDTO {
     private String endDate;
     private Long subjectId;
     private Long employeeId;
+    private Boolean locked;
+    private Boolean allowConflicts; // save despite double-booking or unavailability, the conflicts are returned with the slot
 
 }
@@ -0,0 +1,22 @@
+package com.coderscenter.backend.dtos.slot;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One slot of a bulk edit, e.g. all slots of a week. Existing slots carry their id, new slots have none.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestSlotEditDTO {
+
+    private Long slotId;
+    private String startDate;
+    private String endDate;
+    private Long subjectId;
+    private Long employeeId;
+}
@@ -0,0 +1,21 @@
+package com.coderscenter.backend.dtos.slot;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional filters of GET /api/schedule/slot, bound from query parameters.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestSlotFilterDTO {
+
+    private String from; // dd.MM.yyyy, slots starting on or after this day
+    private String to; // dd.MM.yyyy, slots starting on or before this day
+    private Long employeeId;
+    private Long groupId;
+}
@@ -0,0 +1,28 @@
+package com.coderscenter.backend.dtos.slot;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseSlotCandidateDTO {
+
+    private int rank; // 1 = best substitute
+    private Long employeeId;
+    private String firstName;
+    private String lastName;
+    private boolean eligible; // qualified, available and free at the time of the slot
+    private boolean qualified;
+    private boolean available; // works on that weekday and is neither on holiday nor unavailable
+    private boolean free; // no other slot at the same time
+    private boolean mainTrainer; // main trainer of the slot's group for its subject
+    private int weeklySlots; // slots already booked in the week of the slot
+    private long weeklyMinutes;
+    private List<SlotConflictDTO> conflicts;
+}
@@ -5,6 +5,7 @@ import com.coderscenter.backend.dtos.subject.ResponseSubjectDTO;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDate;
+import java.util.List;
 
 @Builder
 @Data
@@ -17,4 +18,6 @@ public class ResponseSlotDTO {
     private Long dayId;
     private ResponseSubjectDTO subject;
     private ResponseEmployeeDTO employee;
+    private boolean locked;
+    private List<SlotConflictDTO> conflicts; // only set when a slot was saved with allowConflicts
 }
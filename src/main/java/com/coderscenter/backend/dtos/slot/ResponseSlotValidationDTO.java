@@ -0,0 +1,21 @@
+package com.coderscenter.backend.dtos.slot;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseSlotValidationDTO {
+
+    private int index; // position of the slot in the request
+    private Long slotId;
+    private Long employeeId;
+    private boolean valid;
+    private List<SlotConflictDTO> conflicts;
+}
@@ -0,0 +1,13 @@
+package com.coderscenter.backend.dtos.slot;
+
+import java.time.LocalDateTime;
+
+/**
+ * Zeitraum eines Slots und der zugewiesene Trainer, employeeId ist null bei unbesetzten Slots.
+ */
+public record SlotBooking(Long slotId, Long employeeId, LocalDateTime startDate, LocalDateTime endDate) {
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startDate.isBefore(end) && endDate.isAfter(start);
+    }
+}
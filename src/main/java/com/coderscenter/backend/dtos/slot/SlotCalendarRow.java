@@ -0,0 +1,12 @@
+package com.coderscenter.backend.dtos.slot;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kompakte Kalenderzeile eines Slots: Zeitraum, Fach, Trainer und Gruppe ohne verschachtelte DTOs.
+ * Trainer- und Fachfelder sind null bei unbesetzten Slots bzw. Slots ohne Fach.
+ */
+public record SlotCalendarRow(Long slotId, LocalDateTime startDate, LocalDateTime endDate, String slotTopic,
+                              Long subjectId, String subjectName, Long employeeId, String employeeFirstName,
+                              String employeeLastName, Long dayId, Long groupId, String groupName, boolean locked) {
+}
@@ -0,0 +1,18 @@
+package com.coderscenter.backend.dtos.slot;
+
+import com.coderscenter.backend.enums.SlotConflictType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotConflictDTO {
+
+    private SlotConflictType type;
+    private Long conflictingSlotId; // other slot of the trainer for DOUBLE_BOOKED, otherwise null
+    private String message;
+}
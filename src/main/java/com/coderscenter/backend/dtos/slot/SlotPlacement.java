@@ -0,0 +1,10 @@
+package com.coderscenter.backend.dtos.slot;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gruppe, Fach, Zeitraum und Trainer eines Slots, ohne den Slot samt Tag, Woche und Stundenplan zu laden.
+ */
+public record SlotPlacement(Long slotId, Long groupId, Long subjectId, Long employeeId,
+                            LocalDateTime startDate, LocalDateTime endDate) {
+}
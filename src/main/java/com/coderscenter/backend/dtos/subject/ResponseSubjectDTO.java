@@ -1,10 +1,14 @@
 package com.coderscenter.backend.dtos.subject;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Builder
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ResponseSubjectDTO {
 
     private Long subjectId;
@@ -0,0 +1,40 @@
+package com.coderscenter.backend.dtos.version;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Versionsstand einer Antwort für bedingte GET-Anfragen: ETag und Zeitpunkt der letzten Änderung.
+ * Die Konstruktoren mit Versionsnummern werden direkt aus JPQL-Abfragen befüllt.
+ */
+public record AggregateVersion(String eTag, LocalDateTime lastModified) {
+
+    /**
+     * A single aggregate root.
+     */
+    public AggregateVersion(Long version, LocalDateTime updatedAt) {
+        this("v" + version, updatedAt);
+    }
+
+    /**
+     * A root that embeds a second root, e.g. a schedule and its group. The embedded columns are null if there is none.
+     */
+    public AggregateVersion(Long version, LocalDateTime updatedAt, Long embeddedVersion, LocalDateTime embeddedUpdatedAt) {
+        this("v" + version + "-" + (embeddedVersion != null ? embeddedVersion : 0),
+                embeddedUpdatedAt == null || (updatedAt != null && updatedAt.isAfter(embeddedUpdatedAt)) ? updatedAt : embeddedUpdatedAt);
+    }
+
+    /**
+     * A whole table. Changes whenever a row is added, removed or bumped; deletions leave no timestamp, so there is none.
+     */
+    public AggregateVersion(Long count, Long maxId, Long versionSum) {
+        this("n" + count + "-" + (maxId != null ? maxId : 0) + "-" + (versionSum != null ? versionSum : 0), null);
+    }
+
+    /**
+     * @return epoch milliseconds for the Last-Modified header, -1 if unknown
+     */
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
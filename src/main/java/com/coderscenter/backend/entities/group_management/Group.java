@@ -2,17 +2,21 @@ package com.coderscenter.backend.entities.group_management;
 
 
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import com.coderscenter.backend.entities.pk.course_subject.Course_Subject_Employee_in;
 import com.coderscenter.backend.entities.profile.Employee;
 import com.coderscenter.backend.entities.profile.Student;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Table(name = "Groups")
 @Builder
 @NoArgsConstructor
@@ -48,6 +52,15 @@ public class Group {
     @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Course_Subject_Employee_in> courses = new ArrayList<>();
 
+    // Erhöht mit jedem Commit, der das Aggregat ändert; Grundlage für ETag und Last-Modified
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long version = 0;
+
+    @Column(updatable = false)
+    private LocalDateTime updatedAt;
+
     public void addAssignment(Employee employee, Subject subject) {
         Course_Subject_Employee_in assignment = new Course_Subject_Employee_in(this, subject, employee);
         courses.add(assignment);
@@ -1,5 +1,6 @@
 package com.coderscenter.backend.entities.group_management;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Table(name = "Program")
 @Builder
 @NoArgsConstructor
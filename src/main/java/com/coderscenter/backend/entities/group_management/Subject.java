@@ -1,5 +1,6 @@
 package com.coderscenter.backend.entities.group_management;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import com.coderscenter.backend.entities.pk.course_subject.Course_Subject_Employee_in;
 import jakarta.persistence.*;
 import lombok.*;
@@ -8,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Table(name = "Subject")
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,59 @@
+package com.coderscenter.backend.entities.notification;
+
+import com.coderscenter.backend.enums.NotificationChangeType;
+import com.coderscenter.backend.enums.NotificationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox-Eintrag für eine Einsatzänderung eines Trainers.
+ * Wird in derselben Transaktion wie die Änderung geschrieben und später gesammelt pro Trainer als eine E-Mail versendet.
+ */
+@Entity
+@Table(name = "trainer_notification", indexes = @Index(name = "idx_trainer_notification_due", columnList = "status, next_attempt_at"))
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TrainerNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "slot_id", nullable = false)
+    private Long slotId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private NotificationChangeType changeType;
+
+    // Zeitraum beim Schreiben, damit auch gelöschte Slots noch in der E-Mail stehen
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
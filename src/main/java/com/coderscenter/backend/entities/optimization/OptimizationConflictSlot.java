@@ -0,0 +1,31 @@
+package com.coderscenter.backend.entities.optimization;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Slot, der in der Lösung eines Optimierungsjobs mindestens einen harten Constraint verletzt.
+ */
+@Embeddable
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class OptimizationConflictSlot {
+
+    private Long slotId;
+    private Long groupId;
+    private Long subjectId;
+    private Long employeeId;
+    private LocalDateTime startDate;
+    private Integer hardScore;
+
+    // Namen der verletzten Constraints, durch Zeilenumbruch getrennt
+    @Column(length = 1000)
+    private String constraintNames;
+}
@@ -0,0 +1,24 @@
+package com.coderscenter.backend.entities.optimization;
+
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * Anzahl und Score-Beitrag der Treffer eines Constraints in der Lösung eines Optimierungsjobs.
+ */
+@Embeddable
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class OptimizationConstraintResult {
+
+    private String constraintName;
+    private Boolean hard;
+    private String weight;
+    private Integer matchCount;
+    private Integer hardScore;
+    private Integer softScore;
+}
@@ -0,0 +1,30 @@
+package com.coderscenter.backend.entities.optimization;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * Ergebnis einer gruppenübergreifenden Optimierung für eine einzelne Gruppe.
+ */
+@Embeddable
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class OptimizationGroupResult {
+
+    private Long groupId;
+    private String groupName;
+    private Long scheduleId;
+
+    @Column(length = 64)
+    private String scheduleRevision;
+
+    private Integer totalSlots;
+    private Integer assignedSlots;
+    private Integer mainTrainerSlots;
+    private Integer conflictSlots;
+}
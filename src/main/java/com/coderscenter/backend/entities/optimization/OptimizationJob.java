@@ -0,0 +1,91 @@
+package com.coderscenter.backend.entities.optimization;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistierter Zustand eines OptaPlanner-Optimierungsjobs.
+ * Die Lösung wird kompakt als Tabelle slotId -> employeeId gespeichert,
+ * damit ein Job nach einem Neustart oder auf einer anderen Instanz angewendet werden kann.
+ */
+@Entity
+@Table(name = "optimization_job")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class OptimizationJob {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    // Null bei gruppenübergreifenden Jobs, die geplanten Schedules stehen dann in scheduleIds
+    private Long scheduleId;
+
+    @ElementCollection
+    @CollectionTable(name = "optimization_job_schedule", joinColumns = @JoinColumn(name = "job_id"))
+    @Column(name = "schedule_id")
+    @Builder.Default
+    private List<Long> scheduleIds = new ArrayList<>();
+
+    // Fingerprint der Slots beim Laden des Problems, schützt apply vor veralteten Lösungen
+    @Column(length = 64)
+    private String scheduleRevision;
+
+    @Column(nullable = false)
+    private String status;
+
+    private String optimizationGoal;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    private Integer totalLessons;
+    private Integer totalTrainers;
+    private Integer progress;
+    private Long elapsedMillis;
+    private Boolean feasible;
+    private String score;
+
+    @Column(length = 1000)
+    private String message;
+
+    private Integer primaryTrainerAssignments;
+    private Double primaryTrainerPercentage;
+
+    @Column(length = 4000)
+    private String fullReport;
+
+    @ElementCollection
+    @CollectionTable(name = "optimization_job_group_result", joinColumns = @JoinColumn(name = "job_id"))
+    @Builder.Default
+    private List<OptimizationGroupResult> groupResults = new ArrayList<>();
+
+    // Score-Erklärung der Lösung, einmal beim Abschluss berechnet
+    @ElementCollection
+    @CollectionTable(name = "optimization_job_constraint", joinColumns = @JoinColumn(name = "job_id"))
+    @Builder.Default
+    private List<OptimizationConstraintResult> constraintResults = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "optimization_job_conflict", joinColumns = @JoinColumn(name = "job_id"))
+    @Builder.Default
+    private List<OptimizationConflictSlot> conflictSlots = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "optimization_job_solution", joinColumns = @JoinColumn(name = "job_id"))
+    @MapKeyColumn(name = "slot_id")
+    @Column(name = "employee_id")
+    @Builder.Default
+    private Map<Long, Long> solution = new HashMap<>();
+}
@@ -1,5 +1,7 @@
 package com.coderscenter.backend.entities.pk.course_subject;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
+import com.coderscenter.backend.components.TrainerAvailabilityListener;
 import com.coderscenter.backend.entities.group_management.Group;
 import com.coderscenter.backend.entities.group_management.Subject;
 import com.coderscenter.backend.entities.profile.Employee;
@@ -8,6 +10,7 @@ import lombok.Data;
 
 @Entity
 @Data
+@EntityListeners({TrainerAvailabilityListener.class, AggregateVersionListener.class})
 public class Course_Subject_Employee_in {
 
 
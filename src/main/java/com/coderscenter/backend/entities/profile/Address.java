@@ -1,9 +1,11 @@
 package com.coderscenter.backend.entities.profile;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Table(name = "addresses")
 @Builder
 @NoArgsConstructor
@@ -1,9 +1,13 @@
 package com.coderscenter.backend.entities.profile;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
+import com.coderscenter.backend.components.TrainerAvailabilityListener;
 import com.coderscenter.backend.entities.group_management.Subject;
 import com.coderscenter.backend.entities.pk.course_subject.Course_Subject_Employee_in;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import com.coderscenter.backend.enums.DayLabel;
@@ -21,6 +25,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Getter
 @Setter
+@EntityListeners({TrainerAvailabilityListener.class, AggregateVersionListener.class})
 public class Employee {
 
     @Id
@@ -59,6 +64,7 @@ public class Employee {
     private User user;
 
     @OneToMany(mappedBy = "employee")
+    @Fetch(FetchMode.SUBSELECT)
     private List<Course_Subject_Employee_in> courses = new ArrayList<>();
 
     @ManyToMany
@@ -72,6 +78,7 @@ public class Employee {
 
     // Wochentage an denen der Trainer arbeitet (z.B: MONTAG, DIENSTAG, FREITAG)
     @ElementCollection(targetClass = DayLabel.class)
+    @Fetch(FetchMode.SUBSELECT)
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "employee_workdays", joinColumns = @JoinColumn(name = "employee_id"))
     @Column(name = "work_day")
@@ -79,12 +86,14 @@ public class Employee {
 
     // Geplante Urlaubstage
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "employee_holidays", joinColumns = @JoinColumn(name = "employee_id"))
     @Column(name = "holiday_date")
     private Set<LocalDate> holidays = new HashSet<>();
 
     // Spezifische Tage an denen nicht verfügbar (Krankheit, persönliche Angelegenheiten, etc.)
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "employee_unavailable_dates", joinColumns = @JoinColumn(name = "employee_id"))
     @Column(name = "unavailable_date")
     private Set<LocalDate> unavailableDates = new HashSet<>();
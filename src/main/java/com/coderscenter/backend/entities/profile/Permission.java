@@ -1,5 +1,6 @@
 package com.coderscenter.backend.entities.profile;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import com.coderscenter.backend.enums.PermissionType;
 import jakarta.persistence.*;
 import lombok.*;
@@ -8,6 +9,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDate;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Table(name = "permissions")
 @Builder
 @NoArgsConstructor
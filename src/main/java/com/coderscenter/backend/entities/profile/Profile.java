@@ -1,12 +1,16 @@
 package com.coderscenter.backend.entities.profile;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Table(name = "profiles")
 @Builder
 @NoArgsConstructor
@@ -32,4 +36,13 @@ public class Profile {
     @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "profile_image_id", unique = true)
     private ProfileImage profileImage;
+
+    // Erhöht mit jedem Commit, der das Aggregat ändert; Grundlage für ETag und Last-Modified
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long version = 0;
+
+    @Column(updatable = false)
+    private LocalDateTime updatedAt;
 }
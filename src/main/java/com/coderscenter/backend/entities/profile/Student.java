@@ -1,5 +1,6 @@
 package com.coderscenter.backend.entities.profile;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import com.coderscenter.backend.entities.group_management.Group;
 import com.coderscenter.backend.entities.management.Attendance;
 import com.coderscenter.backend.entities.management.ContactBook;
@@ -12,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Table(name = "student")
 @Builder
 @NoArgsConstructor
@@ -1,17 +1,22 @@
 package com.coderscenter.backend.entities.schedule_management;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import com.coderscenter.backend.enums.DayLabel;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Builder
 @Table(name = "Days")
 @NoArgsConstructor
@@ -35,5 +40,9 @@ public class Day {
     private Week week;
 
     @OneToMany(mappedBy = "day", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private List<Slot> slots;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
 }
@@ -1,12 +1,16 @@
 package com.coderscenter.backend.entities.schedule_management;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import com.coderscenter.backend.entities.group_management.Group;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Builder
 @Table(name = "Schedule")
 @NoArgsConstructor
@@ -25,4 +29,13 @@ public class Schedule {
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Week> weeks;
 
+    // Erhöht mit jedem Commit, der das Aggregat ändert; Grundlage für ETag und Last-Modified
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long version = 0;
+
+    @Column(updatable = false)
+    private LocalDateTime updatedAt;
+
 }
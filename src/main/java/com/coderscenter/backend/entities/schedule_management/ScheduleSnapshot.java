@@ -0,0 +1,57 @@
+package com.coderscenter.backend.entities.schedule_management;
+
+import com.coderscenter.backend.enums.SnapshotSource;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versionierter Stand der Trainerzuweisungen eines Stundenplans.
+ * Die Zuordnung slotId -> employeeId liegt gepackt in {@code assignments} (siehe ScheduleSnapshotMapper),
+ * damit ein Stand nur wenige Kilobyte groß ist und ohne eine Zeile pro Slot gespeichert werden kann.
+ */
+@Entity
+@Table(name = "schedule_snapshot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"schedule_id", "version"}))
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ScheduleSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    @Column(name = "schedule_id", nullable = false)
+    private Long scheduleId;
+
+    // Fortlaufend je Stundenplan, beginnend bei 1
+    @Column(nullable = false)
+    private Integer version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SnapshotSource source;
+
+    // Optimierungsjob, aus dem der Stand stammt oder vor dessen Anwendung er gesichert wurde
+    @Column(length = 36)
+    private String jobId;
+
+    private String score;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private Integer slotCount;
+
+    @Column(nullable = false)
+    private Integer assignedSlots;
+
+    @Column(nullable = false, length = 16_777_216)
+    private byte[] assignments;
+}
@@ -1,5 +1,7 @@
 package com.coderscenter.backend.entities.schedule_management;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
+import com.coderscenter.backend.components.SlotBookingListener;
 import com.coderscenter.backend.entities.group_management.Subject;
 import com.coderscenter.backend.entities.profile.Employee;
 import jakarta.persistence.*;
@@ -7,13 +9,20 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners({SlotBookingListener.class, AggregateVersionListener.class})
 @Builder
-@Table(name = "Slot")
+// Calendar queries: a trainer's slots in a date range, and the slots of a group's days in time order
+@Table(name = "Slot", indexes = {
+        @Index(name = "idx_slot_employee_start", columnList = "employee_id, start_date"),
+        @Index(name = "idx_slot_day_start", columnList = "day_id, start_date")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -47,4 +56,13 @@ public class Slot {
     @JoinColumn(name="employee_id")
     private Employee employee;
 
+    // Gesperrte Slots werden von der Optimierung nie verändert
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    @Builder.Default
+    private boolean locked = false;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
 }
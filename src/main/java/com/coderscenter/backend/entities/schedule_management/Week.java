@@ -1,13 +1,18 @@
 package com.coderscenter.backend.entities.schedule_management;
 
+import com.coderscenter.backend.components.AggregateVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@EntityListeners(AggregateVersionListener.class)
 @Builder
 @Table(name = "Week")
 @NoArgsConstructor
@@ -31,7 +36,11 @@ public class Week {
     private Schedule schedule;
 
     @OneToMany(mappedBy = "week", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Fetch(FetchMode.SUBSELECT)
     private List<Day> days;
 
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
 
 }
@@ -0,0 +1,17 @@
+package com.coderscenter.backend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum NotificationChangeType {
+
+    ASSIGNED("Neu eingeteilt"),
+    UPDATED("Geändert"),
+    REMOVED("Nicht mehr eingeteilt");
+
+    private final String label;
+
+    NotificationChangeType(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,17 @@
+package com.coderscenter.backend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum NotificationStatus {
+
+    PENDING("Ausstehend"),
+    SENT("Versendet"),
+    FAILED("Endgültig fehlgeschlagen");
+
+    private final String label;
+
+    NotificationStatus(String label) {
+        this.label = label;
+    }
+}
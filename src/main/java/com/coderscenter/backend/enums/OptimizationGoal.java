@@ -0,0 +1,18 @@
+package com.coderscenter.backend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OptimizationGoal {
+
+    BALANCED("Ausgewogen"),
+    BALANCE_WORKLOAD("Arbeitsbelastung ausgleichen"),
+    MAXIMIZE_PRIMARY_TRAINERS("Haupttrainer bevorzugen"),
+    MINIMIZE_CONFLICTS("Konflikte minimieren");
+
+    private final String label;
+
+    OptimizationGoal(String label) {
+        this.label = label;
+    }
+}
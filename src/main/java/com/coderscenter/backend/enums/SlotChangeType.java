@@ -0,0 +1,17 @@
+package com.coderscenter.backend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SlotChangeType {
+
+    CHANGED("Trainer geändert"),
+    ADDED("Slot nur im Zielstand"),
+    REMOVED("Slot nur im Ausgangsstand");
+
+    private final String label;
+
+    SlotChangeType(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,17 @@
+package com.coderscenter.backend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SlotConflictType {
+
+    DOUBLE_BOOKED("Trainer ist zur selben Zeit bereits eingeplant"),
+    UNAVAILABLE("Trainer ist an diesem Tag nicht verfügbar"),
+    NOT_QUALIFIED("Trainer unterrichtet dieses Fach nicht");
+
+    private final String label;
+
+    SlotConflictType(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,18 @@
+package com.coderscenter.backend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SnapshotSource {
+
+    OPTIMIZATION("Ergebnis einer Optimierung"),
+    BEFORE_APPLY("Stand vor dem Anwenden einer Optimierung"),
+    BEFORE_ROLLBACK("Stand vor einer Wiederherstellung"),
+    MANUAL("Manuell gesichert");
+
+    private final String label;
+
+    SnapshotSource(String label) {
+        this.label = label;
+    }
+}
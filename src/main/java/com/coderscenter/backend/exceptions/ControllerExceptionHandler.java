@@ -175,4 +175,41 @@ public class ControllerExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ProblemDetail handleInvalidPageRequest(InvalidPageRequestException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Ungültige Seitenabfrage");
+        problemDetail.setDetail(e.getMessage());
+        problemDetail.setType(URI.create("urn:problem-type:invalid-page-request"));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(InvalidOptimizationRequestException.class)
+    public ProblemDetail handleInvalidOptimizationRequest(InvalidOptimizationRequestException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Ungültige Optimierungsanfrage");
+        problemDetail.setDetail(e.getMessage());
+        problemDetail.setType(URI.create("urn:problem-type:invalid-optimization-request"));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(OptimizationConflictException.class)
+    public ProblemDetail handleOptimizationConflict(OptimizationConflictException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problemDetail.setTitle("Optimierung veraltet");
+        problemDetail.setDetail(e.getMessage());
+        problemDetail.setType(URI.create("urn:problem-type:optimization-conflict"));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(SlotConflictException.class)
+    public ProblemDetail handleSlotConflict(SlotConflictException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problemDetail.setTitle("Trainer nicht verfügbar");
+        problemDetail.setDetail(e.getMessage());
+        problemDetail.setType(URI.create("urn:problem-type:slot-conflict"));
+        problemDetail.setProperty("conflicts", e.getConflicts());
+        return problemDetail;
+    }
+
 }
@@ -0,0 +1,7 @@
+package com.coderscenter.backend.exceptions;
+
+public class InvalidOptimizationRequestException extends RuntimeException {
+    public InvalidOptimizationRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.coderscenter.backend.exceptions;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.coderscenter.backend.exceptions;
+
+public class OptimizationConflictException extends RuntimeException {
+    public OptimizationConflictException(String message) {
+        super(message);
+    }
+}
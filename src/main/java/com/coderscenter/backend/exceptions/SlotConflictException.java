@@ -0,0 +1,17 @@
+package com.coderscenter.backend.exceptions;
+
+import com.coderscenter.backend.dtos.slot.SlotConflictDTO;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SlotConflictException extends RuntimeException {
+
+    private final List<SlotConflictDTO> conflicts;
+
+    public SlotConflictException(String message, List<SlotConflictDTO> conflicts) {
+        super(message);
+        this.conflicts = conflicts;
+    }
+}
@@ -1,5 +1,6 @@
 package com.coderscenter.backend.mapper;
 
+import com.coderscenter.backend.config.CacheConfig;
 import com.coderscenter.backend.dtos.employee.request.RequestEmployeeDTO;
 import com.coderscenter.backend.dtos.employee.response.ResponseEmployeeDTO;
 import com.coderscenter.backend.entities.group_management.Subject;
@@ -7,6 +8,7 @@ import com.coderscenter.backend.entities.profile.Address;
 import com.coderscenter.backend.entities.profile.Employee;
 import com.coderscenter.backend.entities.profile.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -42,12 +44,26 @@ public class EmployeeMapper {
                 .address(addressMapper.toResponseDTO(employee.getAddress()))
                 .user(employee.getUser() != null ? userMapper.toResponseDTO(employee.getUser()) : null)
                 .subjects(subjects)
-                .workDays(employee.getWorkDays())
-                .holidays(employee.getHolidays())
-                .unavailableDates(employee.getUnavailableDates())
+                // Copies, the entity holds lazy Hibernate collections and the DTO may be cached beyond the session
+                .workDays(copy(employee.getWorkDays()))
+                .holidays(copy(employee.getHolidays()))
+                .unavailableDates(copy(employee.getUnavailableDates()))
                 .build();
     }
 
+    /**
+     * Same as {@link #toResponseDTO(Employee)}, cached per employee for views that list trainers, e.g. slots and groups.
+     * A hit only reads the id, so a lazy employee is not loaded. EmployeeService evicts the entry on every change.
+     */
+    @Cacheable(cacheNames = CacheConfig.TRAINER_SUMMARIES, key = "#employee.id", condition = "#employee != null")
+    public ResponseEmployeeDTO toCachedResponseDTO(Employee employee) {
+        return toResponseDTO(employee);
+    }
+
+    private <T> Set<T> copy(Set<T> values) {
+        return values != null ? new HashSet<>(values) : new HashSet<>();
+    }
+
     // === DTO to Employee ===
     public Employee toEmployee(RequestEmployeeDTO dto, Address address, User user, List<Subject> subjects) {
         if (dto == null) return null;
@@ -47,7 +47,7 @@ public class GroupMapper {
         List<ResponseEmployeeDTO> employees = group.getCourses().stream()
                 .map(Course_Subject_Employee_in::getEmployee)
                 .distinct()
-                .map(employeeMapper::toResponseDTO)
+                .map(employeeMapper::toCachedResponseDTO)
                 .toList();
 
         List<ResponseSubjectDTO> subjects = group.getCourses().stream()
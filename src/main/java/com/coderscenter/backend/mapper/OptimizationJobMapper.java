@@ -0,0 +1,187 @@
+package com.coderscenter.backend.mapper;
+
+import com.coderscenter.backend.dtos.optimization.ConflictingSlot;
+import com.coderscenter.backend.dtos.optimization.ConstraintMatchSummary;
+import com.coderscenter.backend.dtos.optimization.GroupOptimizationResult;
+import com.coderscenter.backend.dtos.optimization.OptimizationJobResponse;
+import com.coderscenter.backend.dtos.optimization.OptimizationProgressEvent;
+import com.coderscenter.backend.dtos.optimization.ScoreExplanationResponse;
+import com.coderscenter.backend.entities.optimization.OptimizationConflictSlot;
+import com.coderscenter.backend.entities.optimization.OptimizationConstraintResult;
+import com.coderscenter.backend.entities.optimization.OptimizationGroupResult;
+import com.coderscenter.backend.entities.optimization.OptimizationJob;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+@Service
+public class OptimizationJobMapper {
+
+    public OptimizationJobResponse toResponseDTO(OptimizationJob job, boolean withSolution) {
+        return OptimizationJobResponse.builder()
+                .jobId(job.getJobId())
+                .scheduleId(job.getScheduleId())
+                .scheduleIds(new ArrayList<>(job.getScheduleIds()))
+                .scheduleRevision(job.getScheduleRevision())
+                .status(job.getStatus())
+                .optimizationGoal(job.getOptimizationGoal())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .totalLessons(job.getTotalLessons())
+                .totalTrainers(job.getTotalTrainers())
+                .progress(job.getProgress())
+                .elapsedMillis(job.getElapsedMillis())
+                .feasible(job.getFeasible())
+                .score(job.getScore())
+                .message(job.getMessage())
+                .primaryTrainerAssignments(job.getPrimaryTrainerAssignments())
+                .primaryTrainerPercentage(job.getPrimaryTrainerPercentage())
+                .fullReport(job.getFullReport())
+                .groupResults(job.getGroupResults().isEmpty() ? null : job.getGroupResults().stream().map(this::toGroupResultDTO).toList())
+                .optimizedAssignments(withSolution ? new HashMap<>(job.getSolution()) : null)
+                .build();
+    }
+
+    /**
+     * The stored score explanation of a job, or null if none was computed (job not completed).
+     */
+    public ScoreExplanationResponse toExplanationDTO(OptimizationJob job) {
+        if (job.getConstraintResults().isEmpty()) {
+            return null;
+        }
+        return ScoreExplanationResponse.builder()
+                .jobId(job.getJobId())
+                .score(job.getScore())
+                .feasible(job.getFeasible())
+                .constraints(job.getConstraintResults().stream().map(this::toConstraintSummaryDTO).toList())
+                .conflictingSlots(job.getConflictSlots().stream().map(this::toConflictingSlotDTO).toList())
+                .build();
+    }
+
+    public OptimizationProgressEvent toProgressEvent(OptimizationJobResponse job) {
+        return OptimizationProgressEvent.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .queuePosition(job.getQueuePosition())
+                .progress(job.getProgress())
+                .elapsedMillis(job.getElapsedMillis())
+                .score(job.getScore())
+                .feasible(job.getFeasible())
+                .message(job.getMessage())
+                .build();
+    }
+
+    private GroupOptimizationResult toGroupResultDTO(OptimizationGroupResult result) {
+        return GroupOptimizationResult.builder()
+                .groupId(result.getGroupId())
+                .groupName(result.getGroupName())
+                .scheduleId(result.getScheduleId())
+                .scheduleRevision(result.getScheduleRevision())
+                .totalSlots(result.getTotalSlots())
+                .assignedSlots(result.getAssignedSlots())
+                .mainTrainerSlots(result.getMainTrainerSlots())
+                .conflictSlots(result.getConflictSlots())
+                .build();
+    }
+
+    private OptimizationGroupResult toGroupResultEntity(GroupOptimizationResult result) {
+        return OptimizationGroupResult.builder()
+                .groupId(result.getGroupId())
+                .groupName(result.getGroupName())
+                .scheduleId(result.getScheduleId())
+                .scheduleRevision(result.getScheduleRevision())
+                .totalSlots(result.getTotalSlots())
+                .assignedSlots(result.getAssignedSlots())
+                .mainTrainerSlots(result.getMainTrainerSlots())
+                .conflictSlots(result.getConflictSlots())
+                .build();
+    }
+
+    private ConstraintMatchSummary toConstraintSummaryDTO(OptimizationConstraintResult result) {
+        return ConstraintMatchSummary.builder()
+                .constraintName(result.getConstraintName())
+                .hard(result.getHard())
+                .weight(result.getWeight())
+                .matchCount(result.getMatchCount())
+                .hardScore(result.getHardScore())
+                .softScore(result.getSoftScore())
+                .build();
+    }
+
+    private OptimizationConstraintResult toConstraintResultEntity(ConstraintMatchSummary summary) {
+        return OptimizationConstraintResult.builder()
+                .constraintName(summary.getConstraintName())
+                .hard(summary.getHard())
+                .weight(summary.getWeight())
+                .matchCount(summary.getMatchCount())
+                .hardScore(summary.getHardScore())
+                .softScore(summary.getSoftScore())
+                .build();
+    }
+
+    private ConflictingSlot toConflictingSlotDTO(OptimizationConflictSlot slot) {
+        return ConflictingSlot.builder()
+                .slotId(slot.getSlotId())
+                .groupId(slot.getGroupId())
+                .subjectId(slot.getSubjectId())
+                .employeeId(slot.getEmployeeId())
+                .startDate(slot.getStartDate())
+                .hardScore(slot.getHardScore())
+                .constraintNames(slot.getConstraintNames() != null ? Arrays.asList(slot.getConstraintNames().split("\n")) : List.of())
+                .build();
+    }
+
+    private OptimizationConflictSlot toConflictSlotEntity(ConflictingSlot slot) {
+        return OptimizationConflictSlot.builder()
+                .slotId(slot.getSlotId())
+                .groupId(slot.getGroupId())
+                .subjectId(slot.getSubjectId())
+                .employeeId(slot.getEmployeeId())
+                .startDate(slot.getStartDate())
+                .hardScore(slot.getHardScore())
+                .constraintNames(String.join("\n", slot.getConstraintNames()))
+                .build();
+    }
+
+    public void updateEntity(OptimizationJob job, OptimizationJobResponse dto) {
+        job.setScheduleId(dto.getScheduleId());
+        job.setScheduleRevision(dto.getScheduleRevision());
+        if (dto.getScheduleIds() != null && !dto.getScheduleIds().equals(job.getScheduleIds())) {
+            job.getScheduleIds().clear();
+            job.getScheduleIds().addAll(dto.getScheduleIds());
+        }
+        job.setStatus(dto.getStatus());
+        job.setOptimizationGoal(dto.getOptimizationGoal());
+        job.setCreatedAt(dto.getCreatedAt());
+        job.setCompletedAt(dto.getCompletedAt());
+        job.setTotalLessons(dto.getTotalLessons());
+        job.setTotalTrainers(dto.getTotalTrainers());
+        job.setProgress(dto.getProgress());
+        job.setElapsedMillis(dto.getElapsedMillis());
+        job.setFeasible(dto.getFeasible());
+        job.setScore(dto.getScore());
+        job.setMessage(dto.getMessage());
+        job.setPrimaryTrainerAssignments(dto.getPrimaryTrainerAssignments());
+        job.setPrimaryTrainerPercentage(dto.getPrimaryTrainerPercentage());
+        job.setFullReport(dto.getFullReport());
+        if (dto.getGroupResults() != null) {
+            List<OptimizationGroupResult> groupResults = dto.getGroupResults().stream().map(this::toGroupResultEntity).toList();
+            if (!groupResults.equals(job.getGroupResults())) {
+                job.getGroupResults().clear();
+                job.getGroupResults().addAll(groupResults);
+            }
+        }
+        // The explanation is written once when the job completes
+        if (dto.getExplanation() != null && job.getConstraintResults().isEmpty()) {
+            dto.getExplanation().getConstraints().forEach(summary -> job.getConstraintResults().add(toConstraintResultEntity(summary)));
+            dto.getExplanation().getConflictingSlots().forEach(slot -> job.getConflictSlots().add(toConflictSlotEntity(slot)));
+        }
+        if (dto.getOptimizedAssignments() != null && !dto.getOptimizedAssignments().equals(job.getSolution())) {
+            job.getSolution().clear();
+            job.getSolution().putAll(dto.getOptimizedAssignments());
+        }
+    }
+}
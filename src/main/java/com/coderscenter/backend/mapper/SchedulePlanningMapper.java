@@ -0,0 +1,192 @@
+package com.coderscenter.backend.mapper;
+
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import com.coderscenter.backend.optaplanner.domain.PlanningModel;
+import com.coderscenter.backend.optaplanner.domain.PlanningScope;
+import com.coderscenter.backend.optaplanner.domain.PlanningSlot;
+import com.coderscenter.backend.optaplanner.domain.PlanningTrainer;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Übersetzt zwischen dem Schedule/Slot-Graph und den Planungs-Records des Solvers.
+ * Nach {@link #toSolution} hält der Solver keine Referenz mehr auf JPA-Entities.
+ */
+@Service
+@Slf4j
+public class SchedulePlanningMapper {
+
+    /**
+     * Build the planning problem. Must be called while the employee collections are initialized.
+     * @param schedule schedule with weeks, days and slots loaded
+     * @param employees employees that may be assigned
+     * @param scope which slots the solver may change, all others are pinned
+     * @return the unsolved planning solution with the current assignments as starting point
+     */
+    public ScheduleSolution toSolution(Schedule schedule, List<Employee> employees, PlanningScope scope) {
+        return toSolution(List.of(schedule), employees, scope);
+    }
+
+    /**
+     * Build one planning problem over several schedules that share the same trainers,
+     * so a trainer cannot be booked twice across groups.
+     * @param schedules schedules with weeks, days and slots loaded
+     * @param employees employees that may be assigned
+     * @param scope which slots the solver may change, all others are pinned
+     * @return the unsolved planning solution with the current assignments as starting point
+     */
+    public ScheduleSolution toSolution(List<Schedule> schedules, List<Employee> employees, PlanningScope scope) {
+        List<Slot> slots = schedules.stream()
+                .flatMap(schedule -> schedule.getWeeks().stream())
+                .flatMap(week -> week.getDays().stream())
+                .flatMap(day -> day.getSlots().stream())
+                .toList();
+
+        // Dense indices for subjects, groups and calendar days of this schedule
+        Map<Long, Integer> subjectIndexById = new HashMap<>();
+        Map<Long, Integer> groupIndexById = new HashMap<>();
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (Slot slot : slots) {
+            if (slot.getSubject() != null) {
+                subjectIndexById.putIfAbsent(slot.getSubject().getSubjectId(), subjectIndexById.size());
+            }
+            Long groupId = groupIdOf(slot);
+            if (groupId != null) {
+                groupIndexById.putIfAbsent(groupId, groupIndexById.size());
+            }
+            if (slot.getDay() != null) {
+                dates.add(slot.getStartDate().toLocalDate());
+            }
+        }
+        Map<LocalDate, Integer> dayIndexByDate = new HashMap<>();
+        dates.forEach(date -> dayIndexByDate.put(date, dayIndexByDate.size()));
+
+        // Trainers with their qualification, availability and main-trainer tables
+        int subjectCount = subjectIndexById.size();
+        Map<Long, PlanningTrainer> trainersById = new LinkedHashMap<>();
+        List<BitSet> qualifications = new ArrayList<>();
+        List<BitSet> availability = new ArrayList<>();
+        List<BitSet> mainTrainerCourses = new ArrayList<>();
+        List<PlanningTrainer> trainerRange = new ArrayList<>();
+
+        for (Employee employee : employees) {
+            if (trainersById.containsKey(employee.getId())) {
+                continue;
+            }
+            PlanningTrainer trainer = new PlanningTrainer(employee.getId(), trainersById.size(),
+                    employee.getFirstName() + " " + employee.getLastName());
+            trainersById.put(employee.getId(), trainer);
+
+            BitSet qualified = new BitSet(subjectCount);
+            if (employee.getSubjects() != null) {
+                employee.getSubjects().forEach(subject -> {
+                    Integer subjectIndex = subjectIndexById.get(subject.getSubjectId());
+                    if (subjectIndex != null) {
+                        qualified.set(subjectIndex);
+                    }
+                });
+            }
+            qualifications.add(qualified);
+
+            BitSet available = new BitSet(dates.size());
+            dayIndexByDate.forEach((date, dayIndex) -> {
+                if (employee.isAvailableOn(date)) {
+                    available.set(dayIndex);
+                }
+            });
+            availability.add(available);
+
+            BitSet mainTrainer = new BitSet();
+            if (employee.getCourses() != null) {
+                employee.getCourses().forEach(course -> {
+                    Integer groupIndex = course.getGroup() != null ? groupIndexById.get(course.getGroup().getGroupId()) : null;
+                    Integer subjectIndex = course.getSubject() != null ? subjectIndexById.get(course.getSubject().getSubjectId()) : null;
+                    if (groupIndex != null && subjectIndex != null) {
+                        mainTrainer.set(groupIndex * subjectCount + subjectIndex);
+                    }
+                });
+            }
+            mainTrainerCourses.add(mainTrainer);
+
+            // Only employees who can teach at least one subject are offered to the solver
+            if (employee.getSubjects() != null && !employee.getSubjects().isEmpty()) {
+                trainerRange.add(trainer);
+            }
+        }
+
+        PlanningModel planningModel = new PlanningModel(subjectCount, dates.size(),
+                PlanningModel.idealWorkload(slots.size(), trainerRange.size()),
+                qualifications.toArray(BitSet[]::new),
+                availability.toArray(BitSet[]::new),
+                mainTrainerCourses.toArray(BitSet[]::new));
+
+        List<PlanningSlot> planningSlots = new ArrayList<>(slots.size());
+        List<SlotAssignment> slotAssignments = new ArrayList<>(slots.size());
+        int pinnedCount = 0;
+        for (Slot slot : slots) {
+            // The current assignment is the starting point of the solver
+            PlanningTrainer currentTrainer = slot.getEmployee() != null ? trainersById.get(slot.getEmployee().getId()) : null;
+            boolean pinned = scope.isPinned(slot.getStartDate(), slot.isLocked());
+            if (pinned && currentTrainer == null) {
+                // Nothing to keep and nothing to score: every constraint ignores unassigned slots
+                continue;
+            }
+            pinnedCount += pinned ? 1 : 0;
+
+            Long subjectId = slot.getSubject() != null ? slot.getSubject().getSubjectId() : null;
+            Long groupId = groupIdOf(slot);
+            PlanningSlot planningSlot = new PlanningSlot(
+                    slot.getSlotId(),
+                    toEpochMinute(slot.getStartDate()),
+                    toEpochMinute(slot.getEndDate()),
+                    slot.getDay() != null ? dayIndexByDate.get(slot.getStartDate().toLocalDate()) : PlanningModel.NONE,
+                    slot.getDay() != null ? slot.getStartDate().getDayOfWeek().getValue() : PlanningModel.NONE,
+                    subjectId,
+                    subjectId != null ? subjectIndexById.get(subjectId) : PlanningModel.NONE,
+                    groupId,
+                    groupId != null ? groupIndexById.get(groupId) : PlanningModel.NONE,
+                    pinned);
+            planningSlots.add(planningSlot);
+            slotAssignments.add(new SlotAssignment(planningSlot, currentTrainer, planningModel));
+        }
+
+        log.info("Mapped schedule(s) {} to {} planning slots ({} pinned) and {} trainers ({} offered to the solver), {}",
+                schedules.stream().map(Schedule::getScheduleId).toList(), planningSlots.size(), pinnedCount, trainersById.size(), trainerRange.size(), planningModel);
+
+        return new ScheduleSolution(trainerRange, planningSlots, planningModel, slotAssignments);
+    }
+
+    /**
+     * Translate a solved solution back into slotId -> employeeId. Unassigned slots are left out.
+     */
+    public Map<Long, Long> toAssignments(ScheduleSolution solution) {
+        Map<Long, Long> assignments = new HashMap<>();
+        solution.getSlotAssignmentList().forEach(assignment -> {
+            if (assignment.getAssignedTrainer() != null) {
+                assignments.put(assignment.getId(), assignment.getAssignedTrainer().getEmployeeId());
+            }
+        });
+        return assignments;
+    }
+
+    private Long groupIdOf(Slot slot) {
+        if (slot.getDay() == null || slot.getDay().getWeek() == null || slot.getDay().getWeek().getSchedule() == null
+                || slot.getDay().getWeek().getSchedule().getGroup() == null) {
+            return null;
+        }
+        return slot.getDay().getWeek().getSchedule().getGroup().getGroupId();
+    }
+
+    private int toEpochMinute(LocalDateTime dateTime) {
+        return Math.toIntExact(dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+}
@@ -0,0 +1,89 @@
+package com.coderscenter.backend.mapper;
+
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleSnapshotDTO;
+import com.coderscenter.backend.entities.schedule_management.ScheduleSnapshot;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Packt die Zuordnung slotId -> employeeId eines Snapshots in ein Byte-Array und zurück.
+ * Format: Versionsbyte, Anzahl der Slots, dann je Slot der Abstand zur vorigen slotId und employeeId + 1
+ * (0 für unbesetzt), alles als Varint. Bei fortlaufenden Ids braucht ein Slot so etwa drei Byte.
+ */
+@Service
+public class ScheduleSnapshotMapper {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    public ResponseScheduleSnapshotDTO toResponseDTO(ScheduleSnapshot snapshot) {
+        return ResponseScheduleSnapshotDTO.builder()
+                .snapshotId(snapshot.getSnapshotId())
+                .scheduleId(snapshot.getScheduleId())
+                .version(snapshot.getVersion())
+                .source(snapshot.getSource())
+                .jobId(snapshot.getJobId())
+                .score(snapshot.getScore())
+                .createdAt(snapshot.getCreatedAt())
+                .slotCount(snapshot.getSlotCount())
+                .assignedSlots(snapshot.getAssignedSlots())
+                .build();
+    }
+
+    /**
+     * @param assignments slotId -> employeeId ordered by slotId, null values for unassigned slots
+     */
+    public byte[] encode(SortedMap<Long, Long> assignments) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 + 5 + assignments.size() * 3);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, assignments.size());
+        long previousSlotId = 0;
+        for (Map.Entry<Long, Long> entry : assignments.entrySet()) {
+            writeVarLong(out, entry.getKey() - previousSlotId);
+            writeVarLong(out, entry.getValue() != null ? entry.getValue() + 1 : 0);
+            previousSlotId = entry.getKey();
+        }
+        return out.toByteArray();
+    }
+
+    public SortedMap<Long, Long> decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        byte formatVersion = in.get();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported snapshot format " + formatVersion);
+        }
+        long size = readVarLong(in);
+        SortedMap<Long, Long> assignments = new TreeMap<>();
+        long slotId = 0;
+        for (long i = 0; i < size; i++) {
+            slotId += readVarLong(in);
+            long employeeId = readVarLong(in);
+            assignments.put(slotId, employeeId == 0 ? null : employeeId - 1);
+        }
+        return assignments;
+    }
+
+    private void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed snapshot data");
+    }
+}
@@ -0,0 +1,89 @@
+package com.coderscenter.backend.mapper;
+
+import com.coderscenter.backend.dtos.group.response.ResponseGroupDTO;
+import com.coderscenter.backend.dtos.program.ResponseProgramDTO;
+import com.coderscenter.backend.dtos.schedule.*;
+import com.coderscenter.backend.dtos.subject.ResponseSubjectDTO;
+import org.springframework.stereotype.Service;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Setzt das Lesemodell eines Stundenplans aus flachen Projektionen zusammen.
+ * Trainer und Fächer stehen einmal in eigenen Listen, Slots verweisen nur über ihre Id darauf.
+ */
+@Service
+public class ScheduleViewMapper {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    public ResponseScheduleViewDTO toResponseDTO(ScheduleViewHeader header, List<ScheduleWeekRow> weekRows,
+                                                 List<ScheduleDayRow> dayRows, List<ScheduleSlotRow> slotRows,
+                                                 List<ScheduleTrainerViewDTO> trainers, List<ResponseSubjectDTO> subjects) {
+        // Rows arrive ordered by date, grouping keeps that order within each day and week
+        Map<Long, List<ScheduleSlotViewDTO>> slotsByDay = new HashMap<>();
+        for (ScheduleSlotRow row : slotRows) {
+            slotsByDay.computeIfAbsent(row.dayId(), dayId -> new ArrayList<>()).add(toSlotView(row));
+        }
+        Map<Long, List<ScheduleDayViewDTO>> daysByWeek = new HashMap<>();
+        for (ScheduleDayRow row : dayRows) {
+            daysByWeek.computeIfAbsent(row.weekId(), weekId -> new ArrayList<>()).add(ScheduleDayViewDTO.builder()
+                    .dayId(row.dayId())
+                    .label(row.label())
+                    .dayDate(row.dayDate().format(DATE_TIME_FORMATTER))
+                    .slots(slotsByDay.getOrDefault(row.dayId(), List.of()))
+                    .build());
+        }
+        List<ScheduleWeekViewDTO> weeks = weekRows.stream()
+                .map(row -> ScheduleWeekViewDTO.builder()
+                        .weekId(row.weekId())
+                        .label(row.label())
+                        .weekStartDate(row.weekStartDate().format(DATE_TIME_FORMATTER))
+                        .days(daysByWeek.getOrDefault(row.weekId(), List.of()))
+                        .build())
+                .toList();
+
+        return ResponseScheduleViewDTO.builder()
+                .scheduleId(header.scheduleId())
+                .group(toGroup(header))
+                .weeks(weeks)
+                .trainers(trainers)
+                .subjects(subjects)
+                .build();
+    }
+
+    private ScheduleSlotViewDTO toSlotView(ScheduleSlotRow row) {
+        return ScheduleSlotViewDTO.builder()
+                .slotId(row.slotId())
+                .slotTopic(row.slotTopic())
+                .startDate(row.startDate().format(DATE_TIME_FORMATTER))
+                .endDate(row.endDate().format(DATE_TIME_FORMATTER))
+                .subjectId(row.subjectId())
+                .employeeId(row.employeeId())
+                .locked(row.locked())
+                .build();
+    }
+
+    private ResponseGroupDTO toGroup(ScheduleViewHeader header) {
+        if (header.groupId() == null) {
+            return null;
+        }
+        return ResponseGroupDTO.builder()
+                .groupId(header.groupId())
+                .name(header.groupName())
+                .startDate(header.groupStartDate() != null ? header.groupStartDate().format(DATE_FORMATTER) : null)
+                .endDate(header.groupEndDate() != null ? header.groupEndDate().format(DATE_FORMATTER) : null)
+                .isActive(Boolean.TRUE.equals(header.groupActive()))
+                .program(header.programId() != null ? ResponseProgramDTO.builder()
+                        .programId(header.programId())
+                        .duration(header.programDuration())
+                        .type(header.programType())
+                        .build() : null)
+                .build();
+    }
+}
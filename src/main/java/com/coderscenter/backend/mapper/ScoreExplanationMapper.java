@@ -0,0 +1,85 @@
+package com.coderscenter.backend.mapper;
+
+import com.coderscenter.backend.dtos.optimization.ConflictingSlot;
+import com.coderscenter.backend.dtos.optimization.ConstraintMatchSummary;
+import com.coderscenter.backend.dtos.optimization.ScoreExplanationResponse;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import org.optaplanner.core.api.score.ScoreExplanation;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Übersetzt die Score-Erklärung von OptaPlanner in Constraint-Zusammenfassungen und Konflikt-Slots,
+ * damit ein Planer die harten Verstöße gezielt beheben kann.
+ */
+@Service
+public class ScoreExplanationMapper {
+
+    public ScoreExplanationResponse toResponseDTO(String jobId, ScoreExplanation<ScheduleSolution, HardSoftScore> explanation) {
+        HardSoftScore score = explanation.getScore();
+        return ScoreExplanationResponse.builder()
+                .jobId(jobId)
+                .score(score.toString())
+                .feasible(score.isFeasible())
+                .constraints(toConstraintMatchSummaries(explanation))
+                .conflictingSlots(explanation.getIndictmentMap().values().stream()
+                        .filter(indictment -> indictment.getIndictedObject() instanceof SlotAssignment)
+                        .filter(indictment -> indictment.getScore().hardScore() < 0)
+                        .map(this::toConflictingSlot)
+                        .sorted(Comparator.comparing(ConflictingSlot::getStartDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                                .thenComparing(ConflictingSlot::getSlotId))
+                        .toList())
+                .build();
+    }
+
+    private List<ConstraintMatchSummary> toConstraintMatchSummaries(ScoreExplanation<ScheduleSolution, HardSoftScore> explanation) {
+        // OptaPlanner only reports constraints with matches, the configuration also lists those that were never broken
+        Map<String, ConstraintMatchTotal<HardSoftScore>> totalsByName = new HashMap<>();
+        explanation.getConstraintMatchTotalMap().values().forEach(total -> totalsByName.put(total.getConstraintName(), total));
+        Map<String, HardSoftScore> weightsByName = new LinkedHashMap<>(
+                explanation.getSolution().getConstraintConfiguration().getWeightsByConstraintName());
+        totalsByName.forEach((name, total) -> weightsByName.putIfAbsent(name, total.getConstraintWeight()));
+
+        List<ConstraintMatchSummary> summaries = new ArrayList<>(weightsByName.size());
+        weightsByName.forEach((name, weight) -> {
+            ConstraintMatchTotal<HardSoftScore> total = totalsByName.get(name);
+            HardSoftScore score = total != null ? total.getScore() : HardSoftScore.ZERO;
+            summaries.add(ConstraintMatchSummary.builder()
+                    .constraintName(name)
+                    .hard(weight != null && weight.hardScore() != 0)
+                    .weight(weight != null ? weight.toString() : null)
+                    .matchCount(total != null ? total.getConstraintMatchCount() : 0)
+                    .hardScore(score.hardScore())
+                    .softScore(score.softScore())
+                    .build());
+        });
+        return summaries;
+    }
+
+    private ConflictingSlot toConflictingSlot(Indictment<HardSoftScore> indictment) {
+        SlotAssignment assignment = (SlotAssignment) indictment.getIndictedObject();
+        List<String> constraintNames = indictment.getConstraintMatchSet().stream()
+                .filter(match -> match.getScore().hardScore() < 0)
+                .map(ConstraintMatch::getConstraintName)
+                .distinct()
+                .sorted()
+                .toList();
+        return ConflictingSlot.builder()
+                .slotId(assignment.getId())
+                .groupId(assignment.getSlot().getGroupId())
+                .subjectId(assignment.getSlot().getSubjectId())
+                .employeeId(assignment.getAssignedTrainer() != null ? assignment.getAssignedTrainer().getEmployeeId() : null)
+                .startDate(LocalDateTime.ofEpochSecond(assignment.getStartMinute() * 60L, 0, ZoneOffset.UTC))
+                .hardScore(indictment.getScore().hardScore())
+                .constraintNames(constraintNames)
+                .build();
+    }
+}
@@ -25,7 +25,8 @@ public class SlotMapper {
                 .endDate(slot.getEndDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm")))
                 .dayId(slot.getDay().getDayId())
                 .subject(subjectMapper.toResponseDTO(slot.getSubject()))
-                .employee(employeeMapper.toResponseDTO(slot.getEmployee()))
+                .employee(employeeMapper.toCachedResponseDTO(slot.getEmployee()))
+                .locked(slot.isLocked())
                 .build();
     }
 
@@ -1,21 +1,25 @@
 package com.coderscenter.backend.optaplanner.constraints;
 
+import com.coderscenter.backend.optaplanner.domain.PlanningModel;
 import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
-import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintCollectors;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.score.stream.Joiners;
 
+import static com.coderscenter.backend.optaplanner.domain.ScheduleConstraintConfiguration.*;
+
 /**
  * OptaPlanner Constraint Provider für Schedule Optimization
  * Bereinigt und verbessert: Gleichverteilung der Trainer pro Fach und Tag
+ * Alle Constraints lesen nur Planungs-Records und vorberechnete Indizes aus dem PlanningModel, keine Hibernate-Entities.
+ * Die Gewichte kommen je Optimierungsziel aus der ScheduleConstraintConfiguration.
+ * Ein Problem kann mehrere Gruppen enthalten: Doppelbuchungen werden dann gruppenübergreifend geprüft,
+ * die Verteilungs-Constraints gelten weiterhin pro Gruppe und Fach.
  */
 public class ScheduleConstraintProvider implements ConstraintProvider {
 
-    private static final int IDEAL_WORKLOAD_PER_TRAINER = 4; // Beispielwert, dynamisch berechnbar
-
     @Override
     public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
         return new Constraint[]{
@@ -37,62 +41,64 @@ public class ScheduleConstraintProvider implements ConstraintProvider {
     Constraint employeeMustTeachSubject(ConstraintFactory constraintFactory) {
         return constraintFactory
                 .forEach(SlotAssignment.class)
-                .filter(a -> a.getAssignedEmployee() != null)
-                .filter(a -> !a.canEmployeeTeachSubject())
-                .penalize(HardSoftScore.ONE_HARD)
-                .asConstraint("Employee must teach subject");
+                .filter(a -> a.getAssignedTrainer() != null)
+                .filter(a -> !a.canTrainerTeachSubject())
+                .penalizeConfigurable()
+                .asConstraint(EMPLOYEE_MUST_TEACH_SUBJECT);
     }
 
     Constraint employeeMustBeAvailableOnDay(ConstraintFactory constraintFactory) {
         return constraintFactory
                 .forEach(SlotAssignment.class)
-                .filter(a -> a.getAssignedEmployee() != null)
-                .filter(a -> !a.isEmployeeAvailableOnDay())
-                .penalize(HardSoftScore.ONE_HARD)
-                .asConstraint("Employee must be available on day");
+                .filter(a -> a.getAssignedTrainer() != null)
+                .filter(a -> !a.isTrainerAvailableOnDay())
+                .penalizeConfigurable()
+                .asConstraint(EMPLOYEE_MUST_BE_AVAILABLE);
     }
 
+    /**
+     * Doppelbuchung eines Trainers, bei gruppenübergreifender Planung über alle Gruppen hinweg
+     */
     Constraint employeeCannotBeInTwoPlacesAtOnce(ConstraintFactory constraintFactory) {
         return constraintFactory
                 .forEachUniquePair(SlotAssignment.class,
-                        Joiners.equal(SlotAssignment::getAssignedEmployee),
-                        Joiners.overlapping(a -> a.getSlot().getStartDate(), a -> a.getSlot().getEndDate()))
-                .filter((a1, a2) -> a1.getAssignedEmployee() != null)
-                .penalize(HardSoftScore.ONE_HARD)
-                .asConstraint("Employee cannot be in two places at once");
+                        Joiners.equal(SlotAssignment::getTrainerIndex),
+                        Joiners.overlapping(SlotAssignment::getStartMinute, SlotAssignment::getEndMinute))
+                .filter((a1, a2) -> a1.getAssignedTrainer() != null)
+                .penalizeConfigurable()
+                .asConstraint(EMPLOYEE_NOT_IN_TWO_PLACES);
     }
 
     // ===================== Soft Constraints =====================
 
     /**
-     * Gleichmäßige Verteilung der Trainer pro Tag und Fach
+     * Gleichmäßige Verteilung der Trainer pro Tag und Fach einer Gruppe
      */
     Constraint balanceTrainerPerSubjectAndDay(ConstraintFactory constraintFactory) {
         return constraintFactory
                 .forEach(SlotAssignment.class)
-                .filter(a -> a.getAssignedEmployee() != null)
+                .filter(a -> a.getAssignedTrainer() != null)
                 .groupBy(
-                        a -> a.getAssignedEmployee(),
-                        a -> a.getSlot().getSubject(),
-                        a -> a.getSlot().getDay().getLabel(),
+                        SlotAssignment::getTrainerIndex,
+                        SlotAssignment::getCourseIndex,
+                        SlotAssignment::getWeekday,
                         ConstraintCollectors.count()
                 )
-                .penalize(HardSoftScore.ofSoft(1),
-                        (employee, subject, day, count) -> Math.abs(count - 1))
-                .asConstraint("Balance trainer per subject and day");
+                .penalizeConfigurable((employee, subject, day, count) -> Math.abs(count - 1))
+                .asConstraint(BALANCE_TRAINER_PER_SUBJECT_AND_DAY);
     }
 
     /**
-     * Gleichmäßige Verteilung der Gesamtworkload pro Trainer
+     * Gleichmäßige Verteilung der Gesamtworkload pro Trainer, Sollwert aus Slot- und Traineranzahl
      */
     Constraint balanceWorkloadDynamic(ConstraintFactory constraintFactory) {
         return constraintFactory
                 .forEach(SlotAssignment.class)
-                .filter(a -> a.getAssignedEmployee() != null)
-                .groupBy(SlotAssignment::getAssignedEmployee, ConstraintCollectors.count())
-                .penalize(HardSoftScore.ofSoft(1),
-                        (employee, count) -> Math.abs(count - IDEAL_WORKLOAD_PER_TRAINER))
-                .asConstraint("Balance workload dynamically");
+                .filter(a -> a.getAssignedTrainer() != null)
+                .groupBy(SlotAssignment::getTrainerIndex, ConstraintCollectors.count())
+                .join(PlanningModel.class)
+                .penalizeConfigurable((employee, count, model) -> Math.abs(count - model.getIdealWorkloadPerTrainer()))
+                .asConstraint(BALANCE_WORKLOAD);
     }
 
     /**
@@ -101,10 +107,10 @@ public class ScheduleConstraintProvider implements ConstraintProvider {
     Constraint preferMainTrainerForGroup(ConstraintFactory constraintFactory) {
         return constraintFactory
                 .forEach(SlotAssignment.class)
-                .filter(a -> a.getAssignedEmployee() != null)
-                .filter(this::isMainTrainerForGroupSubject)
-                .reward(HardSoftScore.ofSoft(10))
-                .asConstraint("Prefer main trainer for group");
+                .filter(a -> a.getAssignedTrainer() != null)
+                .filter(SlotAssignment::isMainTrainerForGroupSubject)
+                .rewardConfigurable()
+                .asConstraint(PREFER_MAIN_TRAINER);
     }
 
     /**
@@ -113,35 +119,12 @@ public class ScheduleConstraintProvider implements ConstraintProvider {
     Constraint minimizeEmployeeSwitching(ConstraintFactory constraintFactory) {
         return constraintFactory
                 .forEachUniquePair(SlotAssignment.class,
-                        Joiners.equal(a -> a.getSlot().getDay()),
-                        Joiners.equal(a -> a.getSlot().getSubject()))
-                .filter((a1, a2) -> a1.getAssignedEmployee() != null &&
-                        a2.getAssignedEmployee() != null &&
-                        !a1.getAssignedEmployee().equals(a2.getAssignedEmployee()))
-                .penalize(HardSoftScore.ofSoft(1))
-                .asConstraint("Minimize employee switching");
-    }
-
-    // ===================== Helper =====================
-
-    private boolean isMainTrainerForGroupSubject(SlotAssignment assignment) {
-        if (assignment.getAssignedEmployee() == null ||
-                assignment.getSlot() == null ||
-                assignment.getSlot().getSubject() == null ||
-                assignment.getSlot().getDay() == null ||
-                assignment.getSlot().getDay().getWeek() == null ||
-                assignment.getSlot().getDay().getWeek().getSchedule() == null) {
-            return false;
-        }
-        try {
-            return assignment.getAssignedEmployee().getCourses().stream()
-                    .anyMatch(course ->
-                            course.getGroup().equals(assignment.getSlot().getDay().getWeek().getSchedule().getGroup()) &&
-                                    course.getSubject().equals(assignment.getSlot().getSubject()));
-        } catch (org.hibernate.LazyInitializationException e) {
-            System.err.println("WARNING: LazyInitializationException for employee " +
-                    assignment.getAssignedEmployee().getId() + " courses - assuming not main trainer. Error: " + e.getMessage());
-            return false;
-        }
+                        Joiners.equal(SlotAssignment::getDayIndex),
+                        Joiners.equal(SlotAssignment::getCourseIndex))
+                .filter((a1, a2) -> a1.getAssignedTrainer() != null &&
+                        a2.getAssignedTrainer() != null &&
+                        a1.getTrainerIndex() != a2.getTrainerIndex())
+                .penalizeConfigurable()
+                .asConstraint(MINIMIZE_SWITCHING);
     }
 }
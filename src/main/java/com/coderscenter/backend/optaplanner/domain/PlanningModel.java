@@ -0,0 +1,111 @@
+package com.coderscenter.backend.optaplanner.domain;
+
+import java.util.BitSet;
+
+/**
+ * Unveränderliches Planungsmodell, das einmal pro Optimierungsjob aufgebaut wird.
+ * Mitarbeiter, Fächer, Gruppen und Kalendertage haben dichte int-Ids, damit die Constraints
+ * nur noch BitSets lesen statt Hibernate-Collections und Entity-Ketten zu durchlaufen.
+ */
+public final class PlanningModel {
+
+    public static final int NONE = -1;
+
+    private final int subjectCount;
+    private final int dayCount;
+    private final int idealWorkloadPerTrainer;
+
+    // trainerIndex -> subjectIndex
+    private final BitSet[] qualifications;
+    // trainerIndex -> dayIndex
+    private final BitSet[] availability;
+    // trainerIndex -> groupIndex * subjectCount + subjectIndex
+    private final BitSet[] mainTrainerCourses;
+
+    public PlanningModel(int subjectCount, int dayCount, int idealWorkloadPerTrainer,
+                         BitSet[] qualifications, BitSet[] availability, BitSet[] mainTrainerCourses) {
+        this.subjectCount = subjectCount;
+        this.dayCount = dayCount;
+        this.idealWorkloadPerTrainer = idealWorkloadPerTrainer;
+        this.qualifications = qualifications;
+        this.availability = availability;
+        this.mainTrainerCourses = mainTrainerCourses;
+    }
+
+    /**
+     * Even share of the slots over the trainers offered to the solver, rounded and at least one.
+     * Without any trainer the target is the number of slots.
+     */
+    public static int idealWorkload(int slotCount, int trainerCount) {
+        return trainerCount == 0 ? slotCount : Math.max(1, Math.round((float) slotCount / trainerCount));
+    }
+
+    public boolean isQualified(int trainerIndex, int subjectIndex) {
+        return trainerIndex != NONE && subjectIndex != NONE && qualifications[trainerIndex].get(subjectIndex);
+    }
+
+    public boolean isAvailable(int trainerIndex, int dayIndex) {
+        return trainerIndex != NONE && dayIndex != NONE && availability[trainerIndex].get(dayIndex);
+    }
+
+    public boolean isMainTrainer(int trainerIndex, int groupIndex, int subjectIndex) {
+        return trainerIndex != NONE && groupIndex != NONE && subjectIndex != NONE
+                && mainTrainerCourses[trainerIndex].get(groupIndex * subjectCount + subjectIndex);
+    }
+
+    /**
+     * Number of trainers that are qualified for the subject and available on the day.
+     */
+    public int countCandidates(int subjectIndex, int dayIndex) {
+        int count = 0;
+        for (int trainerIndex = 0; trainerIndex < qualifications.length; trainerIndex++) {
+            if (isQualified(trainerIndex, subjectIndex) && isAvailable(trainerIndex, dayIndex)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Dense id of a group/subject pair, {@link #NONE} if either is missing.
+     */
+    public int courseIndex(int groupIndex, int subjectIndex) {
+        return groupIndex != NONE && subjectIndex != NONE ? groupIndex * subjectCount + subjectIndex : NONE;
+    }
+
+    public int getTrainerCount() {
+        return qualifications.length;
+    }
+
+    public int getSubjectCount() {
+        return subjectCount;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    /**
+     * Slots per trainer if the schedule were spread evenly over all trainers the solver may use.
+     */
+    public int getIdealWorkloadPerTrainer() {
+        return idealWorkloadPerTrainer;
+    }
+
+    /**
+     * Same tables with a different workload target, e.g. for a partition that covers only part of the schedule.
+     */
+    public PlanningModel withIdealWorkloadPerTrainer(int idealWorkloadPerTrainer) {
+        return new PlanningModel(subjectCount, dayCount, idealWorkloadPerTrainer, qualifications, availability, mainTrainerCourses);
+    }
+
+    @Override
+    public String toString() {
+        return "PlanningModel{" +
+                "trainers=" + qualifications.length +
+                ", subjects=" + subjectCount +
+                ", days=" + dayCount +
+                ", idealWorkload=" + idealWorkloadPerTrainer +
+                '}';
+    }
+}
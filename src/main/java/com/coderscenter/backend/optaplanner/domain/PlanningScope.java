@@ -0,0 +1,33 @@
+package com.coderscenter.backend.optaplanner.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Legt fest, welche Slots der Solver verändern darf.
+ * Slots außerhalb des Fensters, bereits begonnene Slots und gesperrte Slots werden gepinnt
+ * und behalten ihre aktuelle Zuweisung als Warmstart.
+ * @param windowStart first day that may be changed, null for no lower bound
+ * @param windowEnd last day that may be changed, null for no upper bound
+ * @param pinnedBefore slots starting before this point in time are pinned, null to pin none
+ */
+public record PlanningScope(LocalDate windowStart, LocalDate windowEnd, LocalDateTime pinnedBefore) {
+
+    public static final PlanningScope FULL = new PlanningScope(null, null, null);
+
+    public boolean isPinned(LocalDateTime slotStart, boolean locked) {
+        if (locked) {
+            return true;
+        }
+        if (pinnedBefore != null && slotStart.isBefore(pinnedBefore)) {
+            return true;
+        }
+        LocalDate day = slotStart.toLocalDate();
+        return (windowStart != null && day.isBefore(windowStart))
+                || (windowEnd != null && day.isAfter(windowEnd));
+    }
+
+    public boolean isFull() {
+        return windowStart == null && windowEnd == null && pinnedBefore == null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.coderscenter.backend.optaplanner.domain;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+
+/**
+ * Planungs-Kopie eines Slots ohne JPA-Bezug.
+ * Zeiten sind Epoch-Minuten, Fach, Gruppe und Tag liegen zusätzlich als dichte Indizes des {@link PlanningModel} vor.
+ * Gepinnte Slots behalten ihre aktuelle Zuweisung.
+ */
+public final class PlanningSlot {
+
+    private final Long slotId;
+    private final int startMinute;
+    private final int endMinute;
+    private final int dayIndex;
+    private final int weekday;
+    private final Long subjectId;
+    private final int subjectIndex;
+    private final Long groupId;
+    private final int groupIndex;
+    private final boolean pinned;
+
+    public PlanningSlot(Long slotId, int startMinute, int endMinute, int dayIndex, int weekday,
+                        Long subjectId, int subjectIndex, Long groupId, int groupIndex, boolean pinned) {
+        this.slotId = slotId;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.dayIndex = dayIndex;
+        this.weekday = weekday;
+        this.subjectId = subjectId;
+        this.subjectIndex = subjectIndex;
+        this.groupId = groupId;
+        this.groupIndex = groupIndex;
+        this.pinned = pinned;
+    }
+
+    @PlanningId
+    public Long getSlotId() {
+        return slotId;
+    }
+
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    /**
+     * Index of the calendar date within the schedule, {@link PlanningModel#NONE} if the slot has no day.
+     */
+    public int getDayIndex() {
+        return dayIndex;
+    }
+
+    /**
+     * ISO day of week (1 = Monday), {@link PlanningModel#NONE} if the slot has no day.
+     */
+    public int getWeekday() {
+        return weekday;
+    }
+
+    public Long getSubjectId() {
+        return subjectId;
+    }
+
+    public int getSubjectIndex() {
+        return subjectIndex;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public int getGroupIndex() {
+        return groupIndex;
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    @Override
+    public String toString() {
+        return "PlanningSlot{" +
+                "slotId=" + slotId +
+                ", dayIndex=" + dayIndex +
+                ", subjectId=" + subjectId +
+                '}';
+    }
+}
@@ -0,0 +1,38 @@
+package com.coderscenter.backend.optaplanner.domain;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+
+/**
+ * Planungs-Kopie eines Trainers ohne JPA-Bezug.
+ * Der Index verweist in die Tabellen des {@link PlanningModel}.
+ */
+public final class PlanningTrainer {
+
+    private final Long employeeId;
+    private final int index;
+    private final String displayName;
+
+    public PlanningTrainer(Long employeeId, int index, String displayName) {
+        this.employeeId = employeeId;
+        this.index = index;
+        this.displayName = displayName;
+    }
+
+    @PlanningId
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName + " (" + employeeId + ")";
+    }
+}
@@ -0,0 +1,119 @@
+package com.coderscenter.backend.optaplanner.domain;
+
+import com.coderscenter.backend.enums.OptimizationGoal;
+import org.optaplanner.core.api.domain.constraintweight.ConstraintConfiguration;
+import org.optaplanner.core.api.domain.constraintweight.ConstraintWeight;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Gewichte der Constraints pro Optimierungsziel.
+ * Die Namen müssen exakt den Namen in {@link com.coderscenter.backend.optaplanner.constraints.ScheduleConstraintProvider} entsprechen.
+ */
+@ConstraintConfiguration
+public class ScheduleConstraintConfiguration {
+
+    public static final String EMPLOYEE_MUST_TEACH_SUBJECT = "Employee must teach subject";
+    public static final String EMPLOYEE_MUST_BE_AVAILABLE = "Employee must be available on day";
+    public static final String EMPLOYEE_NOT_IN_TWO_PLACES = "Employee cannot be in two places at once";
+    public static final String BALANCE_WORKLOAD = "Balance workload dynamically";
+    public static final String BALANCE_TRAINER_PER_SUBJECT_AND_DAY = "Balance trainer per subject and day";
+    public static final String PREFER_MAIN_TRAINER = "Prefer main trainer for group";
+    public static final String MINIMIZE_SWITCHING = "Minimize employee switching";
+
+    @ConstraintWeight(EMPLOYEE_MUST_TEACH_SUBJECT)
+    private HardSoftScore employeeMustTeachSubject = HardSoftScore.ONE_HARD;
+
+    @ConstraintWeight(EMPLOYEE_MUST_BE_AVAILABLE)
+    private HardSoftScore employeeMustBeAvailable = HardSoftScore.ONE_HARD;
+
+    @ConstraintWeight(EMPLOYEE_NOT_IN_TWO_PLACES)
+    private HardSoftScore employeeNotInTwoPlaces = HardSoftScore.ONE_HARD;
+
+    @ConstraintWeight(BALANCE_WORKLOAD)
+    private HardSoftScore balanceWorkload = HardSoftScore.ofSoft(1);
+
+    @ConstraintWeight(BALANCE_TRAINER_PER_SUBJECT_AND_DAY)
+    private HardSoftScore balanceTrainerPerSubjectAndDay = HardSoftScore.ofSoft(1);
+
+    @ConstraintWeight(PREFER_MAIN_TRAINER)
+    private HardSoftScore preferMainTrainer = HardSoftScore.ofSoft(10);
+
+    @ConstraintWeight(MINIMIZE_SWITCHING)
+    private HardSoftScore minimizeSwitching = HardSoftScore.ofSoft(1);
+
+    public ScheduleConstraintConfiguration() {}
+
+    /**
+     * Weight profile for an optimization goal. Hard constraints are never relaxed.
+     */
+    public static ScheduleConstraintConfiguration forGoal(OptimizationGoal goal) {
+        ScheduleConstraintConfiguration configuration = new ScheduleConstraintConfiguration();
+        switch (goal) {
+            case BALANCE_WORKLOAD -> {
+                configuration.balanceWorkload = HardSoftScore.ofSoft(5);
+                configuration.balanceTrainerPerSubjectAndDay = HardSoftScore.ofSoft(2);
+                configuration.preferMainTrainer = HardSoftScore.ofSoft(3);
+            }
+            case MAXIMIZE_PRIMARY_TRAINERS -> {
+                configuration.preferMainTrainer = HardSoftScore.ofSoft(30);
+                configuration.minimizeSwitching = HardSoftScore.ofSoft(2);
+            }
+            case MINIMIZE_CONFLICTS -> {
+                // Soft goals only break ties, the search concentrates on hard conflicts and trainer switches
+                configuration.balanceTrainerPerSubjectAndDay = HardSoftScore.ZERO;
+                configuration.preferMainTrainer = HardSoftScore.ofSoft(1);
+                configuration.minimizeSwitching = HardSoftScore.ofSoft(3);
+            }
+            case BALANCED -> {
+                // Defaults
+            }
+        }
+        return configuration;
+    }
+
+    /**
+     * All constraint weights by constraint name, hard constraints first.
+     */
+    public Map<String, HardSoftScore> getWeightsByConstraintName() {
+        Map<String, HardSoftScore> weights = new LinkedHashMap<>();
+        weights.put(EMPLOYEE_MUST_TEACH_SUBJECT, employeeMustTeachSubject);
+        weights.put(EMPLOYEE_MUST_BE_AVAILABLE, employeeMustBeAvailable);
+        weights.put(EMPLOYEE_NOT_IN_TWO_PLACES, employeeNotInTwoPlaces);
+        weights.put(BALANCE_WORKLOAD, balanceWorkload);
+        weights.put(BALANCE_TRAINER_PER_SUBJECT_AND_DAY, balanceTrainerPerSubjectAndDay);
+        weights.put(PREFER_MAIN_TRAINER, preferMainTrainer);
+        weights.put(MINIMIZE_SWITCHING, minimizeSwitching);
+        return weights;
+    }
+
+    public HardSoftScore getEmployeeMustTeachSubject() {
+        return employeeMustTeachSubject;
+    }
+
+    public HardSoftScore getEmployeeMustBeAvailable() {
+        return employeeMustBeAvailable;
+    }
+
+    public HardSoftScore getEmployeeNotInTwoPlaces() {
+        return employeeNotInTwoPlaces;
+    }
+
+    public HardSoftScore getBalanceWorkload() {
+        return balanceWorkload;
+    }
+
+    public HardSoftScore getBalanceTrainerPerSubjectAndDay() {
+        return balanceTrainerPerSubjectAndDay;
+    }
+
+    public HardSoftScore getPreferMainTrainer() {
+        return preferMainTrainer;
+    }
+
+    public HardSoftScore getMinimizeSwitching() {
+        return minimizeSwitching;
+    }
+}
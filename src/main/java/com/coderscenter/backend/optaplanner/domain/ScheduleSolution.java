@@ -1,10 +1,11 @@
 package com.coderscenter.backend.optaplanner.domain;
 
-import com.coderscenter.backend.entities.profile.Employee;
+import org.optaplanner.core.api.domain.constraintweight.ConstraintConfigurationProvider;
 import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
 import org.optaplanner.core.api.domain.solution.PlanningScore;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.domain.solution.ProblemFactProperty;
 import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 
@@ -12,32 +13,66 @@ import java.util.List;
 
 /**
  * OptaPlanner Planning Solution for Schedule Optimization
- * Contains all slots to be assigned and available employees
+ * Contains all slots to be assigned and available trainers as planning records, decoupled from JPA
  */
 @PlanningSolution
 public class ScheduleSolution {
     
-    private List<Employee> employeeList; // Available employees (fact)
+    private List<PlanningTrainer> trainerList; // Available trainers (fact)
+    private List<PlanningSlot> slotList; // Slots of the schedule (fact)
+    private PlanningModel planningModel; // Precomputed lookup tables (fact)
+    private ScheduleConstraintConfiguration constraintConfiguration; // Weights of the optimization goal
     private List<SlotAssignment> slotAssignmentList; // Slots to be assigned (planning entities)
     private HardSoftScore score; // Calculated score
     
     // Default constructor required by OptaPlanner
     public ScheduleSolution() {}
     
-    public ScheduleSolution(List<Employee> employeeList, List<SlotAssignment> slotAssignmentList) {
-        this.employeeList = employeeList;
+    public ScheduleSolution(List<PlanningTrainer> trainerList, List<PlanningSlot> slotList,
+                            PlanningModel planningModel, List<SlotAssignment> slotAssignmentList) {
+        this.trainerList = trainerList;
+        this.slotList = slotList;
+        this.planningModel = planningModel;
         this.slotAssignmentList = slotAssignmentList;
+        this.constraintConfiguration = new ScheduleConstraintConfiguration();
     }
     
     // Problem facts - these don't change during optimization
     @ProblemFactCollectionProperty
-    @ValueRangeProvider(id = "employeeRange")
-    public List<Employee> getEmployeeList() {
-        return employeeList;
+    @ValueRangeProvider(id = "trainerRange")
+    public List<PlanningTrainer> getTrainerList() {
+        return trainerList;
     }
     
-    public void setEmployeeList(List<Employee> employeeList) {
-        this.employeeList = employeeList;
+    public void setTrainerList(List<PlanningTrainer> trainerList) {
+        this.trainerList = trainerList;
+    }
+    
+    @ProblemFactCollectionProperty
+    public List<PlanningSlot> getSlotList() {
+        return slotList;
+    }
+    
+    public void setSlotList(List<PlanningSlot> slotList) {
+        this.slotList = slotList;
+    }
+    
+    @ProblemFactProperty
+    public PlanningModel getPlanningModel() {
+        return planningModel;
+    }
+    
+    public void setPlanningModel(PlanningModel planningModel) {
+        this.planningModel = planningModel;
+    }
+    
+    @ConstraintConfigurationProvider
+    public ScheduleConstraintConfiguration getConstraintConfiguration() {
+        return constraintConfiguration;
+    }
+    
+    public void setConstraintConfiguration(ScheduleConstraintConfiguration constraintConfiguration) {
+        this.constraintConfiguration = constraintConfiguration;
     }
     
     // Planning entities - these will be optimized
@@ -65,22 +100,29 @@ public class ScheduleSolution {
         return slotAssignmentList != null ? slotAssignmentList.size() : 0;
     }
     
+    public long getMovableSlots() {
+        if (slotAssignmentList == null) return 0;
+        return slotAssignmentList.stream()
+                .filter(sa -> !sa.isPinned())
+                .count();
+    }
+    
     public long getAssignedSlots() {
         if (slotAssignmentList == null) return 0;
         return slotAssignmentList.stream()
-                .mapToLong(sa -> sa.getAssignedEmployee() != null ? 1 : 0)
+                .mapToLong(sa -> sa.getAssignedTrainer() != null ? 1 : 0)
                 .sum();
     }
     
     public int getTotalEmployees() {
-        return employeeList != null ? employeeList.size() : 0;
+        return trainerList != null ? trainerList.size() : 0;
     }
     
     public long getUsedEmployees() {
         if (slotAssignmentList == null) return 0;
         return slotAssignmentList.stream()
-                .filter(sa -> sa.getAssignedEmployee() != null)
-                .map(sa -> sa.getAssignedEmployee().getId())
+                .filter(sa -> sa.getAssignedTrainer() != null)
+                .mapToInt(SlotAssignment::getTrainerIndex)
                 .distinct()
                 .count();
     }
@@ -94,4 +136,4 @@ public class ScheduleSolution {
                 ", score=" + score +
                 '}';
     }
-}
\ No newline at end of file
+}
@@ -1,91 +1,106 @@
 package com.coderscenter.backend.optaplanner.domain;
 
-import com.coderscenter.backend.entities.profile.Employee;
-import com.coderscenter.backend.entities.schedule_management.Slot;
 import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.entity.PlanningPin;
 import org.optaplanner.core.api.domain.lookup.PlanningId;
 import org.optaplanner.core.api.domain.variable.PlanningVariable;
 
 /**
  * OptaPlanner Planning Entity for slot assignments
- * Each slot can be assigned to an employee (trainer)
+ * Each slot can be assigned to a trainer. Only planning records are referenced, no JPA entities.
+ * Construction heuristics fill the most constrained slots first, see {@link SlotDifficultyWeightFactory}.
  */
-@PlanningEntity
+@PlanningEntity(difficultyWeightFactoryClass = SlotDifficultyWeightFactory.class)
 public class SlotAssignment {
     
-    private Slot slot; // The original slot from database
-    private Employee assignedEmployee; // Planning variable - to be optimized
+    private PlanningSlot slot; // Planning copy of the slot
+    private PlanningTrainer assignedTrainer; // Planning variable - to be optimized
+    private PlanningModel model; // Shared lookup tables of the job
     
     // Default constructor required by OptaPlanner
     public SlotAssignment() {}
     
-    public SlotAssignment(Slot slot, Employee assignedEmployee) {
+    public SlotAssignment(PlanningSlot slot, PlanningTrainer assignedTrainer, PlanningModel model) {
         this.slot = slot;
-        this.assignedEmployee = assignedEmployee;
+        this.assignedTrainer = assignedTrainer;
+        this.model = model;
     }
     
     // OptaPlanner ID for unique identification
     @PlanningId
     public Long getId() {
-        return slot != null ? slot.getSlotId() : null;
+        return slot.getSlotId();
     }
     
-    // Getters and Setters
-    public Slot getSlot() {
+    public PlanningSlot getSlot() {
         return slot;
     }
     
-    public void setSlot(Slot slot) {
-        this.slot = slot;
+    // Pinned slots keep their current trainer (locked, already taught or outside the optimization window)
+    @PlanningPin
+    public boolean isPinned() {
+        return slot.isPinned();
+    }
+    
+    @PlanningVariable(valueRangeProviderRefs = "trainerRange")
+    public PlanningTrainer getAssignedTrainer() {
+        return assignedTrainer;
+    }
+    
+    public void setAssignedTrainer(PlanningTrainer assignedTrainer) {
+        this.assignedTrainer = assignedTrainer;
+    }
+    
+    // Accessors for constraints
+    public int getTrainerIndex() {
+        return assignedTrainer != null ? assignedTrainer.getIndex() : PlanningModel.NONE;
+    }
+    
+    public int getSubjectIndex() {
+        return slot.getSubjectIndex();
+    }
+    
+    public int getGroupIndex() {
+        return slot.getGroupIndex();
+    }
+    
+    public int getCourseIndex() {
+        return model.courseIndex(slot.getGroupIndex(), slot.getSubjectIndex());
+    }
+    
+    public int getDayIndex() {
+        return slot.getDayIndex();
+    }
+    
+    public int getWeekday() {
+        return slot.getWeekday();
+    }
+    
+    public int getStartMinute() {
+        return slot.getStartMinute();
+    }
+    
+    public int getEndMinute() {
+        return slot.getEndMinute();
+    }
+    
+    public boolean canTrainerTeachSubject() {
+        return model.isQualified(getTrainerIndex(), slot.getSubjectIndex());
+    }
+    
+    public boolean isTrainerAvailableOnDay() {
+        return model.isAvailable(getTrainerIndex(), slot.getDayIndex());
     }
     
-    @PlanningVariable(valueRangeProviderRefs = "employeeRange")
-    public Employee getAssignedEmployee() {
-        return assignedEmployee;
-    }
-    
-    public void setAssignedEmployee(Employee assignedEmployee) {
-        this.assignedEmployee = assignedEmployee;
-    }
-    
-    // Utility methods for constraints
-    public boolean canEmployeeTeachSubject() {
-        if (assignedEmployee == null || slot == null || slot.getSubject() == null) {
-            return false;
-        }
-        
-        try {
-            return assignedEmployee.getSubjects().contains(slot.getSubject());
-        } catch (org.hibernate.LazyInitializationException e) {
-            // Defensive handling: if subjects collection is not initialized, assume cannot teach
-            // This should not happen if loadEmployeesForOptimization() works correctly
-            System.err.println("WARNING: LazyInitializationException for employee " + 
-                              assignedEmployee.getId() + " subjects - assuming cannot teach. Error: " + e.getMessage());
-            return false; // Default to cannot teach to maintain constraint safety
-        }
-    }
-    
-    public boolean isEmployeeAvailableOnDay() {
-        if (assignedEmployee == null || slot == null || slot.getDay() == null) {
-            return false;
-        }
-        
-        try {
-            return assignedEmployee.isAvailableOn(slot.getStartDate().toLocalDate());
-        } catch (org.hibernate.LazyInitializationException e) {
-            // Defensive handling: if collections are not initialized, assume available
-            // This should not happen if loadEmployeesForOptimization() works correctly
-            System.err.println("WARNING: LazyInitializationException for employee " + 
-                              assignedEmployee.getId() + " - assuming available. Error: " + e.getMessage());
-            return true; // Default to available rather than failing optimization
-        }
+    public boolean isMainTrainerForGroupSubject() {
+        return model.isMainTrainer(getTrainerIndex(), slot.getGroupIndex(), slot.getSubjectIndex());
     }
     
     @Override
     public String toString() {
         return "SlotAssignment{" +
-                "slotId=" + (slot != null ? slot.getSlotId() : "null") +
-                ", employeeName=" + (assignedEmployee != null ? assignedEmployee.getFirstName() + " " + assignedEmployee.getLastName() : "null") +
+                "slotId=" + slot.getSlotId() +
+                ", trainer=" + assignedTrainer +
                 '}';
     }
-}
\ No newline at end of file
+}
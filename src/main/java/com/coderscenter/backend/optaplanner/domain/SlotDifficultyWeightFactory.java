@@ -0,0 +1,39 @@
+package com.coderscenter.backend.optaplanner.domain;
+
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorterWeightFactory;
+
+import java.util.Comparator;
+
+/**
+ * Schwierigkeit eines Slots für die Konstruktionsheuristik: Slots, für die am wenigsten Trainer
+ * qualifiziert und am Tag verfügbar sind, werden zuerst besetzt, bei Gleichstand die längeren.
+ * Das Gewicht wird einmal pro Slot berechnet, nicht bei jedem Vergleich.
+ */
+public class SlotDifficultyWeightFactory implements SelectionSorterWeightFactory<ScheduleSolution, SlotAssignment> {
+
+    @Override
+    public SlotDifficultyWeight createSorterWeight(ScheduleSolution solution, SlotAssignment assignment) {
+        PlanningSlot slot = assignment.getSlot();
+        return new SlotDifficultyWeight(
+                solution.getPlanningModel().countCandidates(slot.getSubjectIndex(), slot.getDayIndex()),
+                slot.getEndMinute() - slot.getStartMinute(),
+                slot.getSlotId());
+    }
+
+    /**
+     * Higher is more difficult, the slot id only keeps the order deterministic.
+     */
+    public record SlotDifficultyWeight(int candidateCount, int durationMinutes, Long slotId)
+            implements Comparable<SlotDifficultyWeight> {
+
+        private static final Comparator<SlotDifficultyWeight> ORDER = Comparator
+                .comparingInt(SlotDifficultyWeight::candidateCount).reversed()
+                .thenComparingInt(SlotDifficultyWeight::durationMinutes)
+                .thenComparing(SlotDifficultyWeight::slotId, Comparator.reverseOrder());
+
+        @Override
+        public int compareTo(SlotDifficultyWeight other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.coderscenter.backend.optaplanner.partition;
+
+import com.coderscenter.backend.optaplanner.domain.PlanningModel;
+import com.coderscenter.backend.optaplanner.domain.PlanningSlot;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
+
+import java.util.*;
+
+/**
+ * Teilt einen Schedule für die Partitioned Search in Kalenderwochen auf.
+ * Slots verschiedener Wochen überschneiden sich nie zeitlich, die harten Constraints sind pro Woche unabhängig.
+ * Wochen ohne veränderbare Slots werden mit der folgenden Woche zu einer Partition zusammengefasst, nur solche am Ende
+ * kommen zur letzten Partition, damit kein Teil-Solver leer läuft.
+ * Wochenübergreifende weiche Constraints (Gesamtauslastung, Trainer pro Wochentag) glättet die anschließende Local Search.
+ */
+public class WeekSolutionPartitioner implements SolutionPartitioner<ScheduleSolution> {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // Minimum number of movable slots per partition, smaller weeks are merged with the following one
+    private int minMovableSlotsPerPart = 1;
+
+    @Override
+    public List<ScheduleSolution> splitWorkingSolution(ScoreDirector<ScheduleSolution> scoreDirector, Integer runnablePartThreadLimit) {
+        ScheduleSolution solution = scoreDirector.getWorkingSolution();
+
+        // Epoch week (Monday based) -> assignments of that week, slots without a day form their own bucket
+        TreeMap<Long, List<SlotAssignment>> assignmentsByWeek = new TreeMap<>();
+        for (SlotAssignment assignment : solution.getSlotAssignmentList()) {
+            assignmentsByWeek.computeIfAbsent(weekOf(assignment.getSlot()), week -> new ArrayList<>()).add(assignment);
+        }
+
+        List<List<SlotAssignment>> parts = new ArrayList<>();
+        List<SlotAssignment> current = new ArrayList<>();
+        int currentMovable = 0;
+        for (List<SlotAssignment> week : assignmentsByWeek.values()) {
+            current.addAll(week);
+            currentMovable += (int) week.stream().filter(assignment -> !assignment.isPinned()).count();
+            if (currentMovable >= minMovableSlotsPerPart) {
+                parts.add(current);
+                current = new ArrayList<>();
+                currentMovable = 0;
+            }
+        }
+        if (!current.isEmpty()) {
+            if (parts.isEmpty()) {
+                parts.add(current);
+            } else {
+                parts.get(parts.size() - 1).addAll(current);
+            }
+        }
+
+        int totalSlots = Math.max(1, solution.getTotalSlots());
+        List<ScheduleSolution> partitions = new ArrayList<>(parts.size());
+        for (List<SlotAssignment> part : parts) {
+            partitions.add(toPartition(solution, part, totalSlots));
+        }
+        return partitions;
+    }
+
+    /**
+     * Number of calendar weeks that contain at least one movable slot.
+     */
+    public static long countMovableWeeks(ScheduleSolution solution) {
+        return solution.getSlotAssignmentList().stream()
+                .filter(assignment -> !assignment.isPinned())
+                .mapToLong(assignment -> weekOf(assignment.getSlot()))
+                .distinct()
+                .count();
+    }
+
+    public void setMinMovableSlotsPerPart(int minMovableSlotsPerPart) {
+        this.minMovableSlotsPerPart = Math.max(1, minMovableSlotsPerPart);
+    }
+
+    private ScheduleSolution toPartition(ScheduleSolution solution, List<SlotAssignment> part, int totalSlots) {
+        // The workload target shrinks with the share of the schedule that the partition covers
+        PlanningModel fullModel = solution.getPlanningModel();
+        int idealWorkload = Math.max(1, Math.round((float) fullModel.getIdealWorkloadPerTrainer() * part.size() / totalSlots));
+        PlanningModel partModel = fullModel.withIdealWorkloadPerTrainer(idealWorkload);
+
+        List<PlanningSlot> slots = new ArrayList<>(part.size());
+        List<SlotAssignment> assignments = new ArrayList<>(part.size());
+        for (SlotAssignment assignment : part) {
+            slots.add(assignment.getSlot());
+            assignments.add(new SlotAssignment(assignment.getSlot(), assignment.getAssignedTrainer(), partModel));
+        }
+
+        ScheduleSolution partition = new ScheduleSolution(solution.getTrainerList(), slots, partModel, assignments);
+        partition.setConstraintConfiguration(solution.getConstraintConfiguration());
+        return partition;
+    }
+
+    private static long weekOf(PlanningSlot slot) {
+        if (slot.getDayIndex() == PlanningModel.NONE) {
+            return Long.MIN_VALUE;
+        }
+        long epochDay = Math.floorDiv(slot.getStartMinute(), MINUTES_PER_DAY);
+        // 1970-01-01 was a Thursday, shifting by three days makes weeks start on Monday
+        return Math.floorDiv(epochDay + 3, 7);
+    }
+}
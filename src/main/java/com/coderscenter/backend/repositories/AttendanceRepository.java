@@ -1,9 +1,15 @@
 package com.coderscenter.backend.repositories;
 
 import com.coderscenter.backend.entities.management.Attendance;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -12,4 +18,18 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findAllByStudent_Id(Long studentId);
 
     List<Attendance> findAllByStudent_Group_GroupId(Long studentGroupGroupId);
+
+    /**
+     * Attendances in [from, to], both inclusive and skipped when null.
+     */
+    @Query("SELECT a FROM Attendance a WHERE (:from IS NULL OR a.date >= :from) AND (:to IS NULL OR a.date <= :to)")
+    Page<Attendance> findFiltered(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findFiltered}: the next matching attendances after the given id.
+     */
+    @Query("SELECT a FROM Attendance a WHERE a.attendanceId > :afterId " +
+            "AND (:from IS NULL OR a.date >= :from) AND (:to IS NULL OR a.date <= :to) ORDER BY a.attendanceId")
+    Slice<Attendance> findFilteredAfter(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                        @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,9 +1,31 @@
 package com.coderscenter.backend.repositories;
 
+import com.coderscenter.backend.dtos.schedule.ScheduleDayRow;
 import com.coderscenter.backend.entities.schedule_management.Day;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface DayRepository extends JpaRepository<Day, Long> {
+
+    /**
+     * Keyset page: the next days after the given id.
+     */
+    Slice<Day> findByDayIdGreaterThanOrderByDayIdAsc(Long dayId, Pageable pageable);
+
+    /**
+     * Days of a group's schedule in [from, to), ordered by date.
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.schedule.ScheduleDayRow(d.dayId, w.weekId, d.label, d.dayDate) " +
+           "FROM Day d JOIN d.week w JOIN w.schedule sc " +
+           "WHERE sc.group.groupId = :groupId AND d.dayDate >= :from AND d.dayDate < :to ORDER BY d.dayDate, d.dayId")
+    List<ScheduleDayRow> findGroupDays(@Param("groupId") Long groupId,
+                                       @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
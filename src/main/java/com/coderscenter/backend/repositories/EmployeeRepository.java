@@ -1,16 +1,49 @@
 package com.coderscenter.backend.repositories;
 
+import com.coderscenter.backend.dtos.schedule.ScheduleTrainerViewDTO;
 import com.coderscenter.backend.entities.profile.Employee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Employee findEmployeeByUser_Id(Long user_userId);
-    
-    // Note: For OptaPlanner, we use transactional loading in the service instead
-    // to avoid MultipleBagFetchException
+
+    /**
+     * Fetch plan for the optimizer: subjects are joined, the remaining collections follow as one subselect each
+     */
+    @EntityGraph(attributePaths = {"subjects", "address", "user"})
+    @Query("SELECT DISTINCT e FROM Employee e")
+    List<Employee> findAllForOptimization();
+
+    /**
+     * Employees by id with their subjects joined, to check several trainer assignments in one query
+     */
+    @EntityGraph(attributePaths = "subjects")
+    @Query("SELECT DISTINCT e FROM Employee e WHERE e.id IN :ids")
+    List<Employee> findAllWithSubjectsById(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Trainers of the slots of a schedule and of the courses of its group, each once
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.schedule.ScheduleTrainerViewDTO(e.id, e.firstName, e.lastName, e.email) " +
+            "FROM Employee e " +
+            "WHERE e.id IN (SELECT s.employee.id FROM Slot s WHERE s.day.week.schedule.scheduleId = :scheduleId) " +
+            "OR e.id IN (SELECT c.employee.id FROM Course_Subject_Employee_in c, Schedule sc " +
+            "WHERE sc.scheduleId = :scheduleId AND c.group = sc.group) " +
+            "ORDER BY e.lastName, e.firstName, e.id")
+    List<ScheduleTrainerViewDTO> findScheduleTrainers(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * Keyset page: the next employees after the given id.
+     */
+    Slice<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -1,9 +1,52 @@
 package com.coderscenter.backend.repositories;
 
+import com.coderscenter.backend.dtos.version.AggregateVersion;
 import com.coderscenter.backend.entities.group_management.Group;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
+
+    @Query("SELECT new com.coderscenter.backend.dtos.version.AggregateVersion(g.version, g.updatedAt) " +
+           "FROM Group g WHERE g.groupId = :groupId")
+    Optional<AggregateVersion> findVersion(@Param("groupId") Long groupId);
+
+    /**
+     * Fingerprint of the whole list: count, highest id and sum of all versions
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.version.AggregateVersion(COUNT(g), MAX(g.groupId), SUM(g.version)) FROM Group g")
+    AggregateVersion findListVersion();
+
+    @Modifying
+    @Query("UPDATE Group g SET g.version = g.version + 1, g.updatedAt = :now WHERE g.groupId IN :groupIds")
+    int touch(@Param("groupIds") Collection<Long> groupIds, @Param("now") LocalDateTime now);
+
+    /**
+     * For changes to users, profiles and addresses, which every group response can embed through its students and trainers
+     */
+    @Modifying
+    @Query("UPDATE Group g SET g.version = g.version + 1, g.updatedAt = :now")
+    int touchAll(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Group g SET g.version = g.version + 1, g.updatedAt = :now WHERE g.groupId IN " +
+           "(SELECT c.group.groupId FROM Course_Subject_Employee_in c WHERE c.employee.id IN :employeeIds)")
+    int touchByCourseEmployees(@Param("employeeIds") Collection<Long> employeeIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Group g SET g.version = g.version + 1, g.updatedAt = :now WHERE g.groupId IN " +
+           "(SELECT c.group.groupId FROM Course_Subject_Employee_in c WHERE c.subject.subjectId IN :subjectIds)")
+    int touchByCourseSubjects(@Param("subjectIds") Collection<Long> subjectIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Group g SET g.version = g.version + 1, g.updatedAt = :now WHERE g.program.programId IN :programIds")
+    int touchByPrograms(@Param("programIds") Collection<Long> programIds, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,15 @@
+package com.coderscenter.backend.repositories;
+
+import com.coderscenter.backend.entities.optimization.OptimizationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OptimizationJobRepository extends JpaRepository<OptimizationJob, String> {
+
+    List<OptimizationJob> findTop50ByOrderByCreatedAtDesc();
+
+    List<OptimizationJob> findByStatus(String status);
+}
@@ -1,10 +1,30 @@
 package com.coderscenter.backend.repositories;
 
+import com.coderscenter.backend.dtos.version.AggregateVersion;
 import com.coderscenter.backend.entities.profile.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     Profile findProfileById(Long userUserId);
+
+    @Query("SELECT new com.coderscenter.backend.dtos.version.AggregateVersion(p.version, p.updatedAt) " +
+           "FROM User u JOIN u.profile p WHERE u.id = :userId")
+    Optional<AggregateVersion> findVersionByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE Profile p SET p.version = p.version + 1, p.updatedAt = :now WHERE p.id IN :profileIds")
+    int touch(@Param("profileIds") Collection<Long> profileIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Profile p SET p.version = p.version + 1, p.updatedAt = :now WHERE p.profileImage.id IN :profileImageIds")
+    int touchByImages(@Param("profileImageIds") Collection<Long> profileImageIds, @Param("now") LocalDateTime now);
 }
@@ -1,11 +1,24 @@
 package com.coderscenter.backend.repositories;
 
+import com.coderscenter.backend.dtos.schedule.ScheduleDayRow;
+import com.coderscenter.backend.dtos.schedule.ScheduleViewHeader;
+import com.coderscenter.backend.dtos.schedule.ScheduleWeekRow;
+import com.coderscenter.backend.dtos.version.AggregateVersion;
 import com.coderscenter.backend.entities.schedule_management.Schedule;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +31,70 @@ public interface ScheduleRepository  extends JpaRepository<Schedule, Long> {
            "LEFT JOIN FETCH s.weeks " +
            "WHERE s.scheduleId = :scheduleId")
     Optional<Schedule> findByIdWithWeeks(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * Fetch plan for the optimizer: group and weeks are joined, days and slots follow as one subselect each
+     */
+    @EntityGraph(attributePaths = {"group", "weeks"})
+    @Query("SELECT s FROM Schedule s WHERE s.scheduleId = :scheduleId")
+    Optional<Schedule> findByIdForOptimization(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * Same fetch plan as {@link #findByIdForOptimization} for the schedules of all active groups
+     */
+    @EntityGraph(attributePaths = {"group", "weeks"})
+    @Query("SELECT s FROM Schedule s WHERE s.group.isActive = true ORDER BY s.scheduleId")
+    List<Schedule> findAllActiveForOptimization();
+
+    /**
+     * Lock the schedule row until the end of the transaction, serializes writers that number per-schedule records
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Schedule s WHERE s.scheduleId = :scheduleId")
+    Optional<Schedule> lockById(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * Read model of a schedule: header with group and program in one row
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.schedule.ScheduleViewHeader(s.scheduleId, g.groupId, g.name, g.startDate, " +
+           "g.endDate, g.isActive, p.programId, p.duration, p.type) " +
+           "FROM Schedule s LEFT JOIN s.group g LEFT JOIN g.program p WHERE s.scheduleId = :scheduleId")
+    Optional<ScheduleViewHeader> findViewHeader(@Param("scheduleId") Long scheduleId);
+
+    @Query("SELECT new com.coderscenter.backend.dtos.schedule.ScheduleWeekRow(w.weekId, w.label, w.weekStartDate) " +
+           "FROM Week w WHERE w.schedule.scheduleId = :scheduleId ORDER BY w.weekStartDate, w.weekId")
+    List<ScheduleWeekRow> findWeekRows(@Param("scheduleId") Long scheduleId);
+
+    @Query("SELECT new com.coderscenter.backend.dtos.schedule.ScheduleDayRow(d.dayId, w.weekId, d.label, d.dayDate) " +
+           "FROM Day d JOIN d.week w WHERE w.schedule.scheduleId = :scheduleId ORDER BY d.dayDate, d.dayId")
+    List<ScheduleDayRow> findDayRows(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * Keyset page: the next schedules after the given id.
+     */
+    Slice<Schedule> findByScheduleIdGreaterThanOrderByScheduleIdAsc(Long scheduleId, Pageable pageable);
+
+    /**
+     * Version of a schedule combined with the version of its group, whose data the schedule responses embed
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.version.AggregateVersion(s.version, s.updatedAt, g.version, g.updatedAt) " +
+           "FROM Schedule s LEFT JOIN s.group g WHERE s.scheduleId = :scheduleId")
+    Optional<AggregateVersion> findVersion(@Param("scheduleId") Long scheduleId);
+
+    @Modifying
+    @Query("UPDATE Schedule s SET s.version = s.version + 1, s.updatedAt = :now WHERE s.scheduleId IN :scheduleIds")
+    int touch(@Param("scheduleIds") Collection<Long> scheduleIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Schedules with a slot taught by one of the trainers, they show the trainer's name
+     */
+    @Modifying
+    @Query("UPDATE Schedule s SET s.version = s.version + 1, s.updatedAt = :now WHERE s.scheduleId IN " +
+           "(SELECT w.schedule.scheduleId FROM Slot sl JOIN sl.day d JOIN d.week w WHERE sl.employee.id IN :employeeIds)")
+    int touchBySlotEmployees(@Param("employeeIds") Collection<Long> employeeIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Schedule s SET s.version = s.version + 1, s.updatedAt = :now WHERE s.scheduleId IN " +
+           "(SELECT w.schedule.scheduleId FROM Slot sl JOIN sl.day d JOIN d.week w WHERE sl.subject.subjectId IN :subjectIds)")
+    int touchBySlotSubjects(@Param("subjectIds") Collection<Long> subjectIds, @Param("now") LocalDateTime now);
 }
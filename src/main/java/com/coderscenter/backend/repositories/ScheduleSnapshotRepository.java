@@ -0,0 +1,28 @@
+package com.coderscenter.backend.repositories;
+
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleSnapshotDTO;
+import com.coderscenter.backend.entities.schedule_management.ScheduleSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduleSnapshotRepository extends JpaRepository<ScheduleSnapshot, Long> {
+
+    Optional<ScheduleSnapshot> findByScheduleIdAndVersion(Long scheduleId, Integer version);
+
+    @Query("SELECT COALESCE(MAX(s.version), 0) FROM ScheduleSnapshot s WHERE s.scheduleId = :scheduleId")
+    int findLatestVersion(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * Metadata of all snapshots of a schedule, newest first, without the packed assignments.
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.schedule.ResponseScheduleSnapshotDTO(s.snapshotId, s.scheduleId, s.version, " +
+            "s.source, s.jobId, s.score, s.createdAt, s.slotCount, s.assignedSlots) " +
+            "FROM ScheduleSnapshot s WHERE s.scheduleId = :scheduleId ORDER BY s.version DESC")
+    List<ResponseScheduleSnapshotDTO> findSummaries(@Param("scheduleId") Long scheduleId);
+}
@@ -1,9 +1,99 @@
 package com.coderscenter.backend.repositories;
 
+import com.coderscenter.backend.dtos.schedule.ScheduleSlotRow;
+import com.coderscenter.backend.dtos.slot.SlotBooking;
+import com.coderscenter.backend.dtos.slot.SlotCalendarRow;
+import com.coderscenter.backend.dtos.slot.SlotPlacement;
 import com.coderscenter.backend.entities.schedule_management.Slot;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
-public interface SlotRepository extends JpaRepository<Slot, Long> {
+public interface SlotRepository extends JpaRepository<Slot, Long>, SlotRepositoryCustom {
+
+    /**
+     * Time range and trainer of every slot, without loading the entities.
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.slot.SlotBooking(s.slotId, e.id, s.startDate, s.endDate) " +
+            "FROM Slot s LEFT JOIN s.employee e")
+    List<SlotBooking> findAllBookings();
+
+    /**
+     * Group, subject, time range and trainer of one slot in a single query.
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.slot.SlotPlacement(s.slotId, g.groupId, sub.subjectId, e.id, s.startDate, s.endDate) " +
+            "FROM Slot s JOIN s.day d JOIN d.week w JOIN w.schedule sc JOIN sc.group g " +
+            "LEFT JOIN s.subject sub LEFT JOIN s.employee e WHERE s.slotId = :slotId")
+    Optional<SlotPlacement> findPlacement(@Param("slotId") Long slotId);
+
+    /**
+     * All slots of a schedule with subject and trainer as ids, ordered by start time.
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.schedule.ScheduleSlotRow(s.slotId, d.dayId, s.slotTopic, s.startDate, s.endDate, " +
+            "sub.subjectId, e.id, s.locked) " +
+            "FROM Slot s JOIN s.day d JOIN d.week w LEFT JOIN s.subject sub LEFT JOIN s.employee e " +
+            "WHERE w.schedule.scheduleId = :scheduleId ORDER BY s.startDate, s.slotId")
+    List<ScheduleSlotRow> findViewRows(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * Ids of the locked slots of a schedule, their trainer is kept by optimizations and rollbacks.
+     */
+    @Query("SELECT s.slotId FROM Slot s JOIN s.day d JOIN d.week w WHERE w.schedule.scheduleId = :scheduleId AND s.locked = true")
+    Set<Long> findLockedSlotIds(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * Slots starting in [from, to), optionally of one trainer and one group. Every filter is skipped when null.
+     */
+    @Query(value = "SELECT s FROM Slot s JOIN s.day d JOIN d.week w JOIN w.schedule sc LEFT JOIN s.employee e " +
+            "WHERE (:from IS NULL OR s.startDate >= :from) AND (:to IS NULL OR s.startDate < :to) " +
+            "AND (:employeeId IS NULL OR e.id = :employeeId) AND (:groupId IS NULL OR sc.group.groupId = :groupId)",
+            countQuery = "SELECT COUNT(s) FROM Slot s JOIN s.day d JOIN d.week w JOIN w.schedule sc LEFT JOIN s.employee e " +
+            "WHERE (:from IS NULL OR s.startDate >= :from) AND (:to IS NULL OR s.startDate < :to) " +
+            "AND (:employeeId IS NULL OR e.id = :employeeId) AND (:groupId IS NULL OR sc.group.groupId = :groupId)")
+    Page<Slot> findFiltered(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                            @Param("employeeId") Long employeeId, @Param("groupId") Long groupId, Pageable pageable);
+
+    /**
+     * Keyset page of {@link #findFiltered}: the next matching slots after the given id.
+     */
+    @Query("SELECT s FROM Slot s JOIN s.day d JOIN d.week w JOIN w.schedule sc LEFT JOIN s.employee e " +
+            "WHERE s.slotId > :afterId " +
+            "AND (:from IS NULL OR s.startDate >= :from) AND (:to IS NULL OR s.startDate < :to) " +
+            "AND (:employeeId IS NULL OR e.id = :employeeId) AND (:groupId IS NULL OR sc.group.groupId = :groupId) " +
+            "ORDER BY s.slotId")
+    Slice<Slot> findFilteredAfter(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                  @Param("employeeId") Long employeeId, @Param("groupId") Long groupId,
+                                  @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Slots of one trainer starting in [from, to), ordered by start time.
+     * Served by a single range scan of idx_slot_employee_start, the joins only look up the day, group and subject by id.
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.slot.SlotCalendarRow(s.slotId, s.startDate, s.endDate, s.slotTopic, " +
+            "sub.subjectId, sub.name, e.id, e.firstName, e.lastName, d.dayId, g.groupId, g.name, s.locked) " +
+            "FROM Slot s JOIN s.employee e JOIN s.day d JOIN d.week w JOIN w.schedule sc JOIN sc.group g LEFT JOIN s.subject sub " +
+            "WHERE e.id = :employeeId AND s.startDate >= :from AND s.startDate < :to ORDER BY s.startDate")
+    List<SlotCalendarRow> findTrainerCalendar(@Param("employeeId") Long employeeId,
+                                              @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Slots of one group starting in [from, to), ordered by start time. The slots of each day are read via idx_slot_day_start.
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.slot.SlotCalendarRow(s.slotId, s.startDate, s.endDate, s.slotTopic, " +
+            "sub.subjectId, sub.name, e.id, e.firstName, e.lastName, d.dayId, g.groupId, g.name, s.locked) " +
+            "FROM Slot s JOIN s.day d JOIN d.week w JOIN w.schedule sc JOIN sc.group g LEFT JOIN s.subject sub LEFT JOIN s.employee e " +
+            "WHERE g.groupId = :groupId AND d.dayDate >= :from AND d.dayDate < :to " +
+            "AND s.startDate >= :from AND s.startDate < :to ORDER BY s.startDate, s.slotId")
+    List<SlotCalendarRow> findGroupCalendar(@Param("groupId") Long groupId,
+                                            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,29 @@
+package com.coderscenter.backend.repositories;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+public interface SlotRepositoryCustom {
+
+    /**
+     * Fingerprint over id, trainer, subject, times and lock flag of all slots of a schedule.
+     * @param scheduleId schedule to fingerprint
+     * @param lock lock the slot rows until the end of the transaction
+     * @return hex encoded SHA-256 hash
+     */
+    String calculateScheduleRevision(Long scheduleId, boolean lock);
+
+    /**
+     * Set slot.employee_id for many slots with one JDBC batch, locked slots are skipped.
+     * @param assignments slotId -> employeeId
+     * @return number of slots whose trainer actually changed
+     */
+    int batchUpdateEmployees(Map<Long, Long> assignments);
+
+    /**
+     * Current trainer of every slot of a schedule.
+     * @param scheduleId schedule to read
+     * @return slotId -> employeeId ordered by slotId, employeeId is null for unassigned slots
+     */
+    SortedMap<Long, Long> findEmployeeAssignments(Long scheduleId);
+}
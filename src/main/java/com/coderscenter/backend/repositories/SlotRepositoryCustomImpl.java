@@ -0,0 +1,77 @@
+package com.coderscenter.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class SlotRepositoryCustomImpl implements SlotRepositoryCustom {
+
+    private static final String REVISION_SQL =
+            "SELECT s.slot_id, s.employee_id, s.subject_id, s.start_date, s.end_date, s.locked " +
+            "FROM slot s " +
+            "JOIN days d ON s.day_id = d.day_id " +
+            "JOIN week w ON d.week_id = w.week_id " +
+            "WHERE w.schedule_id = ? " +
+            "ORDER BY s.slot_id";
+
+    private static final String ASSIGNMENTS_SQL =
+            "SELECT s.slot_id, s.employee_id " +
+            "FROM slot s " +
+            "JOIN days d ON s.day_id = d.day_id " +
+            "JOIN week w ON d.week_id = w.week_id " +
+            "WHERE w.schedule_id = ?";
+
+    // Nur geänderte Zeilen schreiben, damit der Rückgabewert die tatsächlichen Änderungen zählt; gesperrte Slots bleiben unverändert
+    private static final String UPDATE_EMPLOYEE_SQL =
+            "UPDATE slot SET employee_id = ?, updated_at = LOCALTIMESTAMP " +
+            "WHERE slot_id = ? AND locked = false AND (employee_id IS NULL OR employee_id <> ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String calculateScheduleRevision(Long scheduleId, boolean lock) {
+        MessageDigest digest = sha256();
+        jdbcTemplate.query(lock ? REVISION_SQL + " FOR UPDATE" : REVISION_SQL, rs -> {
+            String row = rs.getLong(1) + "|" + rs.getObject(2) + "|" + rs.getObject(3) + "|"
+                    + rs.getTimestamp(4) + "|" + rs.getTimestamp(5) + "|" + rs.getBoolean(6) + ";";
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+        }, scheduleId);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    public int batchUpdateEmployees(Map<Long, Long> assignments) {
+        List<Object[]> batchArgs = new ArrayList<>(assignments.size());
+        assignments.forEach((slotId, employeeId) -> batchArgs.add(new Object[]{employeeId, slotId, employeeId}));
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_EMPLOYEE_SQL, batchArgs);
+        return Arrays.stream(updated).map(count -> Math.max(count, 0)).sum();
+    }
+
+    @Override
+    public SortedMap<Long, Long> findEmployeeAssignments(Long scheduleId) {
+        SortedMap<Long, Long> assignments = new TreeMap<>();
+        jdbcTemplate.query(ASSIGNMENTS_SQL, rs -> {
+            assignments.put(rs.getLong(1), rs.getObject(2, Long.class));
+        }, scheduleId);
+        return assignments;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.coderscenter.backend.repositories;
 
 import com.coderscenter.backend.entities.profile.Student;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Student findStudentByUser_Id(Long userId);
+
+    /**
+     * Keyset page: the next students after the given id.
+     */
+    Slice<Student> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
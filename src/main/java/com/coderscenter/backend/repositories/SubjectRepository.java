@@ -1,9 +1,24 @@
 package com.coderscenter.backend.repositories;
 
+import com.coderscenter.backend.dtos.subject.ResponseSubjectDTO;
 import com.coderscenter.backend.entities.group_management.Subject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface SubjectRepository  extends JpaRepository<Subject, Long> {
+
+    /**
+     * Subjects taught in a schedule or assigned to its group as a course, each once.
+     */
+    @Query("SELECT new com.coderscenter.backend.dtos.subject.ResponseSubjectDTO(sub.subjectId, sub.name) FROM Subject sub " +
+            "WHERE sub.subjectId IN (SELECT s.subject.subjectId FROM Slot s WHERE s.day.week.schedule.scheduleId = :scheduleId) " +
+            "OR sub.subjectId IN (SELECT c.subject.subjectId FROM Course_Subject_Employee_in c, Schedule sc " +
+            "WHERE sc.scheduleId = :scheduleId AND c.group = sc.group) " +
+            "ORDER BY sub.name, sub.subjectId")
+    List<ResponseSubjectDTO> findScheduleSubjects(@Param("scheduleId") Long scheduleId);
 }
@@ -0,0 +1,30 @@
+package com.coderscenter.backend.repositories;
+
+import com.coderscenter.backend.entities.notification.TrainerNotification;
+import com.coderscenter.backend.enums.NotificationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TrainerNotificationRepository extends JpaRepository<TrainerNotification, Long>, TrainerNotificationRepositoryCustom {
+
+    List<TrainerNotification> findByStatusAndNextAttemptAtLessThanEqualOrderByNotificationIdAsc(NotificationStatus status, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TrainerNotification n SET n.status = com.coderscenter.backend.enums.NotificationStatus.SENT, n.sentAt = :sentAt " +
+            "WHERE n.notificationId IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE TrainerNotification n SET n.status = :status, n.attempts = :attempts, n.nextAttemptAt = :nextAttemptAt, " +
+            "n.lastError = :lastError WHERE n.notificationId IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("status") NotificationStatus status, @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+}
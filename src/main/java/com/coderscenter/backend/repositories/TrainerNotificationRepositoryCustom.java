@@ -0,0 +1,14 @@
+package com.coderscenter.backend.repositories;
+
+import com.coderscenter.backend.entities.notification.TrainerNotification;
+
+import java.util.List;
+
+public interface TrainerNotificationRepositoryCustom {
+
+    /**
+     * Insert many outbox entries with one JDBC batch.
+     * @param notifications entries without id
+     */
+    void batchInsert(List<TrainerNotification> notifications);
+}
@@ -0,0 +1,34 @@
+package com.coderscenter.backend.repositories;
+
+import com.coderscenter.backend.entities.notification.TrainerNotification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TrainerNotificationRepositoryCustomImpl implements TrainerNotificationRepositoryCustom {
+
+    // IDENTITY ids prevent Hibernate from batching the inserts, an optimization may enqueue hundreds of entries
+    private static final String INSERT_SQL =
+            "INSERT INTO trainer_notification (employee_id, slot_id, change_type, start_date, end_date, status, attempts, created_at, next_attempt_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<TrainerNotification> notifications) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, 500, (ps, notification) -> {
+            ps.setLong(1, notification.getEmployeeId());
+            ps.setLong(2, notification.getSlotId());
+            ps.setString(3, notification.getChangeType().name());
+            ps.setTimestamp(4, notification.getStartDate() != null ? Timestamp.valueOf(notification.getStartDate()) : null);
+            ps.setTimestamp(5, notification.getEndDate() != null ? Timestamp.valueOf(notification.getEndDate()) : null);
+            ps.setString(6, notification.getStatus().name());
+            ps.setInt(7, notification.getAttempts());
+            ps.setTimestamp(8, Timestamp.valueOf(notification.getCreatedAt()));
+            ps.setTimestamp(9, Timestamp.valueOf(notification.getNextAttemptAt()));
+        });
+    }
+}
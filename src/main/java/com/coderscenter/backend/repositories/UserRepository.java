@@ -2,6 +2,8 @@ package com.coderscenter.backend.repositories;
 
 import com.coderscenter.backend.entities.profile.User;
 import com.coderscenter.backend.enums.Role;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,4 +16,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsernameOrEmail(String username, String email);
     
     List<User> findByRole(Role role);
+
+    /**
+     * Keyset page: the next users after the given id.
+     */
+    Slice<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
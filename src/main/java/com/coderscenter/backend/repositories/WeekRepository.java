@@ -1,10 +1,16 @@
 package com.coderscenter.backend.repositories;
 
 import com.coderscenter.backend.entities.schedule_management.Week;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface WeekRepository extends JpaRepository<Week, Long> {
 
+    /**
+     * Keyset page: the next weeks after the given id.
+     */
+    Slice<Week> findByWeekIdGreaterThanOrderByWeekIdAsc(Long weekId, Pageable pageable);
 }
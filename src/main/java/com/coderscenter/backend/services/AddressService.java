@@ -1,5 +1,6 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.config.CacheConfig;
 import com.coderscenter.backend.dtos.address.request.RequestAddressDTO;
 import com.coderscenter.backend.dtos.address.response.ResponseAddressDTO;
 import com.coderscenter.backend.entities.profile.Address;
@@ -7,6 +8,7 @@ import com.coderscenter.backend.exceptions.ResourceNotFoundException;
 import com.coderscenter.backend.mapper.AddressMapper;
 import com.coderscenter.backend.repositories.AddressRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -65,6 +67,7 @@ public class AddressService {
      * @return {@link ResponseAddressDTO} of the updated address
      * @throws ResourceNotFoundException if address with the given id does not exist
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
     public ResponseAddressDTO updateAddress (Long addressId, RequestAddressDTO requestAddressDTO) {
         Address address = addressRepository.findById(addressId)
                 .orElseThrow(() -> new ResourceNotFoundException("Adresse mit der ID " + addressId + " nicht gefunden"));
@@ -88,6 +91,7 @@ public class AddressService {
      * @param addressId id of the address to be deleted
      * @throws ResourceNotFoundException if address with the given id does not exist
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
     public void deleteAddressById (Long addressId) {
         Address address = addressRepository.findById(addressId)
                 .orElseThrow(() -> new ResourceNotFoundException("Adresse mit der ID " + addressId + " nicht gefunden"));
@@ -1,17 +1,26 @@
 package com.coderscenter.backend.services;
 
 import com.coderscenter.backend.dtos.attendance.RequestAttendanceDTO;
+import com.coderscenter.backend.dtos.attendance.RequestAttendanceFilterDTO;
 import com.coderscenter.backend.dtos.attendance.ResponseAttendanceDTO;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.entities.management.Attendance;
 import com.coderscenter.backend.entities.profile.Student;
+import com.coderscenter.backend.exceptions.InvalidDateRangeException;
 import com.coderscenter.backend.mapper.AttendanceMapper;
 import com.coderscenter.backend.repositories.AttendanceRepository;
 import com.coderscenter.backend.repositories.StudentRepository;
 import com.coderscenter.backend.services.helperService.DateParseService;
+import com.coderscenter.backend.services.helperService.PagingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,18 +32,25 @@ public class AttendanceService {
     private final StudentRepository studentRepository;
     private final AttendanceMapper attendanceMapper;
     private final DateParseService dateParseService;
-
-    public List<ResponseAttendanceDTO> getAllAttendances() {
-
-        List<Attendance> attendances = attendanceRepository.findAll();
-        List<ResponseAttendanceDTO> responseAttendances = new ArrayList<>();
-
-        attendances.forEach(attendance -> {
-            responseAttendances.add(attendanceMapper.toResponseDTO(attendance));
-        });
-
-        return responseAttendances;
-
+    private final PagingService pagingService;
+
+    /**
+     * One page of attendances, newest date first, optionally limited to a date range.
+     * @throws InvalidDateRangeException if a date is not dd.MM.yyyy or the range is reversed
+     */
+    @Transactional(readOnly = true)
+    public ResponsePageDTO<Object> getAllAttendances(RequestPageDTO pageRequest, RequestAttendanceFilterDTO filter) {
+        RequestAttendanceFilterDTO attendanceFilter = filter != null ? filter : new RequestAttendanceFilterDTO();
+        LocalDate from = parseFilterDate(attendanceFilter.getFrom());
+        LocalDate to = parseFilterDate(attendanceFilter.getTo());
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new InvalidDateRangeException("Enddatum darf nicht vor dem Startdatum liegen.");
+        }
+        return pagingService.page(pageRequest, ResponseAttendanceDTO.class, Sort.by(Sort.Order.desc("date"), Sort.Order.asc("attendanceId")),
+                pageable -> attendanceRepository.findFiltered(from, to, pageable),
+                (afterId, pageable) -> attendanceRepository.findFilteredAfter(from, to, afterId, pageable),
+                Attendance::getAttendanceId,
+                attendanceMapper::toResponseDTO);
     }
 
     public ResponseAttendanceDTO getAttendanceById(Long id) {
@@ -105,4 +121,14 @@ public class AttendanceService {
         return  "Eintrag mit id " + id + " erfolgreich gelöscht!";
     }
 
+    private LocalDate parseFilterDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return dateParseService.stringToLocalDate(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateRangeException("Ungültiges Datum " + date + ", erwartet wird dd.MM.yyyy.");
+        }
+    }
 }
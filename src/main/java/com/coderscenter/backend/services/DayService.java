@@ -2,6 +2,8 @@ package com.coderscenter.backend.services;
 
 import com.coderscenter.backend.dtos.day.RequestDayDTO;
 import com.coderscenter.backend.dtos.day.ResponseDayDTO;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.entities.schedule_management.Day;
 import com.coderscenter.backend.entities.schedule_management.Slot;
 import com.coderscenter.backend.entities.schedule_management.Week;
@@ -9,9 +11,12 @@ import com.coderscenter.backend.mapper.DayMapper;
 import com.coderscenter.backend.repositories.DayRepository;
 import com.coderscenter.backend.repositories.WeekRepository;
 import com.coderscenter.backend.services.helperService.DateParseService;
+import com.coderscenter.backend.services.helperService.PagingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,16 +30,18 @@ public class DayService {
     private final SlotService slotService;
     private final DayMapper dayMapper;
     private final DateParseService dateParseService;
-
-    public List<ResponseDayDTO> getAllDays() {
-        List<ResponseDayDTO> responseDayDTOList = new ArrayList<>();
-        List<Day> days = dayRepository.findAll();
-
-        days.forEach(day -> {
-            responseDayDTOList.add(dayMapper.toResponseDTO(day));
-        });
-
-        return responseDayDTOList;
+    private final PagingService pagingService;
+
+    /**
+     * One page of all days, ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public ResponsePageDTO<Object> getAllDays(RequestPageDTO pageRequest) {
+        return pagingService.page(pageRequest, ResponseDayDTO.class, Sort.by("dayId"),
+                dayRepository::findAll,
+                dayRepository::findByDayIdGreaterThanOrderByDayIdAsc,
+                Day::getDayId,
+                dayMapper::toResponseDTO);
     }
 
     public ResponseDayDTO getDayById(Long id)  {
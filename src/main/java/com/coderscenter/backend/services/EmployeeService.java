@@ -1,9 +1,14 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.components.AggregateVersionTracker;
+import com.coderscenter.backend.components.TrainerAvailabilityIndex;
+import com.coderscenter.backend.config.CacheConfig;
 import com.coderscenter.backend.dtos.address.response.ResponseAddressDTO;
 import com.coderscenter.backend.dtos.employee.request.RequestEmployeeDTO;
 import com.coderscenter.backend.dtos.employee.request.UpdateEmployeeDTO;
 import com.coderscenter.backend.dtos.employee.response.ResponseEmployeeDTO;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.entities.group_management.Subject;
 import com.coderscenter.backend.entities.profile.Address;
 import com.coderscenter.backend.entities.profile.Employee;
@@ -14,10 +19,13 @@ import com.coderscenter.backend.repositories.AddressRepository;
 import com.coderscenter.backend.repositories.EmployeeRepository;
 import com.coderscenter.backend.repositories.SubjectRepository;
 import com.coderscenter.backend.repositories.UserRepository;
+import com.coderscenter.backend.services.helperService.PagingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -30,17 +38,23 @@ public class EmployeeService {
     private final SubjectRepository subjectRepository;
     private final AddressService addressService;
     private final EmployeeMapper employeeMapper;
+    private final TrainerAvailabilityIndex trainerAvailabilityIndex;
+    private final AggregateVersionTracker aggregateVersionTracker;
+    private final PagingService pagingService;
 
     /**
-     * Get all employees from the database and return them as DTOs.
+     * Get one page of employees from the database and return them as DTOs, ordered by id.
      *
-     * @return List of {@link ResponseEmployeeDTO}
+     * @param pageRequest page, size, cursor and fields, see {@link PagingService}
+     * @return {@link ResponsePageDTO} of {@link ResponseEmployeeDTO}
      */
-    public List<ResponseEmployeeDTO> getAllEmployees() {
-        List<Employee> employees = employeeRepository.findAll();
-        List<ResponseEmployeeDTO> responseEmployeeDTOs = new ArrayList<>();
-        employees.forEach(e -> responseEmployeeDTOs.add(employeeMapper.toResponseDTO(e)));
-        return responseEmployeeDTOs;
+    @Transactional(readOnly = true)
+    public ResponsePageDTO<Object> getAllEmployees(RequestPageDTO pageRequest) {
+        return pagingService.page(pageRequest, ResponseEmployeeDTO.class, Sort.by("id"),
+                employeeRepository::findAll,
+                employeeRepository::findByIdGreaterThanOrderByIdAsc,
+                Employee::getId,
+                employeeMapper::toResponseDTO);
     }
 
     /**
@@ -102,6 +116,8 @@ public class EmployeeService {
      * @throws UserNotFoundException     if user not found
      * @throws EmployeeNotFoundException if employee not found
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, key = "#employeeId")
+    @Transactional
     public ResponseEmployeeDTO connectUserAndEmployee(Long employeeId, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Kein User mit ID " + userId + " gefunden"));
@@ -123,6 +139,8 @@ public class EmployeeService {
      * @return {@link ResponseEmployeeDTO} with updated details
      * @throws EmployeeNotFoundException if employee not found
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, key = "#employeeId")
+    @Transactional
     public ResponseEmployeeDTO updateEmployee(Long employeeId, UpdateEmployeeDTO dto) {
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee mit ID " + employeeId + " nicht gefunden"));
@@ -144,6 +162,9 @@ public class EmployeeService {
         if (dto.getSubjects() != null) {
             List<Subject> subjects = subjectRepository.findAllById(dto.getSubjects());
             employee.setSubjects(subjects);
+            // A change of the subjects alone does not fire the entity listener
+            trainerAvailabilityIndex.invalidateAfterCommit();
+            aggregateVersionTracker.touchOnCommit(AggregateVersionTracker.Target.EMPLOYEE, employeeId);
         }
 
         employeeRepository.save(employee);
@@ -156,6 +177,8 @@ public class EmployeeService {
      * @param id of the employee
      * @throws EmployeeNotFoundException if employee not found
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, key = "#id")
+    @Transactional
     public void deleteEmployee(Long id) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee mit ID " + id + " nicht gefunden"));
@@ -1,5 +1,6 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.components.AggregateVersionTracker;
 import com.coderscenter.backend.dtos.course.ResponseCourseDTO;
 import com.coderscenter.backend.dtos.course.ResponseSubjectWithEmployeeDTO;
 import com.coderscenter.backend.dtos.employee.response.ResponseEmployeeDTO;
@@ -8,6 +9,7 @@ import com.coderscenter.backend.dtos.group.request.RequestGroupDTO;
 import com.coderscenter.backend.dtos.group.response.ResponseGroupDTO;
 import com.coderscenter.backend.dtos.group.response.ResponseGroupWithListDTO;
 import com.coderscenter.backend.dtos.subject.ResponseSubjectDTO;
+import com.coderscenter.backend.dtos.version.AggregateVersion;
 import com.coderscenter.backend.entities.group_management.Group;
 import com.coderscenter.backend.entities.group_management.Program;
 import com.coderscenter.backend.entities.group_management.Subject;
@@ -25,8 +27,11 @@ import com.coderscenter.backend.services.helperService.DateParseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -41,6 +46,7 @@ public class GroupService {
     private final DateParseService dateParseService;
     private final SubjectMapper subjectMapper;
     private final EmployeeMapper employeeMapper;
+    private final AggregateVersionTracker aggregateVersionTracker;
 
 
     public List<ResponseGroupWithListDTO> getAllGroups() {
@@ -53,6 +59,20 @@ public class GroupService {
         return ResponseGroupDTOs;
     }
 
+    /**
+     * Version of the list of all groups, changes with every group, course, student or trainer change.
+     */
+    public AggregateVersion getGroupListVersion() {
+        return groupRepository.findListVersion();
+    }
+
+    /**
+     * Version of a group with its students, courses, trainers and program, empty if the group does not exist.
+     */
+    public Optional<AggregateVersion> findGroupVersion(Long id) {
+        return groupRepository.findVersion(id);
+    }
+
     public ResponseGroupWithListDTO getGroupById(long id) throws EmptyOptionalException {
         Optional<Group> group = groupRepository.findById(id);
         if (group.isPresent()) {
@@ -70,7 +90,7 @@ public class GroupService {
 
         for (Course_Subject_Employee_in course : group.getCourses()) {
             Long subjectId = course.getSubject().getSubjectId();
-            ResponseEmployeeDTO employeeDTO = employeeMapper.toResponseDTO(course.getEmployee());
+            ResponseEmployeeDTO employeeDTO = employeeMapper.toCachedResponseDTO(course.getEmployee());
 
             subjectMap.compute(subjectId, (k, v) -> {
                 if (v == null) {
@@ -126,17 +146,29 @@ public class GroupService {
         throw new EmptyOptionalException("Unexpected empty Optional","/api/admin/group/" + id);
     }
 
+    /**
+     * Assign trainers per subject and students to a group. Subjects, trainers with their subjects and students
+     * are loaded with one query each instead of one lookup per id.
+     */
+    @Transactional
     public ResponseGroupWithListDTO assignToGroup(Long id, AssingDTO assingDTO) throws EmptyOptionalException {
 
         //Trainer und Facher zugewiesen
         Optional<Group> group = groupRepository.findById(id);
         if (group.isPresent()) {
-            for(Long subjectId : assingDTO.getSubjectEmployee().keySet()){
-                Subject subject = subjectRepository.findById(subjectId).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechendes Fach in der Datenbank gefunden!"));
+            Map<Long, List<Long>> subjectEmployee = assingDTO.getSubjectEmployee();
+            Map<Long, Subject> subjectsById = subjectRepository.findAllById(subjectEmployee.keySet()).stream()
+                    .collect(Collectors.toMap(Subject::getSubjectId, Function.identity()));
+            Map<Long, Employee> employeesById = employeeRepository.findAllWithSubjectsById(subjectEmployee.values().stream()
+                            .flatMap(List::stream).collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+            for(Long subjectId : subjectEmployee.keySet()){
+                Subject subject = Optional.ofNullable(subjectsById.get(subjectId)).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechendes Fach in der Datenbank gefunden!"));
 
-                List<Long> employeeIds = assingDTO.getSubjectEmployee().get(subjectId);
+                List<Long> employeeIds = subjectEmployee.get(subjectId);
                 for (Long employeeId : employeeIds){
-                    Employee employee = employeeRepository.findById(employeeId).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Trainer in der Datenbank gefunden!"));
+                    Employee employee = Optional.ofNullable(employeesById.get(employeeId)).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Trainer in der Datenbank gefunden!"));
 
                     if (!employee.getSubjects().contains(subject)) {
                         throw new SubjectNotMatchException("The Trainer does not teach the Subject","/api/admin/group/" + id);
@@ -147,8 +179,14 @@ public class GroupService {
 
             }
             //Teilnehmer zuweisen
+            Map<Long, Student> studentsById = studentRepository.findAllById(assingDTO.getStudents()).stream()
+                    .collect(Collectors.toMap(Student::getId, Function.identity()));
             assingDTO.getStudents().forEach(studentId -> {
-                Student student = studentRepository.findById(studentId).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Teilnehmer in der Datenbank gefunden!"));
+                Student student = Optional.ofNullable(studentsById.get(studentId)).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Teilnehmer in der Datenbank gefunden!"));
+                if (student.getGroup() != null) {
+                    // The listener only sees the new group of a moved student
+                    aggregateVersionTracker.touchOnCommit(AggregateVersionTracker.Target.GROUP, student.getGroup().getGroupId());
+                }
                 student.setGroup(group.get());
                 group.get().getStudents().add(student);
 
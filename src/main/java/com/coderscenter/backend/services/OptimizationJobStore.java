@@ -0,0 +1,212 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.components.OptimizationEventBroadcaster;
+import com.coderscenter.backend.dtos.optimization.OptimizationJobResponse;
+import com.coderscenter.backend.dtos.optimization.ScoreExplanationResponse;
+import com.coderscenter.backend.entities.optimization.OptimizationJob;
+import com.coderscenter.backend.mapper.OptimizationJobMapper;
+import com.coderscenter.backend.repositories.OptimizationJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistenter Speicher für Optimierungsjobs.
+ * Laufende Jobs bleiben bis zu ihrem Abschluss im Speicher, weil ihr Solver-Thread sie laufend aktualisiert.
+ * Abgeschlossene Jobs liegen in der Datenbank und zusätzlich in einem begrenzten Hot-Cache mit TTL.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OptimizationJobStore {
+
+    private static final Set<String> FINISHED_STATUSES = Set.of("completed", "failed", "cancelled");
+    private static final List<String> ACTIVE_STATUSES = List.of("queued", "running");
+
+    private final OptimizationJobRepository optimizationJobRepository;
+    private final OptimizationJobMapper optimizationJobMapper;
+    private final OptimizationEventBroadcaster optimizationEventBroadcaster;
+
+    @Value("${optimization.job-cache.max-size:200}")
+    private int maxCacheSize;
+
+    @Value("${optimization.job-cache.ttl-minutes:60}")
+    private long cacheTtlMinutes;
+
+    private final Map<String, OptimizationJobResponse> activeJobs = new ConcurrentHashMap<>();
+
+    // Access-order, damit beim Überschreiten der Größe der am längsten ungenutzte Job verdrängt wird
+    private final LinkedHashMap<String, CachedJob> finishedJobs = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedJob> eldest) {
+            return size() > maxCacheSize;
+        }
+    };
+
+    /**
+     * Mark jobs that were queued or running when the application stopped as failed.
+     * Their solver threads are gone, without this they would stay active in the database forever.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OptimizationJob> interrupted = ACTIVE_STATUSES.stream()
+                .flatMap(status -> optimizationJobRepository.findByStatus(status).stream())
+                .filter(job -> !activeJobs.containsKey(job.getJobId()))
+                .toList();
+        interrupted.forEach(job -> {
+            job.setStatus("failed");
+            job.setCompletedAt(now);
+            job.setFeasible(false);
+            job.setMessage("Optimierung durch einen Neustart des Servers abgebrochen, bitte erneut starten");
+        });
+        if (!interrupted.isEmpty()) {
+            log.warn("Marked {} optimization jobs interrupted by the restart as failed", interrupted.size());
+        }
+    }
+
+    /**
+     * Persist the current state of a job, keep it in the matching in-memory tier and notify stream subscribers.
+     * @param job job state to store
+     * @return the stored job
+     */
+    @Transactional
+    public OptimizationJobResponse save(OptimizationJobResponse job) {
+        OptimizationJob entity = optimizationJobRepository.findById(job.getJobId())
+                .orElseGet(() -> OptimizationJob.builder().jobId(job.getJobId()).build());
+        optimizationJobMapper.updateEntity(entity, job);
+        optimizationJobRepository.save(entity);
+
+        if (isFinished(job)) {
+            activeJobs.remove(job.getJobId());
+            cache(job);
+            optimizationEventBroadcaster.publishSummary(job);
+        } else {
+            activeJobs.put(job.getJobId(), job);
+            optimizationEventBroadcaster.publishProgress(job);
+        }
+        return job;
+    }
+
+    /**
+     * Find a job by id without loading its solution table.
+     * @param jobId id of the job
+     * @return the job if it exists in memory or in the database
+     */
+    @Transactional(readOnly = true)
+    public Optional<OptimizationJobResponse> find(String jobId) {
+        OptimizationJobResponse job = lookupInMemory(jobId);
+        if (job != null) {
+            return Optional.of(job);
+        }
+        return optimizationJobRepository.findById(jobId)
+                .map(entity -> optimizationJobMapper.toResponseDTO(entity, false))
+                .map(this::cacheIfFinished);
+    }
+
+    /**
+     * Find a job by id including its slotId -> employeeId solution.
+     * @param jobId id of the job
+     * @return the job with {@link OptimizationJobResponse#getOptimizedAssignments()} populated if present
+     */
+    @Transactional(readOnly = true)
+    public Optional<OptimizationJobResponse> findWithSolution(String jobId) {
+        OptimizationJobResponse job = lookupInMemory(jobId);
+        if (job != null && (job.getOptimizedAssignments() != null || !isFinished(job))) {
+            return Optional.of(job);
+        }
+        return optimizationJobRepository.findById(jobId)
+                .map(entity -> optimizationJobMapper.toResponseDTO(entity, true))
+                .map(this::cacheIfFinished);
+    }
+
+    /**
+     * Find the score explanation that was computed when the job completed.
+     * A job loaded from the database keeps the explanation in the hot cache afterwards.
+     * @param jobId id of the job
+     * @return the explanation, empty if the job does not exist or has none (not completed)
+     */
+    @Transactional(readOnly = true)
+    public Optional<ScoreExplanationResponse> findExplanation(String jobId) {
+        OptimizationJobResponse job = lookupInMemory(jobId);
+        if (job != null && (job.getExplanation() != null || !isFinished(job))) {
+            return Optional.ofNullable(job.getExplanation());
+        }
+        return optimizationJobRepository.findById(jobId)
+                .map(entity -> {
+                    OptimizationJobResponse loaded = optimizationJobMapper.toResponseDTO(entity, false);
+                    loaded.setExplanation(optimizationJobMapper.toExplanationDTO(entity));
+                    return cacheIfFinished(loaded);
+                })
+                .map(OptimizationJobResponse::getExplanation);
+    }
+
+    /**
+     * Jobs that are currently queued or running on this instance.
+     */
+    public Collection<OptimizationJobResponse> getActiveJobs() {
+        return Collections.unmodifiableCollection(activeJobs.values());
+    }
+
+    @Transactional(readOnly = true)
+    public List<OptimizationJobResponse> findRecent() {
+        Map<String, OptimizationJobResponse> jobs = new LinkedHashMap<>();
+        activeJobs.values().forEach(job -> jobs.put(job.getJobId(), job));
+        optimizationJobRepository.findTop50ByOrderByCreatedAtDesc()
+                .forEach(entity -> jobs.putIfAbsent(entity.getJobId(), optimizationJobMapper.toResponseDTO(entity, false)));
+        return new ArrayList<>(jobs.values());
+    }
+
+    public boolean isFinished(OptimizationJobResponse job) {
+        return FINISHED_STATUSES.contains(job.getStatus());
+    }
+
+    private OptimizationJobResponse lookupInMemory(String jobId) {
+        OptimizationJobResponse active = activeJobs.get(jobId);
+        if (active != null) {
+            return active;
+        }
+        synchronized (finishedJobs) {
+            CachedJob cached = finishedJobs.get(jobId);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.isExpired()) {
+                finishedJobs.remove(jobId);
+                return null;
+            }
+            return cached.job();
+        }
+    }
+
+    private OptimizationJobResponse cacheIfFinished(OptimizationJobResponse job) {
+        if (isFinished(job)) {
+            cache(job);
+        }
+        return job;
+    }
+
+    private void cache(OptimizationJobResponse job) {
+        long expiresAt = System.nanoTime() + Duration.ofMinutes(cacheTtlMinutes).toNanos();
+        synchronized (finishedJobs) {
+            finishedJobs.values().removeIf(CachedJob::isExpired);
+            finishedJobs.put(job.getJobId(), new CachedJob(job, expiresAt));
+        }
+    }
+
+    private record CachedJob(OptimizationJobResponse job, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
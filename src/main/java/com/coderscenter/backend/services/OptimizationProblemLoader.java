@@ -0,0 +1,82 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.mapper.SchedulePlanningMapper;
+import com.coderscenter.backend.optaplanner.domain.PlanningScope;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.repositories.EmployeeRepository;
+import com.coderscenter.backend.repositories.ScheduleRepository;
+import com.coderscenter.backend.repositories.SlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Lädt Schedule und Trainer für eine Optimierung in einer festen Anzahl Queries
+ * und übersetzt sie noch innerhalb der Transaktion in das Planungsproblem.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OptimizationProblemLoader {
+
+    private final ScheduleRepository scheduleRepository;
+    private final EmployeeRepository employeeRepository;
+    private final SlotRepository slotRepository;
+    private final SchedulePlanningMapper schedulePlanningMapper;
+
+    /**
+     * Load a schedule and all trainers and map them to the planning problem.
+     * Trainers are loaded first, so the slots' employee references resolve from the persistence context.
+     * @param scheduleId schedule to optimize
+     * @param scope which slots the solver may change
+     * @return the unsolved planning solution and the schedule revision it was built from
+     */
+    @Transactional(readOnly = true)
+    public LoadedProblem loadProblem(Long scheduleId, PlanningScope scope) {
+        List<Employee> employees = employeeRepository.findAllForOptimization();
+        Schedule schedule = scheduleRepository.findByIdForOptimization(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("Schedule not found: " + scheduleId));
+
+        log.info("Loaded schedule {} with {} weeks and {} employees for optimization",
+                scheduleId, schedule.getWeeks().size(), employees.size());
+
+        String scheduleRevision = slotRepository.calculateScheduleRevision(scheduleId, false);
+        return new LoadedProblem(schedulePlanningMapper.toSolution(schedule, employees, scope), scheduleRevision);
+    }
+
+    /**
+     * Load the schedules of all active groups into one planning problem with a shared trainer range.
+     * @param scope which slots the solver may change
+     * @return the unsolved planning solution and the revision of every schedule it was built from
+     */
+    @Transactional(readOnly = true)
+    public LoadedBatchProblem loadActiveProblem(PlanningScope scope) {
+        List<Employee> employees = employeeRepository.findAllForOptimization();
+        List<Schedule> schedules = scheduleRepository.findAllActiveForOptimization();
+
+        log.info("Loaded {} active schedules and {} employees for optimization", schedules.size(), employees.size());
+
+        List<PlannedSchedule> plannedSchedules = schedules.stream()
+                .map(schedule -> new PlannedSchedule(
+                        schedule.getScheduleId(),
+                        schedule.getGroup().getGroupId(),
+                        schedule.getGroup().getName(),
+                        slotRepository.calculateScheduleRevision(schedule.getScheduleId(), false)))
+                .toList();
+        return new LoadedBatchProblem(schedulePlanningMapper.toSolution(schedules, employees, scope), plannedSchedules);
+    }
+
+    public record LoadedProblem(ScheduleSolution solution, String scheduleRevision) {
+    }
+
+    public record LoadedBatchProblem(ScheduleSolution solution, List<PlannedSchedule> schedules) {
+    }
+
+    public record PlannedSchedule(Long scheduleId, Long groupId, String groupName, String scheduleRevision) {
+    }
+}
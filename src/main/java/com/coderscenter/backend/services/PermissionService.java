@@ -1,5 +1,6 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.config.CacheConfig;
 import com.coderscenter.backend.dtos.permission.RequestPermissionDTO;
 import com.coderscenter.backend.dtos.permission.ResponsePermissionDTO;
 import com.coderscenter.backend.entities.profile.Permission;
@@ -10,6 +11,9 @@ import com.coderscenter.backend.exceptions.ResourceNotFoundException;
 import com.coderscenter.backend.mapper.PermissionMapper;
 import com.coderscenter.backend.repositories.PermissionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -25,6 +29,7 @@ public class PermissionService {
      * Get all permissions from the database
      * @return list of {@link ResponsePermissionDTO}
      */
+    @Cacheable(cacheNames = CacheConfig.PERMISSIONS, key = "'all'")
     public List<ResponsePermissionDTO> getAllPermissions() {
         return permissionRepository.findAll()
                 .stream()
@@ -38,6 +43,7 @@ public class PermissionService {
      * @return {@link ResponsePermissionDTO} of the permission
      * @throws ResourceNotFoundException if the permission is not found
      */
+    @Cacheable(cacheNames = CacheConfig.PERMISSIONS, key = "#permissionId")
     public ResponsePermissionDTO getPermissionById(Long permissionId) {
         Permission permission = permissionRepository.findById(permissionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Permission mit der ID " + permissionId + " nicht gefunden."));
@@ -51,6 +57,7 @@ public class PermissionService {
      * @return {@link ResponsePermissionDTO} of the created permission
      * @throws InvalidPermissionTypeException if the permission name is not a valid {@link PermissionType}
      */
+    @CacheEvict(cacheNames = CacheConfig.PERMISSIONS, allEntries = true)
     public ResponsePermissionDTO createPermission(RequestPermissionDTO permissionDTO) {
         PermissionType type = parsePermissionType(permissionDTO.getName());
 
@@ -77,6 +84,10 @@ public class PermissionService {
      * @throws ResourceNotFoundException if permission with the given ID does not exist
      * @throws InvalidPermissionTypeException if the provided name is not a valid {@link PermissionType}
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PERMISSIONS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
+    })
     public ResponsePermissionDTO updatePermission(Long id, RequestPermissionDTO permissionDTO) {
         Permission permission = permissionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Permission mit ID " + id + " nicht gefunden"));
@@ -107,6 +118,10 @@ public class PermissionService {
      * @param id ID of the permission to delete
      * @throws ResourceNotFoundException if permission with the given ID does not exist
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PERMISSIONS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
+    })
     public void deletePermission(Long id) {
         Permission permission = permissionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Permission mit ID " + id + " nicht gefunden"));
@@ -1,5 +1,6 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.config.CacheConfig;
 import com.coderscenter.backend.entities.profile.Profile;
 import com.coderscenter.backend.entities.profile.ProfileImage;
 import com.coderscenter.backend.exceptions.InvalidFileTypeException;
@@ -8,6 +9,7 @@ import com.coderscenter.backend.repositories.ProfileImageRepository;
 import com.coderscenter.backend.repositories.ProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -42,6 +44,7 @@ public class ProfileImageService {
      * @throws ProfileNotFoundException if profile with given ID does not exist
      * @throws InvalidFileTypeException if the file type is not allowed
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
     public String uploadImage(Long profileId, MultipartFile file) throws IOException {
         validateMimeType(file);
         Profile profile = profileRepository.findById(profileId)
@@ -108,6 +111,7 @@ public class ProfileImageService {
      * @throws IOException              if file deletion fails
      * @throws ProfileNotFoundException if profile with given ID does not exist
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
     public void deleteProfileImage(Long profileId) throws IOException {
         Profile profile = profileRepository.findById(profileId)
                 .orElseThrow(() -> new ProfileNotFoundException("Profil mit der ID " + profileId + " nicht gefunden"));
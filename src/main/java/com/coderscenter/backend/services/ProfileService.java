@@ -1,7 +1,9 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.config.CacheConfig;
 import com.coderscenter.backend.dtos.profile.RequestProfileDTO;
 import com.coderscenter.backend.dtos.profile.ResponseProfileDTO;
+import com.coderscenter.backend.dtos.version.AggregateVersion;
 import com.coderscenter.backend.entities.profile.Profile;
 import com.coderscenter.backend.entities.profile.User;
 import com.coderscenter.backend.exceptions.ProfileNotFoundException;
@@ -10,12 +12,14 @@ import com.coderscenter.backend.mapper.ProfileMapper;
 import com.coderscenter.backend.repositories.ProfileRepository;
 import com.coderscenter.backend.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +39,14 @@ public class ProfileService {
                 .toList();
     }
 
+    /**
+     * Version of the profile of a user, empty if the user or the profile does not exist
+     * @param userId id of the user
+     */
+    public Optional<AggregateVersion> findProfileVersion(Long userId) {
+        return profileRepository.findVersionByUserId(userId);
+    }
+
     /**
      * Get profile by user id
      * @param userId id of the user
@@ -60,6 +72,7 @@ public class ProfileService {
      * @return {@link ResponseProfileDTO} with updated profile data
      * @throws ProfileNotFoundException if profile with given id does not exist
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
     public ResponseProfileDTO updateProfile(Long profileId, RequestProfileDTO requestProfileDTO) {
         Profile profile = profileRepository.findById(profileId)
                 .orElseThrow(() -> new ProfileNotFoundException("Profil mit der ID " + profileId + " nicht gefunden"));
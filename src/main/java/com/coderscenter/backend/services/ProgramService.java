@@ -1,5 +1,6 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.config.CacheConfig;
 import com.coderscenter.backend.dtos.program.RequestProgramDTO;
 import com.coderscenter.backend.dtos.program.ResponseProgramDTO;
 import com.coderscenter.backend.dtos.subject.RequestSubjectDTO;
@@ -12,6 +13,8 @@ import com.coderscenter.backend.mapper.ProgramMapper;
 import com.coderscenter.backend.repositories.GroupRepository;
 import com.coderscenter.backend.repositories.ProgramRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
@@ -27,6 +30,7 @@ public class ProgramService {
     private final ProgramMapper programMapper;
     private final GroupRepository groupRepository;
 
+    @Cacheable(cacheNames = CacheConfig.PROGRAMS, key = "'all'")
     public List<ResponseProgramDTO> getAllPrograms() {
         List<Program> programs = programRepository.findAll();
         List<ResponseProgramDTO> ResponseProgramDTOs = new ArrayList<>();
@@ -37,6 +41,7 @@ public class ProgramService {
         return ResponseProgramDTOs;
     }
 
+    @Cacheable(cacheNames = CacheConfig.PROGRAMS, key = "#id")
     public ResponseProgramDTO getProgramById(long id) throws EmptyOptionalException {
         Optional<Program> program = programRepository.findById(id);
         if (program.isPresent()) {
@@ -45,6 +50,7 @@ public class ProgramService {
         throw new EmptyOptionalException("Unexpected empty Optional","/api/admin/program/" + id);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PROGRAMS, allEntries = true)
     public ResponseProgramDTO createNew(RequestProgramDTO requestProgramDTO) throws EmptyOptionalException {
 
         Program program = Program.builder()
@@ -58,6 +64,7 @@ public class ProgramService {
         return programMapper.toResponseDTO(program);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PROGRAMS, allEntries = true)
     public ResponseProgramDTO updateProgram  ( long id, RequestProgramDTO requestProgramDTO) throws EmptyOptionalException {
         Optional<Program> program = programRepository.findById(id);
         if (program.isPresent()) {
@@ -71,6 +78,7 @@ public class ProgramService {
         throw new EmptyOptionalException("Unexpected empty Optional","/api/admin/program");
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PROGRAMS, allEntries = true)
     public String deleteProgram(long id) throws EmptyOptionalException {
         Optional<Program> program = programRepository.findById(id);
         if (program.isPresent()) {
@@ -1,21 +1,40 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.dtos.schedule.RequestScheduleDTO;
 import com.coderscenter.backend.dtos.schedule.ResponseScheduleDTO;
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleViewDTO;
+import com.coderscenter.backend.dtos.schedule.ScheduleViewHeader;
+import com.coderscenter.backend.dtos.slot.RequestSlotDTO;
+import com.coderscenter.backend.dtos.slot.ResponseSlotDTO;
+import com.coderscenter.backend.dtos.slot.SlotConflictDTO;
+import com.coderscenter.backend.dtos.version.AggregateVersion;
 import com.coderscenter.backend.dtos.week.RequestWeekDTO;
+import com.coderscenter.backend.dtos.week.ResponseWeekDTO;
 import com.coderscenter.backend.entities.group_management.Group;
 import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.entities.schedule_management.Slot;
 import com.coderscenter.backend.entities.schedule_management.Week;
+import com.coderscenter.backend.exceptions.ResourceNotFoundException;
 import com.coderscenter.backend.mapper.ScheduleMapper;
+import com.coderscenter.backend.mapper.ScheduleViewMapper;
 import com.coderscenter.backend.mapper.WeekMapper;
 import com.coderscenter.backend.repositories.GroupRepository;
+import com.coderscenter.backend.repositories.EmployeeRepository;
 import com.coderscenter.backend.repositories.ScheduleRepository;
+import com.coderscenter.backend.repositories.SlotRepository;
+import com.coderscenter.backend.repositories.SubjectRepository;
+import com.coderscenter.backend.services.helperService.PagingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,19 +43,54 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final GroupRepository groupRepository;
     private final WeekService weekService;
+    private final SlotService slotService;
     private final WeekMapper weekMapper;
     private final ScheduleMapper scheduleMapper;
+    private final ScheduleViewMapper scheduleViewMapper;
+    private final SlotRepository slotRepository;
+    private final EmployeeRepository employeeRepository;
+    private final SubjectRepository subjectRepository;
+    private final PagingService pagingService;
+
+    /**
+     * One page of all schedules with their full tree, ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public ResponsePageDTO<Object> getAllSchedules(RequestPageDTO pageRequest) {
+        return pagingService.page(pageRequest, ResponseScheduleDTO.class, Sort.by("scheduleId"),
+                scheduleRepository::findAll,
+                scheduleRepository::findByScheduleIdGreaterThanOrderByScheduleIdAsc,
+                Schedule::getScheduleId,
+                scheduleMapper::toResponseDTO);
+    }
 
-    public List<ResponseScheduleDTO> getAllSchedules() {
-        
-        List<ResponseScheduleDTO> responseScheduleDTOList = new ArrayList<>();
-        scheduleRepository.findAll().forEach(schedule -> {
-            responseScheduleDTOList.add(scheduleMapper.toResponseDTO(schedule));
-        });
-        
-        return responseScheduleDTOList;
+    /**
+     * Version of a schedule with its weeks, days, slots and group, empty if the schedule does not exist.
+     */
+    public Optional<AggregateVersion> findScheduleVersion(Long id) {
+        return scheduleRepository.findVersion(id);
     }
 
+    /**
+     * Read model of a schedule in a fixed number of queries: weeks, days and slots as flat rows,
+     * trainers and subjects once each, slots reference them by id.
+     * @throws ResourceNotFoundException if the schedule does not exist
+     */
+    @Transactional(readOnly = true)
+    public ResponseScheduleViewDTO getScheduleView(Long id) {
+        ScheduleViewHeader header = scheduleRepository.findViewHeader(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Stundenplan mit ID " + id + " nicht gefunden"));
+        return scheduleViewMapper.toResponseDTO(header,
+                scheduleRepository.findWeekRows(id),
+                scheduleRepository.findDayRows(id),
+                slotRepository.findViewRows(id),
+                employeeRepository.findScheduleTrainers(id),
+                subjectRepository.findScheduleSubjects(id));
+    }
+
+    /**
+     * Full entity tree with nested group, employees and subjects per slot.
+     */
     public ResponseScheduleDTO getScheduleById(Long id) {
         
         Schedule schedule = scheduleRepository.findById(id).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Schedule in der Datenbank gefunden!"));
@@ -58,20 +112,27 @@ public class ScheduleService {
         });
 
         schedule.setWeeks(weeks);
+        List<List<SlotConflictDTO>> conflicts = slotService.checkNewSlots(requestedSlots(requestScheduleDTO.getWeeks()), slotsOf(weeks));
         scheduleRepository.save(schedule);
 
-        return scheduleMapper.toResponseDTO(schedule);
+        ResponseScheduleDTO response = scheduleMapper.toResponseDTO(schedule);
+        setConflicts(response.getWeeks(), conflicts);
+        return response;
     }
 
 
     public ResponseScheduleDTO addWeek(Long id, RequestWeekDTO requestWeekDTO) {
         Schedule schedule = scheduleRepository.findById(id).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Schedule in der Datenbank gefunden!"));
         Week week = weekService.createNew(requestWeekDTO, schedule);
+        List<List<SlotConflictDTO>> conflicts = slotService.checkNewSlots(requestedSlots(List.of(requestWeekDTO)), slotsOf(List.of(week)));
 
         schedule.getWeeks().add(week);
         scheduleRepository.save(schedule);
 
-        return scheduleMapper.toResponseDTO(schedule);
+        ResponseScheduleDTO response = scheduleMapper.toResponseDTO(schedule);
+        // The new week is the last one of the response
+        setConflicts(response.getWeeks().subList(response.getWeeks().size() - 1, response.getWeeks().size()), conflicts);
+        return response;
     }
 
     public String deleteSchedule(Long id) {
@@ -80,4 +141,31 @@ public class ScheduleService {
         return "Schedule " + id + " successfully deleted!";
 
     }
+
+    private List<RequestSlotDTO> requestedSlots(List<RequestWeekDTO> weeks) {
+        return weeks.stream()
+                .flatMap(week -> week.getDays().stream())
+                .flatMap(day -> day.getSlots().stream())
+                .toList();
+    }
+
+    private List<Slot> slotsOf(List<Week> weeks) {
+        return weeks.stream()
+                .flatMap(week -> week.getDays().stream())
+                .flatMap(day -> day.getSlots().stream())
+                .toList();
+    }
+
+    // The mappers keep the order of weeks, days and slots, so the n-th slot of the response is the n-th requested slot
+    private void setConflicts(List<ResponseWeekDTO> weeks, List<List<SlotConflictDTO>> conflicts) {
+        List<ResponseSlotDTO> slots = weeks.stream()
+                .flatMap(week -> week.getDays().stream())
+                .flatMap(day -> day.getSlots().stream())
+                .toList();
+        for (int i = 0; i < slots.size(); i++) {
+            if (!conflicts.get(i).isEmpty()) {
+                slots.get(i).setConflicts(conflicts.get(i));
+            }
+        }
+    }
 }
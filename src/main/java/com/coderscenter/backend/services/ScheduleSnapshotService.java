@@ -0,0 +1,237 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.components.AggregateVersionTracker;
+import com.coderscenter.backend.components.TrainerBookingIndex;
+import com.coderscenter.backend.dtos.optimization.OptimizationJobResponse;
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleDiffDTO;
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleSnapshotDTO;
+import com.coderscenter.backend.dtos.schedule.ResponseSnapshotRollbackDTO;
+import com.coderscenter.backend.dtos.schedule.SlotAssignmentChangeDTO;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.entities.schedule_management.ScheduleSnapshot;
+import com.coderscenter.backend.enums.SlotChangeType;
+import com.coderscenter.backend.enums.SnapshotSource;
+import com.coderscenter.backend.exceptions.ResourceNotFoundException;
+import com.coderscenter.backend.mapper.ScheduleSnapshotMapper;
+import com.coderscenter.backend.repositories.EmployeeRepository;
+import com.coderscenter.backend.repositories.ScheduleRepository;
+import com.coderscenter.backend.repositories.ScheduleSnapshotRepository;
+import com.coderscenter.backend.repositories.SlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Versionierte Stände der Trainerzuweisungen je Stundenplan.
+ * Abgeschlossene Optimierungen und der Stand vor jedem Anwenden werden automatisch gesichert,
+ * so lassen sich zwei Stände oder ein Stand und der aktuelle Stundenplan vergleichen und frühere Zuweisungen wiederherstellen.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleSnapshotService {
+
+    private final ScheduleSnapshotRepository scheduleSnapshotRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SlotRepository slotRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ScheduleSnapshotMapper scheduleSnapshotMapper;
+    private final TrainerBookingIndex trainerBookingIndex;
+    private final TrainerNotificationService trainerNotificationService;
+    private final AggregateVersionTracker aggregateVersionTracker;
+
+    /**
+     * Store the current assignments of a schedule as a new version.
+     */
+    @Transactional
+    public ResponseScheduleSnapshotDTO createSnapshot(Long scheduleId, SnapshotSource source, String jobId) {
+        requireSchedule(scheduleId);
+        return scheduleSnapshotMapper.toResponseDTO(
+                save(scheduleId, source, jobId, null, slotRepository.findEmployeeAssignments(scheduleId)));
+    }
+
+    /**
+     * Store the result of a completed job as one snapshot per planned schedule. Slots outside the planning window
+     * keep their current trainer, so every snapshot describes the whole schedule.
+     */
+    @Transactional
+    public List<ResponseScheduleSnapshotDTO> createOptimizationSnapshots(OptimizationJobResponse job) {
+        List<ResponseScheduleSnapshotDTO> snapshots = new ArrayList<>();
+        for (Long scheduleId : plannedSchedules(job)) {
+            SortedMap<Long, Long> assignments = slotRepository.findEmployeeAssignments(scheduleId);
+            assignments.replaceAll((slotId, employeeId) -> job.getOptimizedAssignments().getOrDefault(slotId, employeeId));
+            snapshots.add(scheduleSnapshotMapper.toResponseDTO(
+                    save(scheduleId, SnapshotSource.OPTIMIZATION, job.getJobId(), job.getScore(), assignments)));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Store the current state of every schedule a job is about to change.
+     * @return slotId -> employeeId of all these schedules before the change
+     */
+    @Transactional
+    public Map<Long, Long> createBackupBeforeApply(OptimizationJobResponse job) {
+        Map<Long, Long> previous = new HashMap<>();
+        for (Long scheduleId : plannedSchedules(job)) {
+            SortedMap<Long, Long> assignments = slotRepository.findEmployeeAssignments(scheduleId);
+            save(scheduleId, SnapshotSource.BEFORE_APPLY, job.getJobId(), null, assignments);
+            previous.putAll(assignments);
+        }
+        return previous;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResponseScheduleSnapshotDTO> getSnapshots(Long scheduleId) {
+        requireSchedule(scheduleId);
+        return scheduleSnapshotRepository.findSummaries(scheduleId);
+    }
+
+    /**
+     * Slots whose trainer differs between two states of a schedule.
+     * @param version target snapshot
+     * @param baseVersion snapshot to compare against, null for the live schedule
+     */
+    @Transactional(readOnly = true)
+    public ResponseScheduleDiffDTO diff(Long scheduleId, Integer version, Integer baseVersion) {
+        SortedMap<Long, Long> target = decode(findSnapshot(scheduleId, version));
+        SortedMap<Long, Long> base = baseVersion != null
+                ? decode(findSnapshot(scheduleId, baseVersion))
+                : slotRepository.findEmployeeAssignments(scheduleId);
+        List<SlotAssignmentChangeDTO> changes = diff(base, target);
+        return ResponseScheduleDiffDTO.builder()
+                .scheduleId(scheduleId)
+                .baseVersion(baseVersion)
+                .targetVersion(version)
+                .changedSlots(changes.size())
+                .changes(changes)
+                .build();
+    }
+
+    /**
+     * Give every slot of the schedule the trainer it had in a snapshot. The state before is stored as a new version first.
+     * Slots deleted since the snapshot, slots unassigned in it, locked slots and trainers that no longer exist are skipped.
+     */
+    @Transactional
+    public ResponseSnapshotRollbackDTO rollback(Long scheduleId, Integer version) {
+        ScheduleSnapshot snapshot = findSnapshot(scheduleId, version);
+        // Lock the slot rows, the same as applying an optimization
+        slotRepository.calculateScheduleRevision(scheduleId, true);
+        SortedMap<Long, Long> live = slotRepository.findEmployeeAssignments(scheduleId);
+        List<SlotAssignmentChangeDTO> changes = diff(live, decode(snapshot));
+
+        Set<Long> existingEmployees = employeeRepository.findAllById(changes.stream()
+                        .map(SlotAssignmentChangeDTO::getToEmployeeId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().map(Employee::getId).collect(Collectors.toSet());
+        Set<Long> lockedSlots = slotRepository.findLockedSlotIds(scheduleId);
+        List<SlotAssignmentChangeDTO> applicable = changes.stream()
+                .filter(change -> change.getType() == SlotChangeType.CHANGED)
+                .filter(change -> !lockedSlots.contains(change.getSlotId()))
+                .filter(change -> existingEmployees.contains(change.getToEmployeeId()))
+                .toList();
+
+        Integer backupVersion = null;
+        if (!applicable.isEmpty()) {
+            backupVersion = save(scheduleId, SnapshotSource.BEFORE_ROLLBACK, null, null, live).getVersion();
+            Map<Long, Long> updates = new HashMap<>();
+            applicable.forEach(change -> updates.put(change.getSlotId(), change.getToEmployeeId()));
+            slotRepository.batchUpdateEmployees(updates);
+            trainerBookingIndex.reassignAfterCommit(updates);
+            aggregateVersionTracker.touchSchedulesOnCommit(List.of(scheduleId));
+            trainerNotificationService.enqueueReassignments(live, updates);
+        }
+        log.info("Rolled back schedule {} to snapshot version {}: {} slots changed, {} skipped",
+                scheduleId, version, applicable.size(), changes.size() - applicable.size());
+
+        return ResponseSnapshotRollbackDTO.builder()
+                .scheduleId(scheduleId)
+                .restoredVersion(version)
+                .backupVersion(backupVersion)
+                .changedSlots(applicable.size())
+                .skippedSlots(changes.size() - applicable.size())
+                .changes(applicable)
+                .build();
+    }
+
+    private ScheduleSnapshot save(Long scheduleId, SnapshotSource source, String jobId, String score, SortedMap<Long, Long> assignments) {
+        // Completion snapshots, apply backups and rollbacks of one schedule can run at the same time;
+        // without the lock two of them would read the same latest version and one would hit the unique constraint
+        scheduleRepository.lockById(scheduleId);
+        ScheduleSnapshot snapshot = scheduleSnapshotRepository.save(ScheduleSnapshot.builder()
+                .scheduleId(scheduleId)
+                .version(scheduleSnapshotRepository.findLatestVersion(scheduleId) + 1)
+                .source(source)
+                .jobId(jobId)
+                .score(score)
+                .createdAt(LocalDateTime.now())
+                .slotCount(assignments.size())
+                .assignedSlots((int) assignments.values().stream().filter(Objects::nonNull).count())
+                .assignments(scheduleSnapshotMapper.encode(assignments))
+                .build());
+        log.info("Stored {} snapshot version {} of schedule {} ({} slots, {} bytes)",
+                source, snapshot.getVersion(), scheduleId, snapshot.getSlotCount(), snapshot.getAssignments().length);
+        return snapshot;
+    }
+
+    // Both maps are ordered by slotId, so one merge pass finds every difference
+    private List<SlotAssignmentChangeDTO> diff(SortedMap<Long, Long> base, SortedMap<Long, Long> target) {
+        List<SlotAssignmentChangeDTO> changes = new ArrayList<>();
+        Iterator<Map.Entry<Long, Long>> baseEntries = base.entrySet().iterator();
+        Iterator<Map.Entry<Long, Long>> targetEntries = target.entrySet().iterator();
+        Map.Entry<Long, Long> from = baseEntries.hasNext() ? baseEntries.next() : null;
+        Map.Entry<Long, Long> to = targetEntries.hasNext() ? targetEntries.next() : null;
+        while (from != null || to != null) {
+            int order = from == null ? 1 : to == null ? -1 : Long.compare(from.getKey(), to.getKey());
+            if (order < 0) {
+                changes.add(change(from.getKey(), SlotChangeType.REMOVED, from.getValue(), null));
+                from = baseEntries.hasNext() ? baseEntries.next() : null;
+            } else if (order > 0) {
+                changes.add(change(to.getKey(), SlotChangeType.ADDED, null, to.getValue()));
+                to = targetEntries.hasNext() ? targetEntries.next() : null;
+            } else {
+                if (!Objects.equals(from.getValue(), to.getValue())) {
+                    changes.add(change(from.getKey(), SlotChangeType.CHANGED, from.getValue(), to.getValue()));
+                }
+                from = baseEntries.hasNext() ? baseEntries.next() : null;
+                to = targetEntries.hasNext() ? targetEntries.next() : null;
+            }
+        }
+        return changes;
+    }
+
+    private SlotAssignmentChangeDTO change(Long slotId, SlotChangeType type, Long fromEmployeeId, Long toEmployeeId) {
+        return SlotAssignmentChangeDTO.builder()
+                .slotId(slotId)
+                .type(type)
+                .fromEmployeeId(fromEmployeeId)
+                .toEmployeeId(toEmployeeId)
+                .build();
+    }
+
+    private List<Long> plannedSchedules(OptimizationJobResponse job) {
+        if (job.getScheduleIds() != null && !job.getScheduleIds().isEmpty()) {
+            return job.getScheduleIds();
+        }
+        return job.getScheduleId() != null ? List.of(job.getScheduleId()) : List.of();
+    }
+
+    private SortedMap<Long, Long> decode(ScheduleSnapshot snapshot) {
+        return scheduleSnapshotMapper.decode(snapshot.getAssignments());
+    }
+
+    private ScheduleSnapshot findSnapshot(Long scheduleId, Integer version) {
+        return scheduleSnapshotRepository.findByScheduleIdAndVersion(scheduleId, version)
+                .orElseThrow(() -> new ResourceNotFoundException("Snapshot " + version + " von Stundenplan " + scheduleId + " nicht gefunden"));
+    }
+
+    private void requireSchedule(Long scheduleId) {
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new ResourceNotFoundException("Stundenplan mit ID " + scheduleId + " nicht gefunden");
+        }
+    }
+}
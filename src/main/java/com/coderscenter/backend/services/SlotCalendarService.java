@@ -0,0 +1,154 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.dtos.schedule.ScheduleDayRow;
+import com.coderscenter.backend.dtos.slot.FreeTimeWindow;
+import com.coderscenter.backend.dtos.slot.SlotCalendarRow;
+import com.coderscenter.backend.exceptions.InvalidDateRangeException;
+import com.coderscenter.backend.repositories.DayRepository;
+import com.coderscenter.backend.repositories.SlotRepository;
+import com.coderscenter.backend.services.helperService.DateParseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Kalenderansichten über einen Datumsbereich: Slots eines Trainers, Slots einer Gruppe und die freien Zeiten im Raum einer Gruppe.
+ * Jede Ansicht wird mit einer Abfrage über die Indizes auf (employee_id, start_date) bzw. (day_id, start_date) beantwortet
+ * und liefert kompakte Zeilen statt vollständiger Slot-DTOs.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotCalendarService {
+
+    private final SlotRepository slotRepository;
+    private final DayRepository dayRepository;
+    private final DateParseService dateParseService;
+
+    @Value("${calendar.max-days:93}")
+    private int maxDays;
+
+    @Value("${calendar.day-start:08:00}")
+    private String dayStart;
+
+    @Value("${calendar.day-end:18:00}")
+    private String dayEnd;
+
+    /**
+     * Inclusive date range of a calendar request. Without dates it is the current week, without an end date the week from the start date.
+     */
+    public record DateRange(LocalDate from, LocalDate to) {
+
+        LocalDateTime start() {
+            return from.atStartOfDay();
+        }
+
+        LocalDateTime endExclusive() {
+            return to.plusDays(1).atStartOfDay();
+        }
+    }
+
+    /**
+     * Slots of a trainer in the range, ordered by start time. Unknown trainers have no slots.
+     * @throws InvalidDateRangeException if a date is not dd.MM.yyyy, the range is reversed or longer than calendar.max-days
+     */
+    @Transactional(readOnly = true)
+    public List<SlotCalendarRow> getTrainerCalendar(Long employeeId, String from, String to) {
+        DateRange range = parseRange(from, to);
+        return slotRepository.findTrainerCalendar(employeeId, range.start(), range.endExclusive());
+    }
+
+    /**
+     * Slots of a group in the range, ordered by start time. Unknown groups have no slots.
+     * @throws InvalidDateRangeException if a date is not dd.MM.yyyy, the range is reversed or longer than calendar.max-days
+     */
+    @Transactional(readOnly = true)
+    public List<SlotCalendarRow> getGroupCalendar(Long groupId, String from, String to) {
+        DateRange range = parseRange(from, to);
+        return slotRepository.findGroupCalendar(groupId, range.start(), range.endExclusive());
+    }
+
+    /**
+     * Gaps between the slots of every teaching day of a group in the range, within calendar.day-start and calendar.day-end.
+     * A day without slots is free as a whole, dates without a day in the schedule are not listed.
+     * @throws InvalidDateRangeException if a date is not dd.MM.yyyy, the range is reversed or longer than calendar.max-days
+     */
+    @Transactional(readOnly = true)
+    public List<FreeTimeWindow> getGroupFreeTime(Long groupId, String from, String to) {
+        DateRange range = parseRange(from, to);
+        List<ScheduleDayRow> days = dayRepository.findGroupDays(groupId, range.start(), range.endExclusive());
+        if (days.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<SlotCalendarRow>> slotsByDay = slotRepository.findGroupCalendar(groupId, range.start(), range.endExclusive()).stream()
+                .collect(Collectors.groupingBy(SlotCalendarRow::dayId));
+
+        LocalTime opening = LocalTime.parse(dayStart);
+        LocalTime closing = LocalTime.parse(dayEnd);
+        List<FreeTimeWindow> windows = new ArrayList<>();
+        for (ScheduleDayRow day : days) {
+            LocalDate date = day.dayDate().toLocalDate();
+            LocalDateTime free = date.atTime(opening);
+            LocalDateTime closesAt = date.atTime(closing);
+            // Slots are ordered by start time, so one pass finds every gap
+            for (SlotCalendarRow slot : slotsByDay.getOrDefault(day.dayId(), List.of())) {
+                if (slot.startDate().isAfter(free)) {
+                    addWindow(windows, day.dayId(), free, slot.startDate().isBefore(closesAt) ? slot.startDate() : closesAt);
+                }
+                if (slot.endDate().isAfter(free)) {
+                    free = slot.endDate();
+                }
+            }
+            addWindow(windows, day.dayId(), free, closesAt);
+        }
+        return windows;
+    }
+
+    private void addWindow(List<FreeTimeWindow> windows, Long dayId, LocalDateTime start, LocalDateTime end) {
+        if (start.isBefore(end)) {
+            windows.add(new FreeTimeWindow(dayId, start, end, Duration.between(start, end).toMinutes()));
+        }
+    }
+
+    private DateRange parseRange(String from, String to) {
+        LocalDate start = parseDate(from);
+        LocalDate end = parseDate(to);
+        if (start == null) {
+            start = (end != null ? end : LocalDate.now()).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        if (end == null) {
+            end = start.plusDays(6);
+        }
+        if (end.isBefore(start)) {
+            throw new InvalidDateRangeException("Enddatum darf nicht vor dem Startdatum liegen.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxDays) {
+            throw new InvalidDateRangeException("Der Zeitraum darf höchstens " + maxDays + " Tage umfassen.");
+        }
+        return new DateRange(start, end);
+    }
+
+    private LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return dateParseService.stringToLocalDate(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateRangeException("Ungültiges Datum " + date + ", erwartet wird dd.MM.yyyy.");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.components.TrainerAvailabilityIndex;
+import com.coderscenter.backend.components.TrainerAvailabilityIndex.TrainerProfile;
+import com.coderscenter.backend.components.TrainerBookingIndex;
+import com.coderscenter.backend.dtos.slot.ResponseSlotCandidateDTO;
+import com.coderscenter.backend.dtos.slot.SlotBooking;
+import com.coderscenter.backend.dtos.slot.SlotConflictDTO;
+import com.coderscenter.backend.dtos.slot.SlotPlacement;
+import com.coderscenter.backend.enums.SlotConflictType;
+import com.coderscenter.backend.exceptions.ResourceNotFoundException;
+import com.coderscenter.backend.repositories.SlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Schlägt Vertretungen für einen Slot vor und sortiert die Trainer nach Eignung:
+ * zuerst qualifizierte, verfügbare und freie Trainer, darunter Haupttrainer der Gruppe für das Fach,
+ * danach die mit der geringsten Auslastung in der Woche des Slots.
+ * Beantwortet wird aus {@link TrainerAvailabilityIndex} und {@link TrainerBookingIndex}, nur der Slot selbst wird abgefragt.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotCandidateService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    private static final Comparator<ResponseSlotCandidateDTO> BY_SUITABILITY = Comparator
+            .comparing(ResponseSlotCandidateDTO::isEligible).reversed()
+            .thenComparing(Comparator.comparing(ResponseSlotCandidateDTO::isMainTrainer).reversed())
+            .thenComparing(candidate -> candidate.getConflicts().size())
+            .thenComparingLong(ResponseSlotCandidateDTO::getWeeklyMinutes)
+            .thenComparingInt(ResponseSlotCandidateDTO::getWeeklySlots);
+
+    private final SlotRepository slotRepository;
+    private final TrainerAvailabilityIndex trainerAvailabilityIndex;
+    private final TrainerBookingIndex trainerBookingIndex;
+
+    /**
+     * Rank the trainers that could take over a slot. The currently assigned trainer is not listed.
+     * @param includeBlocked also list trainers that are not qualified, not available or booked at that time
+     * @param limit maximum number of candidates, null for all
+     * @throws ResourceNotFoundException if the slot does not exist
+     */
+    public List<ResponseSlotCandidateDTO> getCandidates(Long slotId, boolean includeBlocked, Integer limit) {
+        SlotPlacement slot = slotRepository.findPlacement(slotId)
+                .orElseThrow(() -> new ResourceNotFoundException("Slot mit ID " + slotId + " nicht gefunden"));
+        LocalDate date = slot.startDate().toLocalDate();
+        LocalDateTime weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        LocalDateTime weekEnd = weekStart.plusWeeks(1);
+
+        List<ResponseSlotCandidateDTO> candidates = new ArrayList<>();
+        for (TrainerProfile trainer : trainerAvailabilityIndex.getTrainers()) {
+            if (trainer.employeeId().equals(slot.employeeId())) {
+                continue;
+            }
+            List<SlotConflictDTO> conflicts = new ArrayList<>();
+            boolean qualified = trainer.isQualifiedFor(slot.subjectId());
+            if (!qualified) {
+                conflicts.add(conflict(SlotConflictType.NOT_QUALIFIED, null, SlotConflictType.NOT_QUALIFIED.getLabel()));
+            }
+            boolean available = trainer.isAvailableOn(date);
+            if (!available) {
+                conflicts.add(conflict(SlotConflictType.UNAVAILABLE, null, SlotConflictType.UNAVAILABLE.getLabel() + ": "
+                        + date.format(DATE_FORMATTER)));
+            }
+            List<SlotBooking> overlapping = trainerBookingIndex.findOverlapping(trainer.employeeId(), slot.startDate(), slot.endDate(), Set.of(slotId));
+            for (SlotBooking booking : overlapping) {
+                conflicts.add(conflict(SlotConflictType.DOUBLE_BOOKED, booking.slotId(), SlotConflictType.DOUBLE_BOOKED.getLabel() + ": "
+                        + booking.startDate().format(DATE_TIME_FORMATTER) + " - " + booking.endDate().format(DATE_TIME_FORMATTER)));
+            }
+            if (!includeBlocked && !conflicts.isEmpty()) {
+                continue;
+            }
+
+            List<SlotBooking> weekBookings = trainerBookingIndex.findStartingBetween(trainer.employeeId(), weekStart, weekEnd);
+            candidates.add(ResponseSlotCandidateDTO.builder()
+                    .employeeId(trainer.employeeId())
+                    .firstName(trainer.firstName())
+                    .lastName(trainer.lastName())
+                    .eligible(conflicts.isEmpty())
+                    .qualified(qualified)
+                    .available(available)
+                    .free(overlapping.isEmpty())
+                    .mainTrainer(trainerAvailabilityIndex.isMainTrainer(slot.groupId(), slot.subjectId(), trainer.employeeId()))
+                    .weeklySlots(weekBookings.size())
+                    .weeklyMinutes(weekBookings.stream()
+                            .mapToLong(booking -> Duration.between(booking.startDate(), booking.endDate()).toMinutes())
+                            .sum())
+                    .conflicts(conflicts)
+                    .build());
+        }
+
+        // Stable sort, equally suited trainers keep the alphabetical order of the index
+        candidates.sort(BY_SUITABILITY);
+        List<ResponseSlotCandidateDTO> ranked = limit != null && limit >= 0 && limit < candidates.size()
+                ? candidates.subList(0, limit)
+                : candidates;
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).setRank(i + 1);
+        }
+        return ranked;
+    }
+
+    private SlotConflictDTO conflict(SlotConflictType type, Long conflictingSlotId, String message) {
+        return SlotConflictDTO.builder()
+                .type(type)
+                .conflictingSlotId(conflictingSlotId)
+                .message(message)
+                .build();
+    }
+}
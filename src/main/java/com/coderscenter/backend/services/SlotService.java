@@ -1,13 +1,23 @@
 package com.coderscenter.backend.services;
 
-import com.coderscenter.backend.components.EmailRespondGenerator;
+import com.coderscenter.backend.components.TrainerBookingIndex;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.dtos.slot.RequestSlotDTO;
+import com.coderscenter.backend.dtos.slot.RequestSlotEditDTO;
+import com.coderscenter.backend.dtos.slot.RequestSlotFilterDTO;
 import com.coderscenter.backend.dtos.slot.ResponseSlotDTO;
+import com.coderscenter.backend.dtos.slot.ResponseSlotValidationDTO;
+import com.coderscenter.backend.dtos.slot.SlotBooking;
+import com.coderscenter.backend.dtos.slot.SlotConflictDTO;
 import com.coderscenter.backend.entities.group_management.Subject;
 import com.coderscenter.backend.entities.profile.Employee;
 import com.coderscenter.backend.entities.schedule_management.Day;
 import com.coderscenter.backend.entities.schedule_management.Slot;
 import com.coderscenter.backend.entities.schedule_management.Week;
+import com.coderscenter.backend.enums.SlotConflictType;
+import com.coderscenter.backend.exceptions.InvalidDateRangeException;
+import com.coderscenter.backend.exceptions.SlotConflictException;
 import com.coderscenter.backend.exceptions.SubjectNotMatchException;
 import com.coderscenter.backend.mapper.SlotMapper;
 import com.coderscenter.backend.repositories.DayRepository;
@@ -15,14 +25,20 @@ import com.coderscenter.backend.repositories.EmployeeRepository;
 import com.coderscenter.backend.repositories.SlotRepository;
 import com.coderscenter.backend.repositories.SubjectRepository;
 import com.coderscenter.backend.services.helperService.DateParseService;
-import com.coderscenter.backend.services.helperService.EmailSendingService;
+import com.coderscenter.backend.services.helperService.PagingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,19 +50,30 @@ public class SlotService {
     private final EmployeeRepository employeeRepository;
     private final SlotMapper slotMapper;
     private final DateParseService dateParseService;
+    private final TrainerBookingIndex trainerBookingIndex;
+    private final PagingService pagingService;
 
-    private final EmailSendingService emailSendingService;
-    private final EmailRespondGenerator emailRespondGenerator;
+    private final TrainerNotificationService trainerNotificationService;
 
-    public List<ResponseSlotDTO> getAllSlots() {
-        List<ResponseSlotDTO> responseSlotDTOList = new ArrayList<>();
-        List<Slot> slots = slotRepository.findAll();
-
-        slots.forEach(slot -> {
-            responseSlotDTOList.add(slotMapper.toResponseDTO(slot));
-        });
-
-        return responseSlotDTOList;
+    /**
+     * One page of slots, ordered by start time. Date range, trainer and group are filtered in the query.
+     * @throws InvalidDateRangeException if a date is not dd.MM.yyyy or the range is reversed
+     */
+    @Transactional(readOnly = true)
+    public ResponsePageDTO<Object> getAllSlots(RequestPageDTO pageRequest, RequestSlotFilterDTO filter) {
+        RequestSlotFilterDTO slotFilter = filter != null ? filter : new RequestSlotFilterDTO();
+        LocalDateTime from = parseFilterDate(slotFilter.getFrom());
+        LocalDateTime to = parseFilterDate(slotFilter.getTo());
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new InvalidDateRangeException("Enddatum darf nicht vor dem Startdatum liegen.");
+        }
+        // to is inclusive, the query compares against the start of the following day
+        LocalDateTime toExclusive = to != null ? to.plusDays(1) : null;
+        return pagingService.page(pageRequest, ResponseSlotDTO.class, Sort.by("startDate", "slotId"),
+                pageable -> slotRepository.findFiltered(from, toExclusive, slotFilter.getEmployeeId(), slotFilter.getGroupId(), pageable),
+                (afterId, pageable) -> slotRepository.findFilteredAfter(from, toExclusive, slotFilter.getEmployeeId(), slotFilter.getGroupId(), afterId, pageable),
+                Slot::getSlotId,
+                slotMapper::toResponseDTO);
     }
 
     public ResponseSlotDTO getSlotById(Long id)  {
@@ -56,6 +83,9 @@ public class SlotService {
 
     }
 
+    /**
+     * Build a new slot without saving it. Time conflicts are checked for the whole create request with {@link #checkNewSlots}.
+     */
     public Slot createNew(RequestSlotDTO requestSlotDTO, Day day) {
 
         Subject subject = subjectRepository.findById(requestSlotDTO.getSubjectId()).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Subject in der Datenbank gefunden!"));
@@ -66,53 +96,205 @@ public class SlotService {
 
         } else {
 
+            LocalDateTime startDate = dateParseService.stringToLocalDateTime(requestSlotDTO.getStartDate());
+            LocalDateTime endDate = dateParseService.stringToLocalDateTime(requestSlotDTO.getEndDate());
+
             return Slot.builder()
                     .slotTopic(requestSlotDTO.getSlotTopic())
-                    .startDate(dateParseService.stringToLocalDateTime(requestSlotDTO.getStartDate()))
-                    .endDate(dateParseService.stringToLocalDateTime(requestSlotDTO.getEndDate()))
+                    .startDate(startDate)
+                    .endDate(endDate)
                     .day(day)
                     .subject(subject)
                     .employee(employee)
+                    .locked(Boolean.TRUE.equals(requestSlotDTO.getLocked()))
                     .build();
 
         }
     }
 
+    /**
+     * Check the new slots of one create request, e.g. a whole schedule, against the booked slots and against each other.
+     * @param requests the requested slots in the order of {@code slots}
+     * @return conflicts per slot in request order, empty for a slot without conflicts
+     * @throws SlotConflictException for the first slot with conflicts that does not allow them
+     */
+    public List<List<SlotConflictDTO>> checkNewSlots(List<RequestSlotDTO> requests, List<Slot> slots) {
+        List<SlotBooking> bookings = new ArrayList<>(slots.size());
+        List<List<SlotConflictDTO>> conflictsBySlot = new ArrayList<>(slots.size());
+        for (Slot slot : slots) {
+            bookings.add(new SlotBooking(null, slot.getEmployee().getId(), slot.getStartDate(), slot.getEndDate()));
+            conflictsBySlot.add(findTimeConflicts(slot.getEmployee(), slot.getStartDate(), slot.getEndDate(), Set.of()));
+        }
+        addConflictsWithinEdit(bookings, conflictsBySlot);
+        for (int i = 0; i < slots.size(); i++) {
+            rejectConflicts(requests.get(i), conflictsBySlot.get(i));
+        }
+        return conflictsBySlot;
+    }
+
+    @Transactional
     public ResponseSlotDTO updateSlot(Long id, RequestSlotDTO requestSlotDTO) {
 
         Subject subject = subjectRepository.findById(requestSlotDTO.getSubjectId()).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Subject in der Datenbank gefunden!"));
         Employee employee = employeeRepository.findById(requestSlotDTO.getEmployeeId()).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Employee in der Datenbank gefunden!"));
 
         Slot slot = slotRepository.findById(id).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Slot in der Datenbank gefunden!"));
+        if (!employee.getSubjects().contains(subject)) {
+            throw new SubjectNotMatchException("Der Trainer Lehrt nicht den Fach:"+subject.getName(),"api/schedule/slot");
+        }
+        LocalDateTime startDate = dateParseService.stringToLocalDateTime(requestSlotDTO.getStartDate());
+        LocalDateTime endDate = dateParseService.stringToLocalDateTime(requestSlotDTO.getEndDate());
+        List<SlotConflictDTO> conflicts = findTimeConflicts(employee, startDate, endDate, Set.of(id));
+        rejectConflicts(requestSlotDTO, conflicts);
+        Long previousEmployeeId = slot.getEmployee() != null ? slot.getEmployee().getId() : null;
+
                 slot.setSlotTopic(requestSlotDTO.getSlotTopic());
-                slot.setStartDate(dateParseService.stringToLocalDateTime(requestSlotDTO.getStartDate()));
-                slot.setEndDate(dateParseService.stringToLocalDateTime(requestSlotDTO.getEndDate()));
+                slot.setStartDate(startDate);
+                slot.setEndDate(endDate);
                 slot.setSubject(subject);
                 slot.setEmployee(employee);
+                if (requestSlotDTO.getLocked() != null) {
+                    slot.setLocked(requestSlotDTO.getLocked());
+                }
 
         slotRepository.save(slot);
 
-        // E-Mails senden nach Vertretungsregelung
-        try {
-            String emailText = emailRespondGenerator.replacementTextGenerator(slot,employee );
-            emailSendingService.sendEmail(
-                    employee.getEmail(),
-                    "Einsatzplan Aktualisierung",
-                    emailText
-            );
-            System.out.println("Email sent successfully to: " + employee.getEmail());
-        } catch (Exception emailException) {
-            System.err.println("Email sending failed but continuing: " + emailException.getMessage());
+        // Vertretungsregelung: die Trainer werden gesammelt im Hintergrund per E-Mail informiert
+        trainerNotificationService.enqueueSlotEdit(slot, previousEmployeeId);
+
+        ResponseSlotDTO response = slotMapper.toResponseDTO(slot);
+        if (!conflicts.isEmpty()) {
+            response.setConflicts(conflicts);
         }
+        return response;
 
+    }
 
+    /**
+     * Check a bulk edit, e.g. a whole week, against the booked slots and against itself without saving anything.
+     * Slots of the edit are compared with their new times only, their current bookings are ignored.
+     * @param edits slots as they would be saved, new slots without id
+     * @return one result per edit in request order
+     */
+    @Transactional(readOnly = true)
+    public List<ResponseSlotValidationDTO> validateSlots(List<RequestSlotEditDTO> edits) {
+        Map<Long, Employee> employeesById = employeeRepository.findAllById(edits.stream()
+                        .map(RequestSlotEditDTO::getEmployeeId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Employee::getId, Function.identity()));
+        Map<Long, Subject> subjectsById = subjectRepository.findAllById(edits.stream()
+                        .map(RequestSlotEditDTO::getSubjectId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Subject::getSubjectId, Function.identity()));
+        Set<Long> editedSlotIds = edits.stream().map(RequestSlotEditDTO::getSlotId).filter(Objects::nonNull).collect(Collectors.toSet());
 
-        return slotMapper.toResponseDTO(slot);
+        List<SlotBooking> bookings = new ArrayList<>(edits.size());
+        List<List<SlotConflictDTO>> conflictsByEdit = new ArrayList<>(edits.size());
+        for (RequestSlotEditDTO edit : edits) {
+            Employee employee = employeesById.get(edit.getEmployeeId());
+            if (edit.getEmployeeId() != null && employee == null) {
+                throw new UsernameNotFoundException("Kein entsprechender Employee in der Datenbank gefunden!");
+            }
+            Subject subject = subjectsById.get(edit.getSubjectId());
+            LocalDateTime startDate = dateParseService.stringToLocalDateTime(edit.getStartDate());
+            LocalDateTime endDate = dateParseService.stringToLocalDateTime(edit.getEndDate());
+            bookings.add(new SlotBooking(edit.getSlotId(), edit.getEmployeeId(), startDate, endDate));
+
+            List<SlotConflictDTO> conflicts = new ArrayList<>();
+            if (employee != null && subject != null && !employee.getSubjects().contains(subject)) {
+                conflicts.add(SlotConflictDTO.builder()
+                        .type(SlotConflictType.NOT_QUALIFIED)
+                        .message(SlotConflictType.NOT_QUALIFIED.getLabel() + ": " + subject.getName())
+                        .build());
+            }
+            if (employee != null) {
+                conflicts.addAll(findTimeConflicts(employee, startDate, endDate, editedSlotIds));
+            }
+            conflictsByEdit.add(conflicts);
+        }
+        addConflictsWithinEdit(bookings, conflictsByEdit);
 
+        List<ResponseSlotValidationDTO> results = new ArrayList<>(edits.size());
+        for (int i = 0; i < edits.size(); i++) {
+            results.add(ResponseSlotValidationDTO.builder()
+                    .index(i)
+                    .slotId(edits.get(i).getSlotId())
+                    .employeeId(edits.get(i).getEmployeeId())
+                    .valid(conflictsByEdit.get(i).isEmpty())
+                    .conflicts(conflictsByEdit.get(i))
+                    .build());
+        }
+        return results;
     }
 
+    @Transactional
     public String deleteSlot(Long id) {
-        slotRepository.deleteById(id);
+        Slot slot = slotRepository.findById(id).orElseThrow(() -> new UsernameNotFoundException("Kein entsprechender Slot in der Datenbank gefunden!"));
+        // Written with the delete, so the trainer is told exactly when the slot is really gone
+        trainerNotificationService.enqueueSlotRemoval(slot);
+        slotRepository.delete(slot);
         return "Slot " + id + " successfully deleted!";
     }
+
+    private List<SlotConflictDTO> findTimeConflicts(Employee employee, LocalDateTime startDate, LocalDateTime endDate, Collection<Long> ignoredSlotIds) {
+        List<SlotConflictDTO> conflicts = new ArrayList<>();
+        for (SlotBooking booking : trainerBookingIndex.findOverlapping(employee.getId(), startDate, endDate, ignoredSlotIds)) {
+            conflicts.add(doubleBooking(booking));
+        }
+        if (!employee.isAvailableOn(startDate.toLocalDate())) {
+            conflicts.add(SlotConflictDTO.builder()
+                    .type(SlotConflictType.UNAVAILABLE)
+                    .message(SlotConflictType.UNAVAILABLE.getLabel() + ": " + startDate.toLocalDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")))
+                    .build());
+        }
+        return conflicts;
+    }
+
+    // Overlapping slots of the same trainer inside one bulk edit or create request, found with one sweep over the slots sorted by start
+    private void addConflictsWithinEdit(List<SlotBooking> bookings, List<List<SlotConflictDTO>> conflictsByEdit) {
+        Map<Long, List<Integer>> indicesByTrainer = new HashMap<>();
+        for (int i = 0; i < bookings.size(); i++) {
+            if (bookings.get(i).employeeId() != null) {
+                indicesByTrainer.computeIfAbsent(bookings.get(i).employeeId(), id -> new ArrayList<>()).add(i);
+            }
+        }
+        for (List<Integer> indices : indicesByTrainer.values()) {
+            indices.sort(Comparator.comparing(i -> bookings.get(i).startDate()));
+            for (int a = 0; a < indices.size(); a++) {
+                SlotBooking first = bookings.get(indices.get(a));
+                for (int b = a + 1; b < indices.size() && bookings.get(indices.get(b)).startDate().isBefore(first.endDate()); b++) {
+                    SlotBooking second = bookings.get(indices.get(b));
+                    if (second.overlaps(first.startDate(), first.endDate())) {
+                        conflictsByEdit.get(indices.get(a)).add(doubleBooking(second));
+                        conflictsByEdit.get(indices.get(b)).add(doubleBooking(first));
+                    }
+                }
+            }
+        }
+    }
+
+    private SlotConflictDTO doubleBooking(SlotBooking booking) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+        return SlotConflictDTO.builder()
+                .type(SlotConflictType.DOUBLE_BOOKED)
+                .conflictingSlotId(booking.slotId())
+                .message(SlotConflictType.DOUBLE_BOOKED.getLabel() + ": " + booking.startDate().format(formatter)
+                        + " - " + booking.endDate().format(formatter))
+                .build();
+    }
+
+    private void rejectConflicts(RequestSlotDTO requestSlotDTO, List<SlotConflictDTO> conflicts) {
+        if (!conflicts.isEmpty() && !Boolean.TRUE.equals(requestSlotDTO.getAllowConflicts())) {
+            throw new SlotConflictException(conflicts.stream().map(SlotConflictDTO::getMessage).collect(Collectors.joining("; ")), conflicts);
+        }
+    }
+
+    private LocalDateTime parseFilterDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return dateParseService.stringToLocalDate(date.trim()).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateRangeException("Ungültiges Datum " + date + ", erwartet wird dd.MM.yyyy.");
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.coderscenter.backend.services;
 
 import com.coderscenter.backend.dtos.address.response.ResponseAddressDTO;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.dtos.student.request.RequestStudentDTO;
 import com.coderscenter.backend.dtos.student.request.UpdateStudentDTO;
 import com.coderscenter.backend.dtos.student.response.ResponseStudentDTO;
@@ -12,11 +14,11 @@ import com.coderscenter.backend.mapper.StudentMapper;
 import com.coderscenter.backend.repositories.AddressRepository;
 import com.coderscenter.backend.repositories.StudentRepository;
 import com.coderscenter.backend.repositories.UserRepository;
+import com.coderscenter.backend.services.helperService.PagingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -27,17 +29,21 @@ public class StudentService {
     private final AddressRepository addressRepository;
     private final AddressService addressService;
     private final StudentMapper studentMapper;
+    private final PagingService pagingService;
 
     /**
-     * Get all students from the database and return them as DTOs.
+     * Get one page of students from the database and return them as DTOs, ordered by id.
      *
-     * @return List of {@link ResponseStudentDTO}
+     * @param pageRequest page, size, cursor and fields, see {@link PagingService}
+     * @return {@link ResponsePageDTO} of {@link ResponseStudentDTO}
      */
-    public List<ResponseStudentDTO> getAllStudents() {
-        List<Student> students = studentRepository.findAll();
-        List<ResponseStudentDTO> responseStudentDTOS = new ArrayList<>();
-        students.forEach(student -> responseStudentDTOS.add(studentMapper.toResponseDTO(student)));
-        return responseStudentDTOS;
+    @Transactional(readOnly = true)
+    public ResponsePageDTO<Object> getAllStudents(RequestPageDTO pageRequest) {
+        return pagingService.page(pageRequest, ResponseStudentDTO.class, Sort.by("id"),
+                studentRepository::findAll,
+                studentRepository::findByIdGreaterThanOrderByIdAsc,
+                Student::getId,
+                studentMapper::toResponseDTO);
     }
 
     /**
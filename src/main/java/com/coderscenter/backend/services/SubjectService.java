@@ -1,5 +1,6 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.config.CacheConfig;
 import com.coderscenter.backend.dtos.permission.RequestPermissionDTO;
 import com.coderscenter.backend.dtos.permission.ResponsePermissionDTO;
 import com.coderscenter.backend.dtos.subject.RequestSubjectDTO;
@@ -11,6 +12,9 @@ import com.coderscenter.backend.exceptions.EmptyOptionalException;
 import com.coderscenter.backend.mapper.SubjectMapper;
 import com.coderscenter.backend.repositories.SubjectRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -24,7 +28,7 @@ public class SubjectService {
     private final SubjectRepository subjectRepository;
     private final SubjectMapper subjectMapper;
 
-
+    @Cacheable(cacheNames = CacheConfig.SUBJECTS, key = "'all'")
     public List<ResponseSubjectDTO> getAllPermission() {
         List<Subject> subjects = subjectRepository.findAll();
         List<ResponseSubjectDTO> responseSubjectDTOS = new ArrayList<>();
@@ -35,6 +39,7 @@ public class SubjectService {
         return responseSubjectDTOS;
     }
 
+    @Cacheable(cacheNames = CacheConfig.SUBJECTS, key = "#id")
     public ResponseSubjectDTO getPermissionById(long id) throws EmptyOptionalException {
         Optional<Subject> subject = subjectRepository.findById(id);
         if (subject.isPresent()) {
@@ -43,6 +48,7 @@ public class SubjectService {
         throw new EmptyOptionalException("Unexpected empty Optional","/api/admin/subject/" + id);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.SUBJECTS, allEntries = true)
     public ResponseSubjectDTO createNew(RequestSubjectDTO subjectDTO) throws EmptyOptionalException {
 
         Subject subject = Subject.builder()
@@ -53,6 +59,10 @@ public class SubjectService {
         return subjectMapper.toResponseDTO(subject);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SUBJECTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
+    })
     public ResponseSubjectDTO updateSubject  ( long id, RequestSubjectDTO subjectDTO) throws EmptyOptionalException {
         Optional<Subject> subject = subjectRepository.findById(id);
         if (subject.isPresent()) {
@@ -64,6 +74,10 @@ public class SubjectService {
         throw new EmptyOptionalException("Unexpected empty Optional","/api/admin/permission");
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SUBJECTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
+    })
     public String deleteSubject(long id) throws EmptyOptionalException {
         Optional<Subject> subject = subjectRepository.findById(id);
         if (subject.isPresent()) {
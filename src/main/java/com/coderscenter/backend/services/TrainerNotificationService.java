@@ -0,0 +1,242 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.components.EmailRespondGenerator;
+import com.coderscenter.backend.components.TrainerBookingIndex;
+import com.coderscenter.backend.dtos.slot.SlotBooking;
+import com.coderscenter.backend.entities.notification.TrainerNotification;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import com.coderscenter.backend.enums.NotificationChangeType;
+import com.coderscenter.backend.enums.NotificationStatus;
+import com.coderscenter.backend.repositories.EmployeeRepository;
+import com.coderscenter.backend.repositories.SlotRepository;
+import com.coderscenter.backend.repositories.TrainerNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox für Benachrichtigungen über Einsatzänderungen.
+ * Änderungen werden in der Transaktion des Schreibens vorgemerkt; der TrainerNotificationDispatcher fasst sie
+ * pro Trainer zu einer E-Mail zusammen und wiederholt fehlgeschlagene Versuche mit wachsendem Abstand.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrainerNotificationService {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final TrainerNotificationRepository trainerNotificationRepository;
+    private final EmployeeRepository employeeRepository;
+    private final SlotRepository slotRepository;
+    private final TrainerBookingIndex trainerBookingIndex;
+    private final EmailRespondGenerator emailRespondGenerator;
+
+    @Value("${notifications.quiet-seconds:60}")
+    private long quietSeconds;
+
+    @Value("${notifications.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notifications.backoff-seconds:60}")
+    private long backoffSeconds;
+
+    /**
+     * Digest of the pending changes of one trainer.
+     */
+    public record Digest(Long employeeId, String email, String subject, String body, List<TrainerNotification> notifications) {
+
+        public List<Long> notificationIds() {
+            return notifications.stream().map(TrainerNotification::getNotificationId).toList();
+        }
+    }
+
+    /**
+     * Enqueue the trainer changes of a bulk update, e.g. applying an optimization or a rollback.
+     * Slot times are taken from the booking index, so no slot has to be loaded.
+     * @param previous slotId -> employeeId before the update
+     * @param assignments slotId -> employeeId that was written
+     */
+    @Transactional
+    public void enqueueReassignments(Map<Long, Long> previous, Map<Long, Long> assignments) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TrainerNotification> notifications = new ArrayList<>();
+        assignments.forEach((slotId, employeeId) -> {
+            Long previousEmployeeId = previous.get(slotId);
+            if (Objects.equals(previousEmployeeId, employeeId)) {
+                return;
+            }
+            Optional<SlotBooking> booking = trainerBookingIndex.find(slotId);
+            LocalDateTime start = booking.map(SlotBooking::startDate).orElse(null);
+            LocalDateTime end = booking.map(SlotBooking::endDate).orElse(null);
+            if (previousEmployeeId != null) {
+                notifications.add(pending(previousEmployeeId, slotId, NotificationChangeType.REMOVED, start, end, now));
+            }
+            if (employeeId != null) {
+                notifications.add(pending(employeeId, slotId, NotificationChangeType.ASSIGNED, start, end, now));
+            }
+        });
+        if (!notifications.isEmpty()) {
+            trainerNotificationRepository.batchInsert(notifications);
+            log.info("Enqueued {} trainer notifications for {} changed slots", notifications.size(), assignments.size());
+        }
+    }
+
+    /**
+     * Enqueue the change of a single edited slot.
+     * @param previousEmployeeId trainer before the edit, may be the same as the slot's current trainer
+     */
+    @Transactional
+    public void enqueueSlotEdit(Slot slot, Long previousEmployeeId) {
+        LocalDateTime now = LocalDateTime.now();
+        Long employeeId = slot.getEmployee() != null ? slot.getEmployee().getId() : null;
+        List<TrainerNotification> notifications = new ArrayList<>();
+        if (previousEmployeeId != null && !previousEmployeeId.equals(employeeId)) {
+            notifications.add(pending(previousEmployeeId, slot.getSlotId(), NotificationChangeType.REMOVED, slot.getStartDate(), slot.getEndDate(), now));
+        }
+        if (employeeId != null) {
+            NotificationChangeType type = employeeId.equals(previousEmployeeId) ? NotificationChangeType.UPDATED : NotificationChangeType.ASSIGNED;
+            notifications.add(pending(employeeId, slot.getSlotId(), type, slot.getStartDate(), slot.getEndDate(), now));
+        }
+        trainerNotificationRepository.saveAll(notifications);
+    }
+
+    /**
+     * Enqueue the removal of a slot that is about to be deleted. The time range is kept in the entry,
+     * the slot itself is gone when the e-mail is built.
+     */
+    @Transactional
+    public void enqueueSlotRemoval(Slot slot) {
+        if (slot.getEmployee() == null) {
+            return;
+        }
+        trainerNotificationRepository.save(pending(slot.getEmployee().getId(), slot.getSlotId(), NotificationChangeType.REMOVED,
+                slot.getStartDate(), slot.getEndDate(), LocalDateTime.now()));
+    }
+
+    /**
+     * Build one digest per trainer from the due entries. Trainers with a change in the quiet period are left out,
+     * so a series of edits ends up in one e-mail.
+     */
+    @Transactional(readOnly = true)
+    public List<Digest> collectDueDigests() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime quietSince = now.minusSeconds(quietSeconds);
+        Map<Long, List<TrainerNotification>> dueByTrainer = trainerNotificationRepository
+                .findByStatusAndNextAttemptAtLessThanEqualOrderByNotificationIdAsc(NotificationStatus.PENDING, now).stream()
+                .collect(Collectors.groupingBy(TrainerNotification::getEmployeeId, LinkedHashMap::new, Collectors.toList()));
+        dueByTrainer.values().removeIf(notifications -> notifications.stream()
+                .anyMatch(notification -> notification.getCreatedAt().isAfter(quietSince)));
+        if (dueByTrainer.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Employee> employeesById = employeeRepository.findAllById(dueByTrainer.keySet()).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        Map<Long, Slot> slotsById = slotRepository.findAllById(dueByTrainer.values().stream()
+                        .flatMap(List::stream).map(TrainerNotification::getSlotId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Slot::getSlotId, Function.identity()));
+
+        List<Digest> digests = new ArrayList<>();
+        dueByTrainer.forEach((employeeId, notifications) -> {
+            Employee employee = employeesById.get(employeeId);
+            List<String> changes = coalesce(notifications).stream()
+                    .map(change -> describe(change, slotsById.get(change.notification().getSlotId())))
+                    .toList();
+            digests.add(new Digest(employeeId,
+                    employee != null ? employee.getEmail() : null,
+                    "Einsatzplan Aktualisierung",
+                    employee != null && !changes.isEmpty() ? emailRespondGenerator.scheduleChangesTextGenerator(employee, changes) : null,
+                    notifications));
+        });
+        return digests;
+    }
+
+    @Transactional
+    public void markSent(Digest digest) {
+        trainerNotificationRepository.markSent(digest.notificationIds(), LocalDateTime.now());
+    }
+
+    /**
+     * Schedule the next attempt with exponential backoff, or give up after the configured number of attempts.
+     */
+    @Transactional
+    public void markFailed(Digest digest, String error) {
+        int attempts = digest.notifications().stream().mapToInt(TrainerNotification::getAttempts).max().orElse(0) + 1;
+        NotificationStatus status = attempts >= maxAttempts ? NotificationStatus.FAILED : NotificationStatus.PENDING;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofSeconds(backoffSeconds).multipliedBy(1L << Math.min(attempts - 1, 10)));
+        String lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        trainerNotificationRepository.markFailed(digest.notificationIds(), status, attempts, nextAttemptAt, lastError);
+        if (status == NotificationStatus.FAILED) {
+            log.error("Giving up notifying trainer {} after {} attempts: {}", digest.employeeId(), attempts, error);
+        } else {
+            log.warn("Notifying trainer {} failed (attempt {}), retrying at {}: {}", digest.employeeId(), attempts, nextAttemptAt, error);
+        }
+    }
+
+    private record Change(TrainerNotification notification, NotificationChangeType type) {
+    }
+
+    // Only the net change per slot: assigned and removed again before the mail went out is not worth mentioning
+    private List<Change> coalesce(List<TrainerNotification> notifications) {
+        Map<Long, List<TrainerNotification>> bySlot = notifications.stream()
+                .collect(Collectors.groupingBy(TrainerNotification::getSlotId, LinkedHashMap::new, Collectors.toList()));
+        List<Change> coalesced = new ArrayList<>();
+        for (List<TrainerNotification> slotNotifications : bySlot.values()) {
+            TrainerNotification first = slotNotifications.get(0);
+            TrainerNotification last = slotNotifications.get(slotNotifications.size() - 1);
+            if (first.getChangeType() == NotificationChangeType.ASSIGNED && last.getChangeType() == NotificationChangeType.REMOVED) {
+                continue;
+            }
+            boolean removedAndBack = first.getChangeType() == NotificationChangeType.REMOVED && last.getChangeType() != NotificationChangeType.REMOVED;
+            coalesced.add(new Change(last, removedAndBack ? NotificationChangeType.UPDATED : last.getChangeType()));
+        }
+        coalesced.sort(Comparator.comparing(change -> change.notification().getStartDate(), Comparator.nullsLast(Comparator.naturalOrder())));
+        return coalesced;
+    }
+
+    private String describe(Change change, Slot slot) {
+        TrainerNotification notification = change.notification();
+        LocalDateTime start = slot != null ? slot.getStartDate() : notification.getStartDate();
+        LocalDateTime end = slot != null ? slot.getEndDate() : notification.getEndDate();
+        StringBuilder text = new StringBuilder("<strong>").append(change.type().getLabel()).append(":</strong> ");
+        if (start != null && end != null) {
+            text.append(start.format(DATE_TIME_FORMATTER)).append(" - ").append(end.format(TIME_FORMATTER));
+        } else {
+            text.append("Slot ").append(notification.getSlotId());
+        }
+        if (slot != null && slot.getSubject() != null) {
+            text.append(", ").append(slot.getSubject().getName());
+        }
+        if (slot != null && slot.getDay() != null && slot.getDay().getWeek().getSchedule().getGroup() != null) {
+            text.append(", ").append(slot.getDay().getWeek().getSchedule().getGroup().getName());
+        }
+        return text.toString();
+    }
+
+    private TrainerNotification pending(Long employeeId, Long slotId, NotificationChangeType type,
+                                        LocalDateTime start, LocalDateTime end, LocalDateTime now) {
+        return TrainerNotification.builder()
+                .employeeId(employeeId)
+                .slotId(slotId)
+                .changeType(type)
+                .startDate(start)
+                .endDate(end)
+                .status(NotificationStatus.PENDING)
+                .attempts(0)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+}
@@ -1,34 +1,64 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.components.AggregateVersionTracker;
+import com.coderscenter.backend.components.OptimizationEventBroadcaster;
+import com.coderscenter.backend.components.OptimizationJobScheduler;
+import com.coderscenter.backend.components.TrainerBookingIndex;
+import com.coderscenter.backend.dtos.optimization.ConflictingSlot;
+import com.coderscenter.backend.dtos.optimization.ConstraintMatchSummary;
+import com.coderscenter.backend.dtos.optimization.GroupOptimizationResult;
 import com.coderscenter.backend.dtos.optimization.OptimizationJobResponse;
+import com.coderscenter.backend.dtos.optimization.OptimizationRequest;
 import com.coderscenter.backend.dtos.optimization.OptimizationResultResponse;
-import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.dtos.optimization.QuickPlanResponse;
+import com.coderscenter.backend.dtos.optimization.ScoreExplanationResponse;
+import com.coderscenter.backend.enums.OptimizationGoal;
+import com.coderscenter.backend.exceptions.InvalidDateRangeException;
+import com.coderscenter.backend.exceptions.InvalidOptimizationRequestException;
+import com.coderscenter.backend.exceptions.OptimizationConflictException;
+import com.coderscenter.backend.mapper.SchedulePlanningMapper;
+import com.coderscenter.backend.mapper.ScoreExplanationMapper;
 import com.coderscenter.backend.entities.schedule_management.Schedule;
-import com.coderscenter.backend.entities.schedule_management.Slot;
 import com.coderscenter.backend.optaplanner.constraints.ScheduleConstraintProvider;
+import com.coderscenter.backend.optaplanner.domain.PlanningScope;
+import com.coderscenter.backend.optaplanner.domain.ScheduleConstraintConfiguration;
 import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
 import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import com.coderscenter.backend.optaplanner.partition.WeekSolutionPartitioner;
 import com.coderscenter.backend.repositories.EmployeeRepository;
 import com.coderscenter.backend.repositories.ScheduleRepository;
 import com.coderscenter.backend.repositories.SlotRepository;
+import com.coderscenter.backend.services.helperService.DateParseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.SolutionManager;
+import org.optaplanner.core.api.solver.SolutionUpdatePolicy;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.hibernate.Hibernate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,123 +66,477 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TrainingOptimizationService {
 
+    private static final Duration DEFAULT_SPENT_LIMIT = Duration.ofSeconds(30);
+    // Length of optimization_job.message
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
     private final ScheduleRepository scheduleRepository;
     private final EmployeeRepository employeeRepository;
     private final SlotRepository slotRepository;
+    private final OptimizationJobStore optimizationJobStore;
+    private final OptimizationJobScheduler optimizationJobScheduler;
+    private final TrainerBookingIndex trainerBookingIndex;
+    private final OptimizationEventBroadcaster optimizationEventBroadcaster;
+    private final SchedulePlanningMapper schedulePlanningMapper;
+    private final ScoreExplanationMapper scoreExplanationMapper;
+    private final OptimizationProblemLoader optimizationProblemLoader;
+    private final ScheduleSnapshotService scheduleSnapshotService;
+    private final TrainerNotificationService trainerNotificationService;
+    private final DateParseService dateParseService;
+    private final AggregateVersionTracker aggregateVersionTracker;
+    
+    @Value("${optimization.solver.max-run-time-minutes:10}")
+    private int maxRunTimeMinutes;
+    
+    @Value("${optimization.solver.move-thread-count:AUTO}")
+    private String moveThreadCount;
+    
+    @Value("${optimization.solver.partition.min-weeks:8}")
+    private int partitionMinWeeks;
+    
+    @Value("${optimization.solver.partition.min-slots:20}")
+    private int partitionMinSlots;
+    
+    @Value("${optimization.solver.partition.thread-limit:AUTO}")
+    private String partitionThreadLimit;
+    
+    @Value("${optimization.quick-plan.spent-limit-ms:2000}")
+    private long quickPlanSpentLimitMillis;
     
-    // In-memory job storage (in production, use database or cache)
-    private final Map<String, OptimizationJobResponse> jobStorage = new ConcurrentHashMap<>();
+    // Handles of the solvers running on this instance, needed for terminateEarly() and live progress
+    private final Map<String, RunningSolve> runningSolves = new ConcurrentHashMap<>();
+    
+    private volatile SolverFactory<ScheduleSolution> quickPlanSolverFactory;
 
-    public OptimizationJobResponse startOptimization(Long scheduleId) {
+    /**
+     * Queue an optimization for a schedule.
+     * @param scheduleId schedule to optimize
+     * @param request optional options; without a window the whole schedule is optimized, past and locked slots are always kept
+     * @return the queued job, or the job that is already active for this schedule
+     */
+    public OptimizationJobResponse startOptimization(Long scheduleId, OptimizationRequest request) {
         log.info("Starting real OptaPlanner optimization for schedule {}", scheduleId);
         
+        PlanningScope scope = toPlanningScope(request);
+        SolverSettings settings = toSolverSettings(request);
+        
         // Verify schedule exists
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("Schedule not found: " + scheduleId));
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new IllegalArgumentException("Schedule not found: " + scheduleId);
+        }
         
-        // Create job
+        // Only one active job per schedule: a duplicate request returns the job that is already queued or running
         String jobId = UUID.randomUUID().toString();
+        Optional<String> activeJobId = optimizationJobScheduler.reserve(List.of(scheduleId), jobId);
+        if (activeJobId.isPresent()) {
+            log.info("Schedule {} already has active optimization job {}", scheduleId, activeJobId.get());
+            return getOptimizationStatus(activeJobId.get());
+        }
+        
+        // Create job
         OptimizationJobResponse job = OptimizationJobResponse.builder()
                 .jobId(jobId)
-                .status("running")
+                .scheduleId(scheduleId)
+                .scheduleIds(List.of(scheduleId))
+                .status("queued")
+                .optimizationGoal(settings.goal().name())
                 .createdAt(LocalDateTime.now())
-                .totalLessons(countLessonsInSchedule(schedule))
                 .totalTrainers(countAvailableTrainers())
                 .progress(0)
                 .feasible(null)
-                .message("OptaPlanner Optimierung gestartet...")
+                .message("Optimierung wartet auf einen freien Solver...")
                 .build();
         
-        jobStorage.put(jobId, job);
+        optimizationJobStore.save(job);
         log.info("Created and stored new optimization job: {} for schedule: {}", jobId, scheduleId);
-        log.info("Total jobs in storage after creation: {}", jobStorage.size());
         
-        // Load schedule data synchronously before async processing to maintain transaction context
-        Schedule loadedSchedule;
-        List<Employee> availableEmployees;
+        // Load schedule data and map it to planning records synchronously, so the solver thread holds no entities
+        ScheduleSolution problem;
         try {
-            loadedSchedule = loadScheduleForOptimization(scheduleId);
-            availableEmployees = loadEmployeesForOptimization();
-            
-            log.info("Successfully loaded schedule with {} weeks and {} employees for optimization", 
-                    loadedSchedule.getWeeks().size(), availableEmployees.size());
-                    
+            OptimizationProblemLoader.LoadedProblem loaded = optimizationProblemLoader.loadProblem(scheduleId, scope);
+            problem = loaded.solution();
+            problem.setConstraintConfiguration(ScheduleConstraintConfiguration.forGoal(settings.goal()));
+            job.setTotalLessons(problem.getTotalSlots());
+            job.setScheduleRevision(loaded.scheduleRevision());
         } catch (Exception e) {
             log.error("Failed to load schedule data for optimization: {}", e.getMessage(), e);
-            OptimizationJobResponse currentJob = jobStorage.get(jobId);
-            if (currentJob != null) {
-                currentJob.setStatus("failed");
-                currentJob.setCompletedAt(LocalDateTime.now());
-                currentJob.setFeasible(false);
-                currentJob.setMessage("Fehler beim Laden der Schedule-Daten: " + e.getMessage());
-                jobStorage.put(jobId, currentJob);
+            job.setStatus("failed");
+            job.setCompletedAt(LocalDateTime.now());
+            job.setFeasible(false);
+            job.setMessage(failureMessage("Fehler beim Laden der Schedule-Daten: ", e));
+            optimizationJobStore.save(job);
+            optimizationJobScheduler.release(job.getScheduleIds(), jobId);
+            return job;
+        }
+        
+        return queueLoadedProblem(job, problem, settings);
+    }
+
+    /**
+     * Queue one optimization over the schedules of all active groups. Trainers are shared,
+     * so a trainer is never booked in two groups at the same time and per-group jobs no longer compete for them.
+     * @param request optional options, same as for a single schedule
+     * @return the queued job with one result entry per group
+     * @throws OptimizationConflictException if one of the schedules already has an active job
+     */
+    public OptimizationJobResponse startBatchOptimization(OptimizationRequest request) {
+        PlanningScope scope = toPlanningScope(request);
+        SolverSettings settings = toSolverSettings(request);
+        
+        OptimizationProblemLoader.LoadedBatchProblem loaded = optimizationProblemLoader.loadActiveProblem(scope);
+        if (loaded.schedules().isEmpty()) {
+            throw new IllegalArgumentException("Keine aktive Gruppe mit Stundenplan gefunden");
+        }
+        ScheduleSolution problem = loaded.solution();
+        problem.setConstraintConfiguration(ScheduleConstraintConfiguration.forGoal(settings.goal()));
+        
+        List<Long> scheduleIds = loaded.schedules().stream().map(OptimizationProblemLoader.PlannedSchedule::scheduleId).toList();
+        String jobId = UUID.randomUUID().toString();
+        Optional<String> activeJobId = optimizationJobScheduler.reserve(scheduleIds, jobId);
+        if (activeJobId.isPresent()) {
+            throw new OptimizationConflictException(
+                    "Für mindestens eine Gruppe läuft bereits die Optimierung " + activeJobId.get() + ".");
+        }
+        
+        OptimizationJobResponse job = OptimizationJobResponse.builder()
+                .jobId(jobId)
+                .scheduleIds(scheduleIds)
+                .status("queued")
+                .optimizationGoal(settings.goal().name())
+                .createdAt(LocalDateTime.now())
+                .totalTrainers(countAvailableTrainers())
+                .totalLessons(problem.getTotalSlots())
+                .progress(0)
+                .feasible(null)
+                .message("Gruppenübergreifende Optimierung wartet auf einen freien Solver...")
+                .groupResults(loaded.schedules().stream()
+                        .map(schedule -> GroupOptimizationResult.builder()
+                                .groupId(schedule.groupId())
+                                .groupName(schedule.groupName())
+                                .scheduleId(schedule.scheduleId())
+                                .scheduleRevision(schedule.scheduleRevision())
+                                .build())
+                        .toList())
+                .build();
+        optimizationJobStore.save(job);
+        log.info("Created batch optimization job {} over {} schedules", jobId, scheduleIds.size());
+        
+        return queueLoadedProblem(job, problem, settings);
+    }
+
+    /**
+     * Compute a draft assignment for a schedule synchronously, without a job or local search.
+     * Movable slots start without a trainer and are filled by First Fit Decreasing, most constrained slots first,
+     * so the result depends only on the facts and not on the current schedule. Nothing is written.
+     * @param request optional options, only the window and the goal are used
+     * @return the draft with its score and conflicts
+     */
+    public QuickPlanResponse createQuickPlan(Long scheduleId, OptimizationRequest request) {
+        PlanningScope scope = toPlanningScope(request);
+        SolverSettings settings = toSolverSettings(request);
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new IllegalArgumentException("Schedule not found: " + scheduleId);
+        }
+        
+        OptimizationProblemLoader.LoadedProblem loaded = optimizationProblemLoader.loadProblem(scheduleId, scope);
+        ScheduleSolution problem = loaded.solution();
+        problem.setConstraintConfiguration(ScheduleConstraintConfiguration.forGoal(settings.goal()));
+        Map<Long, Long> currentAssignments = schedulePlanningMapper.toAssignments(problem);
+        problem.getSlotAssignmentList().stream()
+                .filter(assignment -> !assignment.isPinned())
+                .forEach(assignment -> assignment.setAssignedTrainer(null));
+        
+        SolverFactory<ScheduleSolution> solverFactory = getQuickPlanSolverFactory();
+        long startedAtNanos = System.nanoTime();
+        ScheduleSolution solution = solverFactory.buildSolver().solve(problem);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAtNanos).toMillis();
+        
+        SolutionManager<ScheduleSolution, HardSoftScore> solutionManager = SolutionManager.create(solverFactory);
+        ScoreExplanationResponse explanation = scoreExplanationMapper.toResponseDTO(null,
+                solutionManager.explain(solution, SolutionUpdatePolicy.NO_UPDATE));
+        Map<Long, Long> draftAssignments = schedulePlanningMapper.toAssignments(solution);
+        int changedSlots = (int) solution.getSlotAssignmentList().stream()
+                .filter(assignment -> !Objects.equals(currentAssignments.get(assignment.getId()), draftAssignments.get(assignment.getId())))
+                .count();
+        log.info("Quick plan for schedule {} in {} ms: score {}, {} of {} slots changed",
+                scheduleId, elapsedMillis, solution.getScore(), changedSlots, solution.getTotalSlots());
+        
+        return QuickPlanResponse.builder()
+                .scheduleId(scheduleId)
+                .scheduleRevision(loaded.scheduleRevision())
+                .optimizationGoal(settings.goal().name())
+                .score(solution.getScore().toString())
+                .feasible(solution.getScore().isFeasible())
+                .complete(solution.getScore().isSolutionInitialized())
+                .elapsedMillis(elapsedMillis)
+                .totalSlots(solution.getTotalSlots())
+                .movableSlots((int) solution.getMovableSlots())
+                .assignedSlots((int) solution.getAssignedSlots())
+                .changedSlots(changedSlots)
+                .assignments(draftAssignments)
+                .conflictingSlots(explanation.getConflictingSlots())
+                .build();
+    }
+
+    // Compiling the constraint streams takes about a second, every quick plan shares one factory
+    private SolverFactory<ScheduleSolution> getQuickPlanSolverFactory() {
+        SolverFactory<ScheduleSolution> solverFactory = quickPlanSolverFactory;
+        if (solverFactory == null) {
+            synchronized (this) {
+                if (quickPlanSolverFactory == null) {
+                    quickPlanSolverFactory = SolverFactory.create(new SolverConfig()
+                            .withSolutionClass(ScheduleSolution.class)
+                            .withEntityClasses(SlotAssignment.class)
+                            .withConstraintProviderClass(ScheduleConstraintProvider.class)
+                            .withTerminationConfig(new TerminationConfig().withMillisecondsSpentLimit(quickPlanSpentLimitMillis))
+                            .withPhases(new ConstructionHeuristicPhaseConfig()
+                                    .withConstructionHeuristicType(ConstructionHeuristicType.FIRST_FIT_DECREASING)));
+                }
+                solverFactory = quickPlanSolverFactory;
             }
+        }
+        return solverFactory;
+    }
+
+    private OptimizationJobResponse queueLoadedProblem(OptimizationJobResponse job, ScheduleSolution problem, SolverSettings settings) {
+        // Nothing the solver could change, e.g. a window in the past or only locked slots
+        if (problem.getMovableSlots() == 0) {
+            job.setStatus("failed");
+            job.setCompletedAt(LocalDateTime.now());
+            job.setFeasible(false);
+            job.setMessage("Im gewählten Zeitraum gibt es keine veränderbaren Slots");
+            optimizationJobStore.save(job);
+            optimizationJobScheduler.release(job.getScheduleIds(), job.getJobId());
             return job;
         }
         
-        // Start real OptaPlanner optimization process with loaded data
-        runOptaplannerOptimization(jobId, loadedSchedule, availableEmployees);
+        // Start real OptaPlanner optimization process with the mapped problem
+        runOptaplannerOptimization(job, problem, settings);
         
         return job;
     }
 
+    private PlanningScope toPlanningScope(OptimizationRequest request) {
+        if (request == null) {
+            return new PlanningScope(null, null, LocalDateTime.now());
+        }
+        LocalDate windowStart;
+        LocalDate windowEnd;
+        try {
+            windowStart = request.getWindowStart() != null ? dateParseService.stringToLocalDate(request.getWindowStart()) : null;
+            windowEnd = request.getWindowEnd() != null ? dateParseService.stringToLocalDate(request.getWindowEnd()) : null;
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateRangeException("Ungültiges Datum im Optimierungsfenster, erwartet wird dd.MM.yyyy.");
+        }
+        if (windowStart != null && windowEnd != null && windowEnd.isBefore(windowStart)) {
+            throw new InvalidDateRangeException("Enddatum darf nicht vor dem Startdatum liegen.");
+        }
+        boolean pinPastSlots = !Boolean.FALSE.equals(request.getPinPastSlots());
+        return new PlanningScope(windowStart, windowEnd, pinPastSlots ? LocalDateTime.now() : null);
+    }
+
+    private SolverSettings toSolverSettings(OptimizationRequest request) {
+        if (request == null) {
+            return new SolverSettings(DEFAULT_SPENT_LIMIT, null, false, OptimizationGoal.BALANCED, null);
+        }
+        
+        Duration spentLimit = DEFAULT_SPENT_LIMIT;
+        if (request.getMaxRunTimeMinutes() != null) {
+            if (request.getMaxRunTimeMinutes() < 1 || request.getMaxRunTimeMinutes() > maxRunTimeMinutes) {
+                throw new InvalidOptimizationRequestException(
+                        "maxRunTimeMinutes muss zwischen 1 und " + maxRunTimeMinutes + " liegen.");
+            }
+            spentLimit = Duration.ofMinutes(request.getMaxRunTimeMinutes());
+        }
+        
+        Duration unimprovedLimit = null;
+        if (request.getUnimprovedSeconds() != null) {
+            if (request.getUnimprovedSeconds() < 1) {
+                throw new InvalidOptimizationRequestException("unimprovedSeconds muss positiv sein.");
+            }
+            unimprovedLimit = Duration.ofSeconds(request.getUnimprovedSeconds());
+        }
+        
+        OptimizationGoal goal = OptimizationGoal.BALANCED;
+        if (request.getOptimizationGoal() != null && !request.getOptimizationGoal().isBlank()) {
+            try {
+                goal = OptimizationGoal.valueOf(request.getOptimizationGoal().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidOptimizationRequestException("Unbekanntes Optimierungsziel: " + request.getOptimizationGoal());
+            }
+        }
+        
+        return new SolverSettings(spentLimit, unimprovedLimit, Boolean.TRUE.equals(request.getStopWhenFeasible()), goal,
+                request.getPartitioned());
+    }
+
     public OptimizationJobResponse getOptimizationStatus(String jobId) {
-        log.info("Looking for optimization job with ID: {}", jobId);
-        log.info("Current jobs in storage: {}", jobStorage.keySet());
+        log.debug("Looking for optimization job with ID: {}", jobId);
         
-        OptimizationJobResponse job = jobStorage.get(jobId);
-        if (job == null) {
-            log.warn("Job not found in storage: {}. Available jobs: {}", jobId, jobStorage.keySet());
-            throw new IllegalArgumentException("Job not found: " + jobId);
+        OptimizationJobResponse job = optimizationJobStore.find(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+        
+        if ("queued".equals(job.getStatus())) {
+            job.setQueuePosition(optimizationJobScheduler.getQueuePosition(jobId));
+        }
+        
+        RunningSolve runningSolve = runningSolves.get(jobId);
+        if (runningSolve != null && "running".equals(job.getStatus())) {
+            long elapsedMillis = runningSolve.elapsedMillis();
+            job.setElapsedMillis(elapsedMillis);
+            job.setProgress(calculateProgress(elapsedMillis, runningSolve.spentLimit()));
         }
         
-        log.info("Found job: {} with status: {}", jobId, job.getStatus());
+        log.debug("Found job: {} with status: {}", jobId, job.getStatus());
         return job;
     }
     
+    /**
+     * Open a Server-Sent-Events stream for a job: "progress" events while it is queued or running,
+     * a final "summary" event with the complete job once it has finished.
+     */
+    public SseEmitter streamOptimization(String jobId) {
+        OptimizationJobResponse job = getOptimizationStatus(jobId);
+        return optimizationEventBroadcaster.subscribe(job, optimizationJobStore.isFinished(job));
+    }
+    
+    /**
+     * Per-constraint match counts and the slots that break hard constraints, computed once when the job completed.
+     * @throws IllegalArgumentException if the job does not exist
+     * @throws IllegalStateException if the job has not completed
+     */
+    public ScoreExplanationResponse getScoreExplanation(String jobId) {
+        OptimizationJobResponse job = optimizationJobStore.find(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+        return optimizationJobStore.findExplanation(jobId)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Für Job " + jobId + " liegt keine Score-Erklärung vor (Status: " + job.getStatus() + ")"));
+    }
+    
     public Map<String, String> getAllJobsDebugInfo() {
-        log.info("Debug: Retrieving all jobs info. Total jobs: {}", jobStorage.size());
-        return jobStorage.entrySet().stream()
+        List<OptimizationJobResponse> jobs = optimizationJobStore.findRecent();
+        log.info("Debug: Retrieving recent jobs info. Total jobs: {}", jobs.size());
+        return jobs.stream()
                 .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    entry -> entry.getValue().getStatus() + " (created: " + entry.getValue().getCreatedAt() + ")"
+                    OptimizationJobResponse::getJobId,
+                    job -> job.getStatus() + " (created: " + job.getCreatedAt() + ")"
                 ));
     }
 
     public OptimizationJobResponse stopOptimization(String jobId) {
-        OptimizationJobResponse job = jobStorage.get(jobId);
-        if (job == null) {
-            throw new IllegalArgumentException("Job not found: " + jobId);
-        }
+        OptimizationJobResponse job = optimizationJobStore.find(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
         
-        if ("running".equals(job.getStatus())) {
-            job.setStatus("cancelled");
-            job.setCompletedAt(LocalDateTime.now());
-            job.setMessage("Optimierung wurde abgebrochen");
-            jobStorage.put(jobId, job);
+        synchronized (job) {
+            if ("queued".equals(job.getStatus())) {
+                optimizationJobScheduler.cancelQueued(jobId, job.getScheduleIds());
+            }
+            if ("queued".equals(job.getStatus()) || "running".equals(job.getStatus())) {
+                job.setStatus("cancelled");
+                job.setCompletedAt(LocalDateTime.now());
+                job.setQueuePosition(null);
+                job.setMessage("Optimierung wurde abgebrochen");
+                optimizationJobStore.save(job);
+            }
+            
+            // Free the CPU immediately instead of waiting for the spent limit
+            RunningSolve runningSolve = runningSolves.get(jobId);
+            if (runningSolve != null) {
+                runningSolve.solver().terminateEarly();
+                log.info("Terminated solver of job {} early", jobId);
+            }
         }
         
         return job;
     }
 
+    @Transactional
     public OptimizationResultResponse applyOptimization(String jobId, Long scheduleId) {
-        OptimizationJobResponse job = jobStorage.get(jobId);
-        if (job == null) {
-            throw new IllegalArgumentException("Job not found: " + jobId);
-        }
+        OptimizationJobResponse job = optimizationJobStore.findWithSolution(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
         
         if (!"completed".equals(job.getStatus()) || !Boolean.TRUE.equals(job.getFeasible())) {
             throw new IllegalArgumentException("Cannot apply optimization: job not completed successfully");
         }
         
-        if (job.getOptimizedSlotAssignments() == null || job.getOptimizedSlotAssignments().isEmpty()) {
+        if (job.getScheduleId() != null && !job.getScheduleId().equals(scheduleId)) {
+            throw new IllegalArgumentException("Job " + jobId + " belongs to schedule " + job.getScheduleId());
+        }
+        if (job.getScheduleId() == null && job.getGroupResults() != null) {
+            throw new IllegalArgumentException("Job " + jobId + " covers all active groups and must be applied as a whole");
+        }
+        
+        if (job.getOptimizedAssignments() == null || job.getOptimizedAssignments().isEmpty()) {
             throw new IllegalArgumentException("No optimization results to apply");
         }
         
+        // Reject solutions computed for a schedule that has been edited since; the slot rows stay locked until commit
+        String currentRevision = slotRepository.calculateScheduleRevision(scheduleId, true);
+        if (job.getScheduleRevision() != null && !job.getScheduleRevision().equals(currentRevision)) {
+            log.warn("Rejecting stale optimization {}: schedule {} changed since the solve", jobId, scheduleId);
+            throw new OptimizationConflictException(
+                    "Der Stundenplan wurde seit der Optimierung geändert. Bitte die Optimierung erneut starten.");
+        }
+        
         log.info("Applying REAL OptaPlanner optimization results from job {} to schedule {}", jobId, scheduleId);
         
-        // Apply the optimized assignments to actual slots
-        int changedSlots = applyOptimizedAssignments(job.getOptimizedSlotAssignments());
+        return applyAssignments(job, scheduleId);
+    }
+
+    /**
+     * Apply a job over all active groups. Either every schedule is updated or none.
+     * @throws OptimizationConflictException if any of the schedules changed since the solve
+     */
+    @Transactional
+    public OptimizationResultResponse applyBatchOptimization(String jobId) {
+        OptimizationJobResponse job = optimizationJobStore.findWithSolution(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+        
+        if (!"completed".equals(job.getStatus()) || !Boolean.TRUE.equals(job.getFeasible())) {
+            throw new IllegalArgumentException("Cannot apply optimization: job not completed successfully");
+        }
+        if (job.getGroupResults() == null || job.getScheduleId() != null) {
+            throw new IllegalArgumentException("Job " + jobId + " is not an optimization over all active groups");
+        }
+        if (job.getOptimizedAssignments() == null || job.getOptimizedAssignments().isEmpty()) {
+            throw new IllegalArgumentException("No optimization results to apply");
+        }
+        
+        // Lock every schedule before writing anything, so a single stale group rejects the whole job
+        List<String> staleGroups = job.getGroupResults().stream()
+                .filter(result -> !slotRepository.calculateScheduleRevision(result.getScheduleId(), true)
+                        .equals(result.getScheduleRevision()))
+                .map(GroupOptimizationResult::getGroupName)
+                .toList();
+        if (!staleGroups.isEmpty()) {
+            log.warn("Rejecting stale batch optimization {}: groups {} changed since the solve", jobId, staleGroups);
+            throw new OptimizationConflictException("Die Stundenpläne folgender Gruppen wurden seit der Optimierung geändert: "
+                    + String.join(", ", staleGroups) + ". Bitte die Optimierung erneut starten.");
+        }
+        
+        log.info("Applying batch optimization results from job {} to {} schedules", jobId, job.getGroupResults().size());
+        
+        return applyAssignments(job, null);
+    }
+
+    private OptimizationResultResponse applyAssignments(OptimizationJobResponse job, Long scheduleId) {
+        String jobId = job.getJobId();
+        
+        // Keep the current assignments, so the apply can be rolled back to this state
+        Map<Long, Long> previousAssignments = scheduleSnapshotService.createBackupBeforeApply(job);
+        
+        // Apply the optimized assignments with one batched UPDATE
+        int changedSlots = slotRepository.batchUpdateEmployees(job.getOptimizedAssignments());
+        trainerBookingIndex.reassignAfterCommit(job.getOptimizedAssignments());
+        // The batched UPDATE bypasses the entity listeners
+        if (job.getScheduleIds() != null && !job.getScheduleIds().isEmpty()) {
+            aggregateVersionTracker.touchSchedulesOnCommit(job.getScheduleIds());
+        } else if (scheduleId != null) {
+            aggregateVersionTracker.touchSchedulesOnCommit(List.of(scheduleId));
+        }
+        // Trainers are notified in the background, one e-mail each, once this transaction has committed
+        trainerNotificationService.enqueueReassignments(previousAssignments, job.getOptimizedAssignments());
+        log.info("Applied {} optimized slot assignments to database", changedSlots);
         
         return OptimizationResultResponse.builder()
                 .jobId(jobId)
@@ -167,173 +551,231 @@ public class TrainingOptimizationService {
                 .build();
     }
     
-    private int applyOptimizedAssignments(List<SlotAssignment> optimizedAssignments) {
-        int changedCount = 0;
-        
-        for (SlotAssignment assignment : optimizedAssignments) {
-            Slot slot = assignment.getSlot();
-            Employee newEmployee = assignment.getAssignedEmployee();
-            
-            // Check if assignment actually changed
-            if (slot != null && !java.util.Objects.equals(slot.getEmployee(), newEmployee)) {
-                Employee oldEmployee = slot.getEmployee();
-                slot.setEmployee(newEmployee);
-                slotRepository.save(slot);
-                changedCount++;
-                
-                log.debug("Updated slot {} from {} to {}", 
-                        slot.getSlotId(),
-                        oldEmployee != null ? oldEmployee.getFirstName() + " " + oldEmployee.getLastName() : "unassigned",
-                        newEmployee != null ? newEmployee.getFirstName() + " " + newEmployee.getLastName() : "unassigned");
+    private void runOptaplannerOptimization(OptimizationJobResponse job, ScheduleSolution problem, SolverSettings settings) {
+        String jobId = job.getJobId();
+        try {
+            optimizationJobScheduler.submit(jobId, job.getScheduleIds(), () -> solve(job, problem, settings));
+            int queuePosition = optimizationJobScheduler.getQueuePosition(jobId);
+            if (queuePosition > 0) {
+                job.setQueuePosition(queuePosition);
             }
+            log.info("Queued optimization job {} at position {}", jobId, queuePosition);
+        } catch (RejectedExecutionException e) {
+            log.warn("Optimization queue is full, rejecting job {}", jobId);
+            job.setStatus("failed");
+            job.setCompletedAt(LocalDateTime.now());
+            job.setFeasible(false);
+            job.setMessage("Zu viele Optimierungen in der Warteschlange, bitte später erneut versuchen");
+            optimizationJobStore.save(job);
+            optimizationJobScheduler.release(job.getScheduleIds(), jobId);
         }
-        
-        log.info("Applied {} optimized slot assignments to database", changedCount);
-        return changedCount;
     }
 
-    private void runOptaplannerOptimization(String jobId, Schedule schedule, List<Employee> availableEmployees) {
-        CompletableFuture.runAsync(() -> {
+    private void solve(OptimizationJobResponse job, ScheduleSolution problem, SolverSettings settings) {
+        String jobId = job.getJobId();
+        synchronized (job) {
+            if ("cancelled".equals(job.getStatus())) {
+                return;
+            }
+            job.setStatus("running");
+            job.setQueuePosition(null);
+            job.setMessage("OptaPlanner Optimierung gestartet...");
+            optimizationJobStore.save(job);
+        }
+        
+        try {
+            SolverFactory<ScheduleSolution> solverFactory = SolverFactory.create(buildSolverConfig(problem, settings));
+            Solver<ScheduleSolution> solver = solverFactory.buildSolver();
+            solver.addEventListener(event -> onBestSolutionChanged(job, solver, settings, event));
+            
+            // Update job progress during solving
+            updateJobProgress(job, 10, "Initialisiere OptaPlanner...");
+            
+            // Solve the problem; the handle allows stopOptimization() to terminate it early
+            ScheduleSolution solution;
+            RunningSolve runningSolve = new RunningSolve(solver, System.nanoTime(), settings.spentLimit());
+            runningSolves.put(jobId, runningSolve);
             try {
-                OptimizationJobResponse job = jobStorage.get(jobId);
-                
-                // Create OptaPlanner problem
-                ScheduleSolution problem = createOptimizationProblem(schedule, availableEmployees);
-                
-                // Configure solver
-                SolverConfig solverConfig = new SolverConfig()
-                        .withSolutionClass(ScheduleSolution.class)
-                        .withEntityClasses(SlotAssignment.class)
-                        .withConstraintProviderClass(ScheduleConstraintProvider.class)
-                        .withTerminationSpentLimit(Duration.ofSeconds(30)); // 30 second optimization
-                
-                SolverFactory<ScheduleSolution> solverFactory = SolverFactory.create(solverConfig);
-                Solver<ScheduleSolution> solver = solverFactory.buildSolver();
-                
-                // Update job progress during solving
-                updateJobProgress(jobId, 10, "Initialisiere OptaPlanner...");
-                
-                // Solve the problem
-                ScheduleSolution solution = solver.solve(problem);
-                
-                // Update job progress
-                updateJobProgress(jobId, 90, "Verarbeite Ergebnisse...");
-                
-                // Store optimized solution
-                storeOptimizedSolution(jobId, solution);
-                
-                // Complete the job
-                if (!"cancelled".equals(job.getStatus())) {
-                    job.setStatus("completed");
-                    job.setCompletedAt(LocalDateTime.now());
-                    job.setFeasible(solution.getScore().isFeasible());
-                    job.setScore(solution.getScore().toString());
-                    job.setPrimaryTrainerAssignments((int) solution.getAssignedSlots());
-                    job.setPrimaryTrainerPercentage(
-                        solution.getTotalSlots() > 0 
-                            ? (solution.getAssignedSlots() * 100.0) / solution.getTotalSlots()
-                            : 0.0
-                    );
-                    job.setProgress(100);
-                    job.setMessage("OptaPlanner Optimierung erfolgreich abgeschlossen");
-                    job.setFullReport(generateOptimizationReport(solution));
-                    jobStorage.put(jobId, job);
-                    
-                    log.info("OptaPlanner optimization completed for job {} with score: {}", jobId, solution.getScore());
+                solution = solver.solve(problem);
+            } finally {
+                runningSolves.remove(jobId);
+            }
+            job.setElapsedMillis(runningSolve.elapsedMillis());
+            
+            // Update job progress
+            updateJobProgress(job, 95, "Verarbeite Ergebnisse...");
+            
+            // Store optimized solution
+            storeOptimizedSolution(job, solution);
+            
+            // Complete the job
+            if ("cancelled".equals(job.getStatus())) {
+                log.info("OptaPlanner optimization for job {} was cancelled after {} ms", jobId, job.getElapsedMillis());
+            } else {
+                job.setStatus("completed");
+                job.setCompletedAt(LocalDateTime.now());
+                job.setFeasible(solution.getScore().isFeasible());
+                job.setScore(solution.getScore().toString());
+                job.setPrimaryTrainerAssignments((int) solution.getAssignedSlots());
+                job.setPrimaryTrainerPercentage(
+                    solution.getTotalSlots() > 0 
+                        ? (solution.getAssignedSlots() * 100.0) / solution.getTotalSlots()
+                        : 0.0
+                );
+                job.setProgress(100);
+                job.setMessage("OptaPlanner Optimierung erfolgreich abgeschlossen");
+                // Explained once here; the explain endpoint and the group results only read the stored result
+                SolutionManager<ScheduleSolution, HardSoftScore> solutionManager = SolutionManager.create(solverFactory);
+                ScoreExplanationResponse explanation = scoreExplanationMapper.toResponseDTO(jobId,
+                        solutionManager.explain(solution, SolutionUpdatePolicy.NO_UPDATE));
+                job.setExplanation(explanation);
+                job.setFullReport(generateOptimizationReport(solution, explanation));
+                if (job.getGroupResults() != null) {
+                    summarizeGroups(job, solution, explanation);
                 }
+                // Before saving, clients that see the completed job can diff it right away
+                storeSnapshots(job);
+                optimizationJobStore.save(job);
                 
-            } catch (Exception e) {
-                log.error("OptaPlanner optimization failed for job: " + jobId, e);
-                OptimizationJobResponse job = jobStorage.get(jobId);
-                if (job != null) {
-                    job.setStatus("failed");
-                    job.setCompletedAt(LocalDateTime.now());
-                    job.setFeasible(false);
-                    job.setMessage("OptaPlanner Optimierung fehlgeschlagen: " + e.getMessage());
-                    jobStorage.put(jobId, job);
-                }
+                log.info("OptaPlanner optimization completed for job {} with score: {}", jobId, solution.getScore());
             }
-        });
+            
+        } catch (Exception e) {
+            log.error("OptaPlanner optimization failed for job: " + jobId, e);
+            job.setStatus("failed");
+            job.setCompletedAt(LocalDateTime.now());
+            job.setFeasible(false);
+            job.setMessage(failureMessage("OptaPlanner Optimierung fehlgeschlagen: ", e));
+            optimizationJobStore.save(job);
+        }
     }
 
-    private ScheduleSolution createOptimizationProblem(Schedule schedule, List<Employee> availableEmployees) {
-        // Get all slots from the schedule
-        List<Slot> allSlots = schedule.getWeeks().stream()
-                .flatMap(week -> week.getDays().stream())
-                .flatMap(day -> day.getSlots().stream())
-                .collect(Collectors.toList());
-        
-        // Create a map of employee IDs to fully initialized employees for consistent references
-        Map<Long, Employee> employeeMap = availableEmployees.stream()
-                .collect(Collectors.toMap(Employee::getId, emp -> emp));
-        
-        // Create slot assignments with consistent employee references
-        List<SlotAssignment> slotAssignments = allSlots.stream()
-                .map(slot -> {
-                    // Use the fully initialized employee from availableEmployees instead of slot.getEmployee()
-                    Employee currentEmployee = slot.getEmployee();
-                    Employee initializedEmployee = null;
-                    
-                    if (currentEmployee != null && employeeMap.containsKey(currentEmployee.getId())) {
-                        initializedEmployee = employeeMap.get(currentEmployee.getId());
-                        log.debug("Mapping slot {} from employee {} to initialized employee {}", 
-                                slot.getSlotId(), currentEmployee.getId(), initializedEmployee.getId());
-                    }
-                    
-                    return new SlotAssignment(slot, initializedEmployee);
-                })
-                .collect(Collectors.toList());
-        
-        // Filter employees who can teach at least one subject in this schedule
-        List<Employee> relevantEmployees = availableEmployees.stream()
-                .filter(emp -> emp.getSubjects() != null && !emp.getSubjects().isEmpty())
-                .collect(Collectors.toList());
-        
-        log.info("Created optimization problem with {} slots and {} available employees (mapped from {} total)", 
-                 slotAssignments.size(), relevantEmployees.size(), availableEmployees.size());
-        
-        return new ScheduleSolution(relevantEmployees, slotAssignments);
+    private SolverConfig buildSolverConfig(ScheduleSolution problem, SolverSettings settings) {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(ScheduleSolution.class)
+                .withEntityClasses(SlotAssignment.class)
+                .withConstraintProviderClass(ScheduleConstraintProvider.class)
+                .withMoveThreadCount(moveThreadCount)
+                .withTerminationConfig(settings.toTerminationConfig());
+        
+        long movableWeeks = WeekSolutionPartitioner.countMovableWeeks(problem);
+        boolean partitioned = settings.partitioned() != null
+                ? settings.partitioned() && movableWeeks > 1
+                : movableWeeks >= partitionMinWeeks;
+        if (!partitioned) {
+            return solverConfig;
+        }
+        
+        // Weeks are solved in parallel for two thirds of the budget, then a global local search
+        // smooths the constraints that span several weeks (total workload, trainer per weekday)
+        PartitionedSearchPhaseConfig partitionedSearch = new PartitionedSearchPhaseConfig()
+                .withSolutionPartitionerClass(WeekSolutionPartitioner.class)
+                .withSolutionPartitionerCustomProperties(Map.of("minMovableSlotsPerPart", String.valueOf(partitionMinSlots)))
+                .withRunnablePartThreadLimit(partitionThreadLimit)
+                .withPhaseConfigs(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig())
+                .withTerminationConfig(new TerminationConfig().withSpentLimit(settings.spentLimit().multipliedBy(2).dividedBy(3)));
+        log.info("Solving schedule with partitioned search over {} week(s)", movableWeeks);
+        return solverConfig.withPhases(partitionedSearch, new LocalSearchPhaseConfig());
+    }
+
+    private void onBestSolutionChanged(OptimizationJobResponse job, Solver<ScheduleSolution> solver, SolverSettings settings,
+                                       BestSolutionChangedEvent<ScheduleSolution> event) {
+        // Catches a stop request that arrived before the solver handle was registered
+        if ("cancelled".equals(job.getStatus())) {
+            solver.terminateEarly();
+            return;
+        }
+        
+        HardSoftScore score = event.getNewBestSolution().getScore();
+        job.setScore(score.toString());
+        job.setElapsedMillis(event.getTimeMillisSpent());
+        job.setProgress(calculateProgress(event.getTimeMillisSpent(), settings.spentLimit()));
+        if (score.isSolutionInitialized()) {
+            job.setFeasible(score.isFeasible());
+            job.setMessage("Optimierung läuft, bester Score: " + score);
+        } else {
+            job.setMessage("Erstelle Startlösung...");
+        }
+        optimizationEventBroadcaster.publishProgress(job);
     }
     
-    private void updateJobProgress(String jobId, int progress, String message) {
-        OptimizationJobResponse job = jobStorage.get(jobId);
-        if (job != null && !"cancelled".equals(job.getStatus())) {
+    private int calculateProgress(long elapsedMillis, Duration spentLimit) {
+        // 10% for initialisation, then proportional to the spent limit; 100% only once the job is completed
+        return (int) Math.min(95, 10 + elapsedMillis * 85 / spentLimit.toMillis());
+    }
+    
+    private void updateJobProgress(OptimizationJobResponse job, int progress, String message) {
+        // Fortschritt bleibt im Speicher, persistiert wird nur bei Statuswechseln
+        if (!"cancelled".equals(job.getStatus())) {
             job.setProgress(progress);
             job.setMessage(message);
-            jobStorage.put(jobId, job);
+            optimizationEventBroadcaster.publishProgress(job);
         }
     }
     
-    private void storeOptimizedSolution(String jobId, ScheduleSolution solution) {
-        // Store the optimized solution in job storage for later application
-        // In a real implementation, you might serialize this to database
-        OptimizationJobResponse job = jobStorage.get(jobId);
-        if (job != null) {
-            // Store solution data in job for later retrieval
-            job.setOptimizedSlotAssignments(solution.getSlotAssignmentList());
-            jobStorage.put(jobId, job);
+    private void storeOptimizedSolution(OptimizationJobResponse job, ScheduleSolution solution) {
+        // Only keep slotId -> employeeId, not the solved planning records
+        job.setOptimizedAssignments(schedulePlanningMapper.toAssignments(solution));
+    }
+    
+    private void storeSnapshots(OptimizationJobResponse job) {
+        // The job result stays usable without a snapshot, it only cannot be diffed or rolled back to
+        try {
+            scheduleSnapshotService.createOptimizationSnapshots(job);
+        } catch (Exception e) {
+            log.warn("Could not store snapshots of optimization job {}: {}", job.getJobId(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Fill the per-group results of a job over several groups. A slot counts as conflicting
+     * if it takes part in at least one hard constraint violation.
+     */
+    private void summarizeGroups(OptimizationJobResponse job, ScheduleSolution solution, ScoreExplanationResponse explanation) {
+        Map<Long, List<SlotAssignment>> assignmentsByGroup = solution.getSlotAssignmentList().stream()
+                .filter(assignment -> assignment.getSlot().getGroupId() != null)
+                .collect(Collectors.groupingBy(assignment -> assignment.getSlot().getGroupId()));
+        Map<Long, Long> conflictsByGroup = explanation.getConflictingSlots().stream()
+                .filter(slot -> slot.getGroupId() != null)
+                .collect(Collectors.groupingBy(ConflictingSlot::getGroupId, Collectors.counting()));
+        
+        for (GroupOptimizationResult result : job.getGroupResults()) {
+            List<SlotAssignment> assignments = assignmentsByGroup.getOrDefault(result.getGroupId(), List.of());
+            result.setTotalSlots(assignments.size());
+            result.setAssignedSlots((int) assignments.stream().filter(a -> a.getAssignedTrainer() != null).count());
+            result.setMainTrainerSlots((int) assignments.stream().filter(SlotAssignment::isMainTrainerForGroupSubject).count());
+            result.setConflictSlots(conflictsByGroup.getOrDefault(result.getGroupId(), 0L).intValue());
         }
     }
     
-    private String generateOptimizationReport(ScheduleSolution solution) {
+    private String generateOptimizationReport(ScheduleSolution solution, ScoreExplanationResponse explanation) {
         HardSoftScore score = solution.getScore();
         long assignedSlots = solution.getAssignedSlots();
         int totalSlots = solution.getTotalSlots();
         long usedEmployees = solution.getUsedEmployees();
         
+        // One line per constraint with its actual matches instead of a fixed checklist
+        StringBuilder criteria = new StringBuilder();
+        for (ConstraintMatchSummary constraint : explanation.getConstraints()) {
+            boolean violated = constraint.getHard() && constraint.getMatchCount() > 0;
+            criteria.append(String.format("%s %s: %d Treffer (%dhard/%dsoft)\n",
+                    constraint.getHard() ? (violated ? "✗" : "✓") : "•",
+                    constraint.getConstraintName(),
+                    constraint.getMatchCount(),
+                    constraint.getHardScore(),
+                    constraint.getSoftScore()));
+        }
+        
         return String.format(
             "OPTAPLANNER OPTIMIERUNG ABGESCHLOSSEN\n\n" +
             "Bewertung: %s\n" +
             "- Hard Score: %d (Regelverstöße)\n" +
             "- Soft Score: %d (Optimierungsqualität)\n\n" +
             "Trainerzuweisungen: %d von %d (%,.1f%%)\n" +
-            "Verwendete Trainer: %d von %d\n\n" +
+            "Verwendete Trainer: %d von %d\n" +
+            "Slots mit Regelverstößen: %d\n\n" +
             "OPTIMIERUNGSKRITERIEN:\n" +
-            "✓ Fachkompetenz beachtet\n" +
-            "✓ Trainerverfügbarkeit geprüft\n" +
-            "✓ Arbeitsbelastung ausgeglichen\n" +
-            "✓ Haupt-Trainer bevorzugt\n" +
-            "✓ Terminüberschneidungen vermieden\n\n" +
+            "%s\n" +
             "STATUS: %s",
             score.toString(),
             score.hardScore(),
@@ -343,132 +785,24 @@ public class TrainingOptimizationService {
             totalSlots > 0 ? (assignedSlots * 100.0) / totalSlots : 0.0,
             usedEmployees,
             solution.getTotalEmployees(),
+            explanation.getConflictingSlots().size(),
+            criteria,
             score.isFeasible() ? "Optimale Lösung gefunden" : "Keine optimale Lösung möglich"
         );
     }
     
-    private Integer countAvailableTrainers() {
-        return (int) employeeRepository.count();
-    }
-    
     /**
-     * Load schedule data within transaction to avoid LazyInitializationException
+     * Failure message of a job, cut to fit the message column; exception messages may be arbitrarily long.
      */
-    @Transactional(readOnly = true)
-    public Schedule loadScheduleForOptimization(Long scheduleId) {
-        // Load schedule with weeks
-        Schedule schedule = scheduleRepository.findByIdWithWeeks(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("Schedule not found: " + scheduleId));
-        
-        // Manually initialize all nested collections while in transaction
-        schedule.getWeeks().forEach(week -> {
-            week.getDays().forEach(day -> {
-                day.getSlots().forEach(slot -> {
-                    // Initialize subject and employee
-                    if (slot.getSubject() != null) {
-                        slot.getSubject().getName(); // Force initialization
-                    }
-                    if (slot.getEmployee() != null) {
-                        Employee employee = slot.getEmployee();
-                        
-                        // Initialize the employee proxy itself
-                        Hibernate.initialize(employee);
-                        
-                        // Initialize all employee collections
-                        if (employee.getSubjects() != null) {
-                            Hibernate.initialize(employee.getSubjects());
-                            employee.getSubjects().size(); // Force initialization
-                        }
-                        if (employee.getWorkDays() != null) {
-                            Hibernate.initialize(employee.getWorkDays());
-                            employee.getWorkDays().size(); // Force initialization
-                        }
-                        if (employee.getHolidays() != null) {
-                            Hibernate.initialize(employee.getHolidays());
-                            employee.getHolidays().size(); // Force initialization
-                        }
-                        if (employee.getUnavailableDates() != null) {
-                            Hibernate.initialize(employee.getUnavailableDates());
-                            employee.getUnavailableDates().size(); // Force initialization
-                        }
-                        if (employee.getCourses() != null) {
-                            Hibernate.initialize(employee.getCourses());
-                            employee.getCourses().size(); // Force initialization
-                        }
-                        
-                        log.debug("Initialized employee {} in slot {} with workDays: {}", 
-                                employee.getId(), slot.getSlotId(), employee.getWorkDays());
-                    }
-                });
-            });
-        });
-        
-        return schedule;
+    private String failureMessage(String prefix, Exception e) {
+        String message = prefix + e.getMessage();
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
     }
     
-    /**
-     * Load employees with all collections for OptaPlanner optimization
-     * Uses explicit Hibernate initialization to prevent LazyInitializationException
-     */
-    @Transactional(readOnly = true)
-    public List<Employee> loadEmployeesForOptimization() {
-        List<Employee> employees = employeeRepository.findAll();
-        
-        log.info("Loading {} employees for optimization with full collection initialization", employees.size());
-        
-        // Explicitly initialize all collections using Hibernate.initialize()
-        employees.forEach(emp -> {
-            // Initialize the employee proxy itself
-            Hibernate.initialize(emp);
-            
-            // Initialize subjects collection
-            if (emp.getSubjects() != null) {
-                Hibernate.initialize(emp.getSubjects());
-                emp.getSubjects().size(); // Force access
-                log.debug("Employee {} has {} subjects", emp.getId(), emp.getSubjects().size());
-            }
-            
-            // Initialize workDays collection  
-            if (emp.getWorkDays() != null) {
-                Hibernate.initialize(emp.getWorkDays());
-                emp.getWorkDays().size(); // Force access
-                log.debug("Employee {} has {} work days: {}", emp.getId(), emp.getWorkDays().size(), emp.getWorkDays());
-            }
-            
-            // Initialize holidays collection
-            if (emp.getHolidays() != null) {
-                Hibernate.initialize(emp.getHolidays());
-                emp.getHolidays().size(); // Force access
-                log.debug("Employee {} has {} holidays", emp.getId(), emp.getHolidays().size());
-            }
-            
-            // Initialize unavailableDates collection
-            if (emp.getUnavailableDates() != null) {
-                Hibernate.initialize(emp.getUnavailableDates());
-                emp.getUnavailableDates().size(); // Force access
-                log.debug("Employee {} has {} unavailable dates", emp.getId(), emp.getUnavailableDates().size());
-            }
-            
-            // Initialize courses collection
-            if (emp.getCourses() != null) {
-                Hibernate.initialize(emp.getCourses());
-                emp.getCourses().size(); // Force access
-                log.debug("Employee {} has {} courses", emp.getId(), emp.getCourses().size());
-            }
-        });
-        
-        log.info("Successfully initialized all collections for {} employees", employees.size());
-        return employees;
-    }
-
-    private Integer countLessonsInSchedule(Schedule schedule) {
-        return schedule.getWeeks().stream()
-                .mapToInt(week -> week.getDays().stream()
-                        .mapToInt(day -> day.getSlots().size())
-                        .sum())
-                .sum();
+    private Integer countAvailableTrainers() {
+        return (int) employeeRepository.count();
     }
-
+    
     private Integer countTrainersInSchedule(Schedule schedule) {
         return (int) schedule.getWeeks().stream()
                 .flatMap(week -> week.getDays().stream())
@@ -478,4 +812,27 @@ public class TrainingOptimizationService {
                 .distinct()
                 .count();
     }
+
+    /**
+     * Termination and weights of one job. The criteria are combined with OR, the spent limit always applies.
+     */
+    private record SolverSettings(Duration spentLimit, Duration unimprovedSpentLimit, boolean stopWhenFeasible,
+                                  OptimizationGoal goal, Boolean partitioned) {
+        TerminationConfig toTerminationConfig() {
+            TerminationConfig terminationConfig = new TerminationConfig().withSpentLimit(spentLimit);
+            if (unimprovedSpentLimit != null) {
+                terminationConfig.setUnimprovedSpentLimit(unimprovedSpentLimit);
+            }
+            if (stopWhenFeasible) {
+                terminationConfig.setBestScoreFeasible(true);
+            }
+            return terminationConfig;
+        }
+    }
+
+    private record RunningSolve(Solver<ScheduleSolution> solver, long startedAtNanos, Duration spentLimit) {
+        long elapsedMillis() {
+            return Duration.ofNanos(System.nanoTime() - startedAtNanos).toMillis();
+        }
+    }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.components.AggregateVersionTracker;
 import com.coderscenter.backend.components.EmailRespondGenerator;
+import com.coderscenter.backend.config.CacheConfig;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.dtos.user.request.*;
 import com.coderscenter.backend.dtos.user.response.AuthDTO;
 import com.coderscenter.backend.dtos.user.response.ResponseFirstPasswordSetDTO;
@@ -16,11 +20,15 @@ import com.coderscenter.backend.repositories.PermissionRepository;
 import com.coderscenter.backend.repositories.UserRepository;
 import com.coderscenter.backend.services.helperService.CredentialGeneratorService;
 import com.coderscenter.backend.services.helperService.EmailSendingService;
+import com.coderscenter.backend.services.helperService.PagingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.ArrayList;
@@ -39,6 +47,8 @@ public class UserService {
     private final UserMapper userMapper;
     private final EmailSendingService emailSendingService;
     private final EmailRespondGenerator emailRespondGenerator;
+    private final PagingService pagingService;
+    private final AggregateVersionTracker aggregateVersionTracker;
 
 
     /**
@@ -162,6 +172,7 @@ public class UserService {
      * @throws UserNotFoundException     if user is not found
      * @throws PasswordMismatchException if the new password and confirmPassword do not match
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
     public ResponseUserDTO updateUser(Long userId, UserAdminUpdateDTO userAdminUpdateDTO) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Benutzer mit ID " + userId + " nicht gefunden"));
@@ -184,6 +195,8 @@ public class UserService {
         if (userAdminUpdateDTO.getPermissions() != null) {
             List<Permission> permissions = permissionRepository.findAllById(userAdminUpdateDTO.getPermissions());
             user.setPermissions(permissions);
+            // A change of the permissions alone does not fire the entity listener
+            aggregateVersionTracker.touchOnCommit(AggregateVersionTracker.Target.ALL_GROUPS, null);
         }
 
         userRepository.save(user);
@@ -200,6 +213,7 @@ public class UserService {
      * @throws UserNotFoundException     if user is not found
      * @throws PasswordMismatchException if the new password and confirmPassword do not match
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
     public ResponseUserDTO updateSelf(String username, UserSelfUpdateDTO userSelfUpdateDTO) {
         User user = userRepository.findByUsernameOrEmail(username, username)
                 .orElseThrow(() -> new UserNotFoundException("Benutzer mit Benutzername/E-Mail " + username + " nicht gefunden"));
@@ -219,15 +233,18 @@ public class UserService {
     }
 
     /**
-     * Get a list of all users in the system.
+     * Get one page of the users in the system, ordered by id.
      *
-     * @return List of {@link ResponseUserDTO} representing all users
+     * @param pageRequest page, size, cursor and fields, see {@link PagingService}
+     * @return {@link ResponsePageDTO} of {@link ResponseUserDTO}
      */
-    public List<ResponseUserDTO> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(userMapper::toResponseDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public ResponsePageDTO<Object> getAllUsers(RequestPageDTO pageRequest) {
+        return pagingService.page(pageRequest, ResponseUserDTO.class, Sort.by("id"),
+                userRepository::findAll,
+                userRepository::findByIdGreaterThanOrderByIdAsc,
+                User::getId,
+                userMapper::toResponseDTO);
     }
 
     /**
@@ -260,6 +277,7 @@ public class UserService {
      * @param userId ID of the user to delete
      * @throws UserNotFoundException if user is not found
      */
+    @CacheEvict(cacheNames = CacheConfig.TRAINER_SUMMARIES, allEntries = true)
     public void deleteUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Benutzer mit ID " + userId + " nicht gefunden"));
@@ -1,5 +1,7 @@
 package com.coderscenter.backend.services;
 
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
 import com.coderscenter.backend.dtos.week.RequestWeekDTO;
 import com.coderscenter.backend.dtos.week.ResponseWeekDTO;
 import com.coderscenter.backend.entities.schedule_management.Day;
@@ -9,9 +11,12 @@ import com.coderscenter.backend.mapper.WeekMapper;
 import com.coderscenter.backend.repositories.ScheduleRepository;
 import com.coderscenter.backend.repositories.WeekRepository;
 import com.coderscenter.backend.services.helperService.DateParseService;
+import com.coderscenter.backend.services.helperService.PagingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,17 +30,18 @@ public class WeekService {
     private final DayService dayService;
     private final WeekMapper weekMapper;
     private final DateParseService dateParseService;
-
-    public List<ResponseWeekDTO> getAllWeeks() {
-
-        List<Week> weeks = weekRepository.findAll();
-        List<ResponseWeekDTO> responseWeekDTOS = new ArrayList<>();
-
-        weeks.forEach(week -> {
-            responseWeekDTOS.add(weekMapper.toResponseDTO(week));
-        });
-
-        return responseWeekDTOS;
+    private final PagingService pagingService;
+
+    /**
+     * One page of all weeks, ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public ResponsePageDTO<Object> getAllWeeks(RequestPageDTO pageRequest) {
+        return pagingService.page(pageRequest, ResponseWeekDTO.class, Sort.by("weekId"),
+                weekRepository::findAll,
+                weekRepository::findByWeekIdGreaterThanOrderByWeekIdAsc,
+                Week::getWeekId,
+                weekMapper::toResponseDTO);
     }
 
     public ResponseWeekDTO getWeekById(Long id) {
@@ -0,0 +1,138 @@
+package com.coderscenter.backend.services.helperService;
+
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
+import com.coderscenter.backend.exceptions.InvalidPageRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Gemeinsame Seitenlogik der Listen-Endpunkte.
+ * Ohne cursor wird per Offset geblättert (mit Gesamtanzahl), mit cursor per Keyset über die Id:
+ * jede Seite ist dann ein Index-Scan ab der letzten Id, unabhängig davon, wie weit geblättert wurde.
+ * Mit fields werden nur die angegebenen Felder erster Ebene ausgeliefert.
+ */
+@Service
+@RequiredArgsConstructor
+public class PagingService {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${paging.default-size:50}")
+    private int defaultSize;
+
+    @Value("${paging.max-size:500}")
+    private int maxSize;
+
+    /**
+     * Load and map one page.
+     * @param type response DTO class, used to validate the requested fields
+     * @param sort order of offset pages; keyset pages are always ordered by id
+     * @param offsetQuery loads a page for offset paging
+     * @param keysetQuery loads the entities with an id greater than the given one, ordered by id
+     * @param idOf id of an entity, becomes the next cursor
+     * @param mapper entity to response DTO
+     * @throws InvalidPageRequestException if page, size, cursor or fields are invalid
+     */
+    public <E, T> ResponsePageDTO<Object> page(RequestPageDTO request, Class<T> type, Sort sort,
+                                               Function<Pageable, Page<E>> offsetQuery,
+                                               BiFunction<Long, Pageable, Slice<E>> keysetQuery,
+                                               Function<E, Long> idOf, Function<E, T> mapper) {
+        RequestPageDTO pageRequest = request != null ? request : new RequestPageDTO();
+        int size = toSize(pageRequest.getSize());
+        Set<String> fields = toFields(pageRequest.getFields(), type);
+
+        if (pageRequest.getCursor() != null) {
+            Slice<E> slice = keysetQuery.apply(toAfterId(pageRequest.getCursor()), PageRequest.of(0, size));
+            List<E> entities = slice.getContent();
+            return ResponsePageDTO.builder()
+                    .content(select(entities.stream().map(mapper).toList(), fields))
+                    .size(size)
+                    .hasNext(slice.hasNext())
+                    .nextCursor(slice.hasNext() ? String.valueOf(idOf.apply(entities.get(entities.size() - 1))) : null)
+                    .build();
+        }
+
+        int page = pageRequest.getPage() != null ? pageRequest.getPage() : 0;
+        if (page < 0) {
+            throw new InvalidPageRequestException("page darf nicht negativ sein.");
+        }
+        Page<E> result = offsetQuery.apply(PageRequest.of(page, size, sort));
+        return ResponsePageDTO.builder()
+                .content(select(result.getContent().stream().map(mapper).toList(), fields))
+                .page(page)
+                .size(size)
+                .totalElements(result.getTotalElements())
+                .totalPages(result.getTotalPages())
+                .hasNext(result.hasNext())
+                .build();
+    }
+
+    private int toSize(Integer size) {
+        if (size == null) {
+            return defaultSize;
+        }
+        if (size < 1 || size > maxSize) {
+            throw new InvalidPageRequestException("size muss zwischen 1 und " + maxSize + " liegen.");
+        }
+        return size;
+    }
+
+    private Long toAfterId(String cursor) {
+        if (cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidPageRequestException("Ungültiger cursor: " + cursor);
+        }
+    }
+
+    private Set<String> toFields(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> known = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type))
+                .findProperties().stream()
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toSet());
+        List<String> unknown = requested.stream().filter(field -> !known.contains(field)).toList();
+        if (!unknown.isEmpty()) {
+            throw new InvalidPageRequestException("Unbekannte Felder " + unknown + ", erlaubt sind " + new TreeSet<>(known));
+        }
+        return requested;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> select(List<?> content, Set<String> fields) {
+        if (fields == null) {
+            return new ArrayList<>(content);
+        }
+        List<Object> selected = new ArrayList<>(content.size());
+        for (Object dto : content) {
+            Map<String, Object> values = objectMapper.convertValue(dto, LinkedHashMap.class);
+            values.keySet().retainAll(fields);
+            selected.add(values);
+        }
+        return selected;
+    }
+}
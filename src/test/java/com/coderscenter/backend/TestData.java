@@ -0,0 +1,150 @@
+package com.coderscenter.backend;
+
+import com.coderscenter.backend.entities.group_management.Group;
+import com.coderscenter.backend.entities.group_management.Program;
+import com.coderscenter.backend.entities.group_management.Subject;
+import com.coderscenter.backend.entities.pk.course_subject.Course_Subject_Employee_in;
+import com.coderscenter.backend.entities.profile.Address;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.entities.profile.User;
+import com.coderscenter.backend.entities.schedule_management.Day;
+import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import com.coderscenter.backend.entities.schedule_management.Week;
+import com.coderscenter.backend.enums.DayLabel;
+import com.coderscenter.backend.enums.Role;
+import com.coderscenter.backend.repositories.AddressRepository;
+import com.coderscenter.backend.repositories.Course_Subject_Employee_inRepository;
+import com.coderscenter.backend.repositories.EmployeeRepository;
+import com.coderscenter.backend.repositories.GroupRepository;
+import com.coderscenter.backend.repositories.ProgramRepository;
+import com.coderscenter.backend.repositories.ScheduleRepository;
+import com.coderscenter.backend.repositories.SubjectRepository;
+import com.coderscenter.backend.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Legt die Testdaten der Service- und Komponententests an: Fächer, Gruppen, Trainer und Stundenpläne.
+ * Namen und Kennungen sind eindeutig, damit sich Tests im gemeinsamen Spring-Kontext nicht stören.
+ * Einbinden über {@code @Import(TestData.class)}.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestData {
+
+    /** Monday of the first week of every group and schedule */
+    public static final LocalDate START_DATE = LocalDate.of(2025, 1, 6);
+
+    private final ScheduleRepository scheduleRepository;
+    private final EmployeeRepository employeeRepository;
+    private final SubjectRepository subjectRepository;
+    private final GroupRepository groupRepository;
+    private final ProgramRepository programRepository;
+    private final Course_Subject_Employee_inRepository courseRepository;
+    private final UserRepository userRepository;
+    private final AddressRepository addressRepository;
+
+    public Subject createSubject(String name) {
+        return subjectRepository.save(Subject.builder().name(name + " " + UUID.randomUUID()).build());
+    }
+
+    public Group createGroup() {
+        Program program = programRepository.save(Program.builder().type("Java Developer").duration(12).build());
+        return groupRepository.save(Group.builder()
+                .name("Gruppe " + UUID.randomUUID())
+                .startDate(START_DATE)
+                .endDate(LocalDate.of(2025, 6, 30))
+                .isActive(true)
+                .program(program)
+                .students(new ArrayList<>())
+                .build());
+    }
+
+    /**
+     * Trainer with login, address and the subjects given, working Monday to Wednesday,
+     * on holiday on 07.01.2025 and unavailable on 08.01.2025.
+     */
+    public Employee createEmployee(List<Subject> subjects) {
+        String unique = UUID.randomUUID().toString();
+        User user = userRepository.save(User.builder()
+                .username(unique)
+                .email(unique + "@user.test.at")
+                .password("secret")
+                .role(Role.TRAINER)
+                .permissions(new ArrayList<>())
+                .enabled(true)
+                .build());
+        return employeeRepository.save(Employee.builder()
+                .firstName("Trainer")
+                .lastName("Test")
+                .email(unique + "@test.at")
+                .phone(unique)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .svn(unique)
+                .salary(3000.0)
+                .user(user)
+                .address(addressRepository.save(Address.builder().street("Teststraße 1").city("Wien").zip("1010").build()))
+                .subjects(new ArrayList<>(subjects))
+                .courses(new ArrayList<>())
+                .workDays(Set.of(DayLabel.MONTAG, DayLabel.DIENSTAG, DayLabel.MITTWOCH))
+                .holidays(Set.of(LocalDate.of(2025, 1, 7)))
+                .unavailableDates(Set.of(LocalDate.of(2025, 1, 8)))
+                .build());
+    }
+
+    /**
+     * Schedule of a new group with two subjects and three trainers, the first trainer teaches the first subject.
+     * Days start on {@link #START_DATE}, their slots run from 8:00 in blocks of two hours and alternate
+     * through the subjects and trainers.
+     */
+    public Schedule createSchedule(int weekCount, int dayCount, int slotsPerDay) {
+        List<Subject> subjects = List.of(createSubject("Java"), createSubject("SQL"));
+        Group group = createGroup();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            employees.add(createEmployee(subjects));
+        }
+        courseRepository.save(new Course_Subject_Employee_in(group, subjects.get(0), employees.get(0)));
+
+        Schedule schedule = Schedule.builder().group(group).weeks(new ArrayList<>()).build();
+        LocalDateTime weekStart = START_DATE.atStartOfDay();
+        for (int w = 0; w < weekCount; w++) {
+            Week week = Week.builder()
+                    .label("KW " + (w + 1))
+                    .weekStartDate(weekStart.plusWeeks(w))
+                    .schedule(schedule)
+                    .days(new ArrayList<>())
+                    .build();
+            for (int d = 0; d < dayCount; d++) {
+                LocalDateTime dayDate = weekStart.plusWeeks(w).plusDays(d);
+                Day day = Day.builder()
+                        .label(DayLabel.values()[d])
+                        .dayDate(dayDate)
+                        .week(week)
+                        .slots(new ArrayList<>())
+                        .build();
+                for (int s = 0; s < slotsPerDay; s++) {
+                    day.getSlots().add(Slot.builder()
+                            .slotTopic("Einheit " + s)
+                            .startDate(dayDate.withHour(8 + s * 2))
+                            .endDate(dayDate.withHour(10 + s * 2))
+                            .day(day)
+                            .subject(subjects.get(s % subjects.size()))
+                            .employee(employees.get(s % employees.size()))
+                            .build());
+                }
+                week.getDays().add(day);
+            }
+            schedule.getWeeks().add(week);
+        }
+        return scheduleRepository.save(schedule);
+    }
+}
@@ -0,0 +1,158 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.TestData;
+import com.coderscenter.backend.controller.GroupController;
+import com.coderscenter.backend.controller.ScheduleController;
+import com.coderscenter.backend.dtos.version.AggregateVersion;
+import com.coderscenter.backend.entities.schedule_management.Schedule;
+import com.coderscenter.backend.repositories.GroupRepository;
+import com.coderscenter.backend.repositories.ProgramRepository;
+import com.coderscenter.backend.repositories.ScheduleRepository;
+import com.coderscenter.backend.repositories.SlotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class AggregateVersionTrackerTests {
+
+    @Autowired
+    private ScheduleController scheduleController;
+
+    @Autowired
+    private GroupController groupController;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void slotEditsBumpTheScheduleOnlyOnceCommitted() {
+        Schedule schedule = testData.createSchedule(1, 1, 2);
+        Long slotId = slotRepository.findViewRows(schedule.getScheduleId()).get(0).slotId();
+        AggregateVersion before = scheduleRepository.findVersion(schedule.getScheduleId()).orElseThrow();
+        AggregateVersion groupBefore = groupRepository.findVersion(schedule.getGroup().getGroupId()).orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            slotRepository.findById(slotId).orElseThrow().setSlotTopic("Verworfen");
+            slotRepository.flush();
+            status.setRollbackOnly();
+        });
+        assertEquals(before, scheduleRepository.findVersion(schedule.getScheduleId()).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status ->
+                slotRepository.findById(slotId).orElseThrow().setSlotTopic("Geändert"));
+        AggregateVersion after = scheduleRepository.findVersion(schedule.getScheduleId()).orElseThrow();
+
+        assertNotEquals(before.eTag(), after.eTag());
+        assertNotNull(after.lastModified());
+        assertEquals(groupBefore, groupRepository.findVersion(schedule.getGroup().getGroupId()).orElseThrow());
+    }
+
+    @Test
+    void versionIsBumpedWithinTheCommittingTransaction() {
+        Long scheduleId = testData.createSchedule(1, 1, 2).getScheduleId();
+        Long slotId = slotRepository.findViewRows(scheduleId).get(0).slotId();
+        AggregateVersion before = scheduleRepository.findVersion(scheduleId).orElseThrow();
+        AtomicReference<AggregateVersion> afterCommit = new AtomicReference<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            slotRepository.findById(slotId).orElseThrow().setSlotTopic("Geändert");
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    afterCommit.set(scheduleRepository.findVersion(scheduleId).orElseThrow());
+                }
+            });
+        });
+
+        // Committed together with the change, nobody can read the change with the old version
+        assertNotEquals(before.eTag(), afterCommit.get().eTag());
+    }
+
+    @Test
+    void scheduleAnswersNotModifiedUntilItsGroupChanges() {
+        Schedule schedule = testData.createSchedule(1, 1, 2);
+        Long id = schedule.getScheduleId();
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        ResponseEntity<?> full = scheduleController.getById(id, request("/api/schedule/" + id, null, first));
+        String eTag = first.getHeader("ETag");
+        assertEquals(HttpStatus.OK, full.getStatusCode());
+        assertNotNull(eTag);
+
+        ResponseEntity<?> revalidated = scheduleController.getById(id, request("/api/schedule/" + id, eTag, new MockHttpServletResponse()));
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertNull(revalidated.getBody());
+
+        // The schedule view shows the program of its group
+        Long programId = schedule.getGroup().getProgram().getProgramId();
+        transactionTemplate.executeWithoutResult(status ->
+                programRepository.findById(programId).orElseThrow().setType("Umbenannt " + UUID.randomUUID()));
+
+        ResponseEntity<?> changed = scheduleController.getById(id, request("/api/schedule/" + id, eTag, new MockHttpServletResponse()));
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotNull(changed.getBody());
+    }
+
+    @Test
+    void groupListChangesWithEveryNewGroup() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        getAllGroups(request("/api/admin/group", null, first));
+        String eTag = first.getHeader("ETag");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, getAllGroups(request("/api/admin/group", eTag, new MockHttpServletResponse())).getStatusCode());
+
+        testData.createSchedule(1, 1, 2);
+
+        assertEquals(HttpStatus.OK, getAllGroups(request("/api/admin/group", eTag, new MockHttpServletResponse())).getStatusCode());
+    }
+
+    // The list maps lazy collections, in the application the open session of the request covers that
+    private ResponseEntity<?> getAllGroups(ServletWebRequest request) {
+        return transactionTemplate.execute(status -> groupController.getAll(request));
+    }
+
+    private ServletWebRequest request(String uri, String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+}
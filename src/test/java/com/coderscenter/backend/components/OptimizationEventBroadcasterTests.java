@@ -0,0 +1,39 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.dtos.optimization.OptimizationJobResponse;
+import com.coderscenter.backend.mapper.OptimizationJobMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OptimizationEventBroadcasterTests {
+
+    private final OptimizationEventBroadcaster broadcaster = new OptimizationEventBroadcaster(new OptimizationJobMapper(), 15);
+
+    @Test
+    void runningJobStreamStaysOpenUntilTheSummary() throws Exception {
+        SseEmitter emitter = broadcaster.subscribe(job("running-job", "running"), false);
+
+        assertDoesNotThrow(() -> emitter.send("ping"));
+
+        broadcaster.publishSummary(job("running-job", "completed"));
+        assertThrows(IllegalStateException.class, () -> emitter.send("ping"));
+    }
+
+    @Test
+    void subscriberThatMissedTheSummaryIsCompletedRightAway() {
+        // The caller saw the job as running, then it finished before the stream was registered
+        OptimizationJobResponse seenAsRunning = job("raced-job", "running");
+        broadcaster.publishSummary(job("raced-job", "completed"));
+
+        SseEmitter emitter = broadcaster.subscribe(seenAsRunning, false);
+
+        assertThrows(IllegalStateException.class, () -> emitter.send("ping"));
+    }
+
+    private OptimizationJobResponse job(String jobId, String status) {
+        return OptimizationJobResponse.builder().jobId(jobId).status(status).build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.coderscenter.backend.components;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimizationJobSchedulerTests {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch finish = new CountDownLatch(1);
+
+    private OptimizationJobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // One worker and room for two waiting jobs; the first job keeps the worker busy until the test lets it finish
+        scheduler = new OptimizationJobScheduler(1, 2);
+        assertEquals(Optional.empty(), scheduler.reserve(List.of(1L), "running"));
+        scheduler.submit("running", List.of(1L), () -> {
+            started.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        finish.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void reportsTheQueuePositionOfWaitingJobs() {
+        scheduler.submit("second", List.of(2L), () -> { });
+        scheduler.submit("third", List.of(3L), () -> { });
+
+        assertEquals(0, scheduler.getQueuePosition("running"));
+        assertEquals(1, scheduler.getQueuePosition("second"));
+        assertEquals(2, scheduler.getQueuePosition("third"));
+        assertEquals(0, scheduler.getQueuePosition("unknown"));
+    }
+
+    @Test
+    void rejectsJobsWhenTheQueueIsFull() {
+        scheduler.submit("second", List.of(2L), () -> { });
+        scheduler.submit("third", List.of(3L), () -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> scheduler.submit("fourth", List.of(4L), () -> { }));
+    }
+
+    @Test
+    void rejectsASecondJobForAReservedSchedule() {
+        assertEquals(Optional.of("running"), scheduler.reserve(List.of(1L), "other"));
+        // A job over several schedules reserves all of them or none
+        assertEquals(Optional.of("running"), scheduler.reserve(List.of(5L, 1L), "batch"));
+        assertEquals(Optional.empty(), scheduler.reserve(List.of(5L), "single"));
+    }
+
+    @Test
+    void cancellingAQueuedJobReleasesItsSchedules() {
+        assertEquals(Optional.empty(), scheduler.reserve(List.of(2L, 3L), "queued"));
+        scheduler.submit("queued", List.of(2L, 3L), () -> fail("a cancelled job must not run"));
+
+        assertTrue(scheduler.cancelQueued("queued", List.of(2L, 3L)));
+        assertEquals(0, scheduler.getQueuePosition("queued"));
+        assertEquals(Optional.empty(), scheduler.reserve(List.of(2L, 3L), "next"));
+        // The running job is not in the queue and keeps its reservation
+        assertFalse(scheduler.cancelQueued("running", List.of(1L)));
+        assertEquals(Optional.of("running"), scheduler.reserve(List.of(1L), "next"));
+    }
+
+    @Test
+    void finishedJobsReleaseTheirSchedules() throws InterruptedException {
+        finish.countDown();
+        CountDownLatch done = new CountDownLatch(1);
+        scheduler.submit("after", List.of(9L), done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(Optional.empty(), scheduler.reserve(List.of(1L), "next"));
+    }
+}
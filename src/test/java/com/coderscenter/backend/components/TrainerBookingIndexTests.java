@@ -0,0 +1,69 @@
+package com.coderscenter.backend.components;
+
+import com.coderscenter.backend.dtos.slot.SlotBooking;
+import com.coderscenter.backend.repositories.SlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrainerBookingIndexTests {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 0, 0);
+
+    private TrainerBookingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        SlotRepository slotRepository = mock(SlotRepository.class);
+        when(slotRepository.findAllBookings()).thenReturn(List.of(
+                new SlotBooking(1L, 10L, MONDAY.withHour(8), MONDAY.withHour(10)),
+                new SlotBooking(2L, 10L, MONDAY.withHour(10), MONDAY.withHour(12)),
+                // A full-day slot that overlaps the others, the index must still find it
+                new SlotBooking(3L, 10L, MONDAY.withHour(7), MONDAY.withHour(17)),
+                new SlotBooking(4L, 20L, MONDAY.withHour(8), MONDAY.withHour(10)),
+                new SlotBooking(5L, null, MONDAY.withHour(8), MONDAY.withHour(10))));
+        index = new TrainerBookingIndex(slotRepository);
+        index.reload();
+    }
+
+    @Test
+    void findsOverlappingSlotsOfTheTrainerOnly() {
+        List<SlotBooking> overlapping = index.findOverlapping(10L, MONDAY.withHour(9), MONDAY.withHour(11), Set.of());
+
+        assertEquals(List.of(3L, 1L, 2L), overlapping.stream().map(SlotBooking::slotId).toList());
+        assertEquals(List.of(4L), index.findOverlapping(20L, MONDAY.withHour(9), MONDAY.withHour(11), Set.of())
+                .stream().map(SlotBooking::slotId).toList());
+    }
+
+    @Test
+    void adjacentSlotsAreFree() {
+        assertTrue(index.isFree(20L, MONDAY.withHour(10), MONDAY.withHour(12), Set.of()));
+        assertTrue(index.isFree(10L, MONDAY.withHour(17), MONDAY.withHour(18), Set.of()));
+        assertFalse(index.isFree(10L, MONDAY.withHour(16), MONDAY.withHour(18), Set.of()));
+    }
+
+    @Test
+    void ignoresTheEditedSlots() {
+        assertTrue(index.isFree(10L, MONDAY.withHour(8), MONDAY.withHour(12), Set.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void followsWritesWithoutTransaction() {
+        index.putAfterCommit(new SlotBooking(1L, 20L, MONDAY.withHour(13), MONDAY.withHour(14)));
+        index.removeAfterCommit(3L);
+        index.reassignAfterCommit(Map.of(5L, 10L));
+
+        assertTrue(index.isFree(10L, MONDAY.withHour(13), MONDAY.withHour(14), Set.of()));
+        assertFalse(index.isFree(20L, MONDAY.withHour(13), MONDAY.withHour(14), Set.of()));
+        assertEquals(List.of(5L), index.findOverlapping(10L, MONDAY.withHour(8), MONDAY.withHour(10), Set.of())
+                .stream().map(SlotBooking::slotId).toList());
+    }
+}
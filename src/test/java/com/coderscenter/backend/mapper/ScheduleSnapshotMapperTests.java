@@ -0,0 +1,42 @@
+package com.coderscenter.backend.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleSnapshotMapperTests {
+
+    private final ScheduleSnapshotMapper mapper = new ScheduleSnapshotMapper();
+
+    @Test
+    void restoresAssignmentsIncludingUnassignedSlots() {
+        SortedMap<Long, Long> assignments = new TreeMap<>();
+        assignments.put(1L, 10L);
+        assignments.put(2L, null);
+        assignments.put(300L, 0L);
+        assignments.put(Long.MAX_VALUE - 1, Long.MAX_VALUE - 1);
+
+        assertEquals(assignments, mapper.decode(mapper.encode(assignments)));
+    }
+
+    @Test
+    void needsFewBytesPerSlotForConsecutiveIds() {
+        SortedMap<Long, Long> assignments = new TreeMap<>();
+        for (long slotId = 10_000; slotId < 15_000; slotId++) {
+            assignments.put(slotId, slotId % 40 + 1);
+        }
+
+        byte[] encoded = mapper.encode(assignments);
+
+        assertTrue(encoded.length <= assignments.size() * 3, "Expected at most 3 bytes per slot but was " + encoded.length);
+        assertEquals(assignments, mapper.decode(encoded));
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        assertThrows(IllegalStateException.class, () -> mapper.decode(new byte[]{42, 0}));
+    }
+}
@@ -0,0 +1,167 @@
+package com.coderscenter.backend.optaplanner.constraints;
+
+import com.coderscenter.backend.optaplanner.domain.PlanningModel;
+import com.coderscenter.backend.optaplanner.domain.PlanningSlot;
+import com.coderscenter.backend.optaplanner.domain.PlanningTrainer;
+import com.coderscenter.backend.optaplanner.domain.ScheduleConstraintConfiguration;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.test.api.score.stream.ConstraintVerifier;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScheduleConstraintProviderTests {
+
+    private static final int MONDAY = (int) (LocalDate.of(2025, 1, 6).toEpochDay() * 24 * 60);
+    private static final int JAVA = 0;
+    private static final int SQL = 1;
+    private static final int GROUP = 0;
+
+    private final ConstraintVerifier<ScheduleConstraintProvider, ScheduleSolution> constraintVerifier =
+            ConstraintVerifier.build(new ScheduleConstraintProvider(), ScheduleSolution.class, SlotAssignment.class);
+    private final ScheduleConstraintConfiguration configuration = new ScheduleConstraintConfiguration();
+
+    // Anna teaches Java on Monday and Tuesday and is the main Java trainer of the group,
+    // Ben teaches SQL on Monday only, Clara teaches both on Tuesday only
+    private final PlanningTrainer anna = new PlanningTrainer(1L, 0, "Anna");
+    private final PlanningTrainer ben = new PlanningTrainer(2L, 1, "Ben");
+    private final PlanningTrainer clara = new PlanningTrainer(3L, 2, "Clara");
+    private final PlanningModel model = model(1);
+
+    @Test
+    void trainerMustBeQualifiedForTheSubject() {
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::employeeMustTeachSubject)
+                .given(configuration, model, assignment(1L, 0, 8, 10, JAVA, ben, false))
+                .penalizesBy(1);
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::employeeMustTeachSubject)
+                .given(configuration, model,
+                        assignment(1L, 0, 8, 10, JAVA, anna, false),
+                        assignment(2L, 0, 10, 12, JAVA, null, false))
+                .penalizesBy(0);
+    }
+
+    @Test
+    void trainerMustBeAvailableOnTheDay() {
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::employeeMustBeAvailableOnDay)
+                .given(configuration, model,
+                        assignment(1L, 1, 8, 10, SQL, ben, false),
+                        assignment(2L, 0, 8, 10, SQL, clara, false))
+                .penalizesBy(2);
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::employeeMustBeAvailableOnDay)
+                .given(configuration, model, assignment(1L, 0, 8, 10, SQL, ben, false))
+                .penalizesBy(0);
+    }
+
+    @Test
+    void trainerCannotTeachOverlappingSlots() {
+        // Three mutually overlapping slots are three pairs
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::employeeCannotBeInTwoPlacesAtOnce)
+                .given(configuration, model,
+                        assignment(1L, 0, 8, 10, JAVA, anna, false),
+                        assignment(2L, 0, 9, 11, JAVA, anna, false),
+                        assignment(3L, 0, 9, 10, SQL, anna, false))
+                .penalizesBy(3);
+        // Back to back, different trainers and unassigned slots do not clash
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::employeeCannotBeInTwoPlacesAtOnce)
+                .given(configuration, model,
+                        assignment(1L, 0, 8, 10, JAVA, anna, false),
+                        assignment(2L, 0, 10, 12, JAVA, anna, false),
+                        assignment(3L, 0, 8, 10, SQL, ben, false),
+                        assignment(4L, 0, 8, 10, SQL, null, false),
+                        assignment(5L, 0, 8, 10, SQL, null, false))
+                .penalizesBy(0);
+    }
+
+    @Test
+    void pinnedSlotsAreScoredLikeMovableOnes() {
+        // A pinned slot keeps its trainer, but a movable slot placed on top of it is still a double booking
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::employeeCannotBeInTwoPlacesAtOnce)
+                .given(configuration, model,
+                        assignment(1L, 0, 8, 10, JAVA, anna, true),
+                        assignment(2L, 0, 9, 11, JAVA, anna, false))
+                .penalizesBy(1);
+        // A conflict inside the pinned part stays visible in the score instead of being hidden
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::employeeMustTeachSubject)
+                .given(configuration, model, assignment(1L, 0, 8, 10, JAVA, ben, true))
+                .penalizesBy(1);
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::preferMainTrainerForGroup)
+                .given(configuration, model, assignment(1L, 0, 8, 10, JAVA, anna, true))
+                .rewardsWith(1);
+    }
+
+    @Test
+    void workloadIsBalancedAroundTheEvenShare() {
+        // Four slots over three trainers: round(1.33) = 1 slot each
+        PlanningModel fourSlots = model(PlanningModel.idealWorkload(4, 3));
+        assertEquals(1, fourSlots.getIdealWorkloadPerTrainer());
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::balanceWorkloadDynamic)
+                .given(configuration, fourSlots,
+                        assignment(1L, 0, 8, 10, JAVA, anna, false),
+                        assignment(2L, 0, 10, 12, JAVA, anna, false),
+                        assignment(3L, 1, 8, 10, JAVA, anna, false),
+                        assignment(4L, 0, 8, 10, SQL, ben, false))
+                .penalizesBy(2);
+
+        // Five slots over two trainers round up to three each, trainers without slots are not counted
+        PlanningModel fiveSlots = model(PlanningModel.idealWorkload(5, 2));
+        assertEquals(3, fiveSlots.getIdealWorkloadPerTrainer());
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::balanceWorkloadDynamic)
+                .given(configuration, fiveSlots,
+                        assignment(1L, 0, 8, 10, JAVA, anna, false),
+                        assignment(2L, 0, 10, 12, JAVA, anna, false),
+                        assignment(3L, 1, 8, 10, JAVA, anna, false),
+                        assignment(4L, 1, 10, 12, JAVA, anna, false),
+                        assignment(5L, 0, 8, 10, SQL, ben, false))
+                .penalizesBy(1 + 2);
+
+        // A single slot over three trainers still expects one slot, not zero
+        assertEquals(1, PlanningModel.idealWorkload(1, 3));
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::balanceWorkloadDynamic)
+                .given(configuration, model(PlanningModel.idealWorkload(1, 3)), assignment(1L, 0, 8, 10, JAVA, anna, false))
+                .penalizesBy(0);
+    }
+
+    @Test
+    void trainersAreSpreadOverTheDaysOfACourse() {
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::balanceTrainerPerSubjectAndDay)
+                .given(configuration, model,
+                        assignment(1L, 0, 8, 10, JAVA, anna, false),
+                        assignment(2L, 0, 10, 12, JAVA, anna, false),
+                        assignment(3L, 0, 12, 14, JAVA, anna, false),
+                        assignment(4L, 0, 8, 10, SQL, ben, false))
+                .penalizesBy(2);
+        constraintVerifier.verifyThat(ScheduleConstraintProvider::minimizeEmployeeSwitching)
+                .given(configuration, model,
+                        assignment(1L, 0, 8, 10, JAVA, anna, false),
+                        assignment(2L, 0, 10, 12, JAVA, clara, false),
+                        assignment(3L, 0, 12, 14, JAVA, anna, false))
+                .penalizesBy(2);
+    }
+
+    private PlanningModel model(int idealWorkloadPerTrainer) {
+        return new PlanningModel(2, 2, idealWorkloadPerTrainer,
+                new BitSet[]{bits(JAVA), bits(SQL), bits(JAVA, SQL)},
+                new BitSet[]{bits(0, 1), bits(0), bits(1)},
+                new BitSet[]{bits(GROUP * 2 + JAVA), bits(), bits()});
+    }
+
+    private SlotAssignment assignment(Long slotId, int dayIndex, int startHour, int endHour, int subjectIndex,
+                                      PlanningTrainer trainer, boolean pinned) {
+        int dayStart = MONDAY + dayIndex * 24 * 60;
+        PlanningSlot slot = new PlanningSlot(slotId, dayStart + startHour * 60, dayStart + endHour * 60, dayIndex, dayIndex + 1,
+                (long) subjectIndex + 1, subjectIndex, 1L, GROUP, pinned);
+        return new SlotAssignment(slot, trainer, model);
+    }
+
+    private static BitSet bits(int... indices) {
+        BitSet bits = new BitSet();
+        for (int index : indices) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
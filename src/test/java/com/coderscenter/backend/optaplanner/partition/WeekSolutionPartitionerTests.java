@@ -0,0 +1,119 @@
+package com.coderscenter.backend.optaplanner.partition;
+
+import com.coderscenter.backend.optaplanner.domain.PlanningModel;
+import com.coderscenter.backend.optaplanner.domain.PlanningSlot;
+import com.coderscenter.backend.optaplanner.domain.PlanningTrainer;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import com.coderscenter.backend.optaplanner.domain.SlotAssignment;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WeekSolutionPartitionerTests {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+
+    private final PlanningTrainer trainer = new PlanningTrainer(1L, 0, "Anna");
+    private final PlanningModel model = new PlanningModel(1, 1, 8, new BitSet[]{new BitSet()}, new BitSet[]{new BitSet()}, new BitSet[]{new BitSet()});
+
+    @Test
+    void splitsByCalendarWeek() {
+        // Sunday belongs to the week of the Monday before, the next Monday starts a new week
+        ScheduleSolution solution = solution(
+                assignment(1L, MONDAY, false),
+                assignment(2L, MONDAY.plusDays(6), false),
+                assignment(3L, MONDAY.plusWeeks(1), false),
+                assignment(4L, MONDAY.plusWeeks(2).plusDays(4), false));
+
+        List<ScheduleSolution> parts = split(solution, 1);
+
+        assertEquals(List.of(Set.of(1L, 2L), Set.of(3L), Set.of(4L)), slotIds(parts));
+        assertEquals(3, WeekSolutionPartitioner.countMovableWeeks(solution));
+        // Each part expects its share of the workload target: round(8 * 2 / 4) and round(8 * 1 / 4)
+        assertEquals(List.of(4, 2, 2), parts.stream().map(part -> part.getPlanningModel().getIdealWorkloadPerTrainer()).toList());
+    }
+
+    @Test
+    void mergesSmallWeeksIntoTheFollowingWeek() {
+        ScheduleSolution solution = solution(
+                assignment(1L, MONDAY, false),
+                assignment(2L, MONDAY.plusDays(1), false),
+                // Second week is pinned completely, third has one movable slot
+                assignment(3L, MONDAY.plusWeeks(1), true),
+                assignment(4L, MONDAY.plusWeeks(2), false),
+                assignment(5L, MONDAY.plusWeeks(3), false),
+                assignment(6L, MONDAY.plusWeeks(3).plusDays(1), false));
+
+        assertEquals(List.of(Set.of(1L, 2L), Set.of(3L, 4L), Set.of(5L, 6L)), slotIds(split(solution, 1)));
+        assertEquals(List.of(Set.of(1L, 2L), Set.of(3L, 4L, 5L, 6L)), slotIds(split(solution, 2)));
+    }
+
+    @Test
+    void trailingWeeksWithoutEnoughMovableSlotsJoinTheLastPart() {
+        ScheduleSolution solution = solution(
+                assignment(1L, MONDAY, false),
+                assignment(2L, MONDAY.plusWeeks(1), false),
+                assignment(3L, MONDAY.plusWeeks(2), true),
+                assignment(4L, MONDAY.plusWeeks(3), true));
+
+        assertEquals(List.of(Set.of(1L), Set.of(2L, 3L, 4L)), slotIds(split(solution, 1)));
+        // Not a single week reaches the minimum: everything ends up in one part
+        assertEquals(List.of(Set.of(1L, 2L, 3L, 4L)), slotIds(split(solution, 5)));
+    }
+
+    @Test
+    void everyMovableSlotLandsInExactlyOnePart() {
+        List<SlotAssignment> assignments = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            // Every fourth slot is pinned, the slots spread over ten weeks
+            assignments.add(assignment(id, MONDAY.plusDays(id * 2), id % 4 == 0));
+        }
+        ScheduleSolution solution = solution(assignments.toArray(SlotAssignment[]::new));
+
+        for (int minMovable = 1; minMovable <= 12; minMovable++) {
+            List<Long> partitioned = split(solution, minMovable).stream()
+                    .flatMap(part -> part.getSlotAssignmentList().stream())
+                    .map(SlotAssignment::getId)
+                    .toList();
+            assertEquals(40, partitioned.size());
+            assertEquals(40, Set.copyOf(partitioned).size());
+        }
+    }
+
+    private List<ScheduleSolution> split(ScheduleSolution solution, int minMovableSlotsPerPart) {
+        @SuppressWarnings("unchecked")
+        ScoreDirector<ScheduleSolution> scoreDirector = mock(ScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        WeekSolutionPartitioner partitioner = new WeekSolutionPartitioner();
+        partitioner.setMinMovableSlotsPerPart(minMovableSlotsPerPart);
+        return partitioner.splitWorkingSolution(scoreDirector, null);
+    }
+
+    private ScheduleSolution solution(SlotAssignment... assignments) {
+        List<SlotAssignment> assignmentList = List.of(assignments);
+        return new ScheduleSolution(List.of(trainer), assignmentList.stream().map(SlotAssignment::getSlot).toList(), model, assignmentList);
+    }
+
+    private SlotAssignment assignment(Long slotId, LocalDate date, boolean pinned) {
+        int start = (int) (date.toEpochDay() * 24 * 60) + 8 * 60;
+        PlanningSlot slot = new PlanningSlot(slotId, start, start + 120, 0, date.getDayOfWeek().getValue(),
+                1L, 0, 1L, 0, pinned);
+        return new SlotAssignment(slot, trainer, model);
+    }
+
+    private static List<Set<Long>> slotIds(List<ScheduleSolution> parts) {
+        return parts.stream()
+                .map(part -> part.getSlotAssignmentList().stream().map(SlotAssignment::getId).collect(Collectors.toSet()))
+                .toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.entities.optimization.OptimizationJob;
+import com.coderscenter.backend.repositories.OptimizationJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OptimizationJobStoreTests {
+
+    @Autowired
+    private OptimizationJobStore optimizationJobStore;
+
+    @Autowired
+    private OptimizationJobRepository optimizationJobRepository;
+
+    @Test
+    void jobsLeftQueuedOrRunningByAShutdownAreMarkedFailed() {
+        String queued = storedJob("queued");
+        String running = storedJob("running");
+        String completed = storedJob("completed");
+
+        optimizationJobStore.failInterruptedJobs();
+
+        for (String jobId : new String[]{queued, running}) {
+            OptimizationJob job = optimizationJobRepository.findById(jobId).orElseThrow();
+            assertEquals("failed", job.getStatus());
+            assertFalse(job.getFeasible());
+            assertNotNull(job.getCompletedAt());
+            assertNotNull(job.getMessage());
+        }
+        assertEquals("completed", optimizationJobRepository.findById(completed).orElseThrow().getStatus());
+        assertEquals("failed", optimizationJobStore.find(running).orElseThrow().getStatus());
+    }
+
+    private String storedJob(String status) {
+        return optimizationJobRepository.save(OptimizationJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build()).getJobId();
+    }
+}
@@ -0,0 +1,55 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.TestData;
+import com.coderscenter.backend.optaplanner.domain.PlanningScope;
+import com.coderscenter.backend.optaplanner.domain.ScheduleSolution;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(TestData.class)
+class OptimizationProblemLoaderTests {
+
+    private static final long MAX_QUERIES = 10;
+
+    @Autowired
+    private OptimizationProblemLoader optimizationProblemLoader;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void loadsScheduleAndTrainersInConstantNumberOfQueries() {
+        Long smallSchedule = testData.createSchedule(1, 2, 2).getScheduleId();
+        Long largeSchedule = testData.createSchedule(6, 5, 4).getScheduleId();
+
+        long smallQueries = countQueries(smallSchedule, 4);
+        long largeQueries = countQueries(largeSchedule, 6 * 5 * 4);
+
+        assertTrue(smallQueries <= MAX_QUERIES, "Expected at most " + MAX_QUERIES + " queries but was " + smallQueries);
+        assertEquals(smallQueries, largeQueries, "Query count must not depend on the schedule size");
+    }
+
+    private long countQueries(Long scheduleId, int expectedSlots) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ScheduleSolution problem = optimizationProblemLoader.loadProblem(scheduleId, PlanningScope.FULL).solution();
+
+        assertEquals(expectedSlots, problem.getTotalSlots());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,172 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.TestData;
+import com.coderscenter.backend.config.CacheConfig;
+import com.coderscenter.backend.dtos.employee.request.UpdateEmployeeDTO;
+import com.coderscenter.backend.dtos.employee.response.ResponseEmployeeDTO;
+import com.coderscenter.backend.dtos.group.request.AssingDTO;
+import com.coderscenter.backend.dtos.group.response.ResponseGroupWithListDTO;
+import com.coderscenter.backend.dtos.subject.RequestSubjectDTO;
+import com.coderscenter.backend.dtos.subject.ResponseSubjectDTO;
+import com.coderscenter.backend.entities.group_management.Subject;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.exceptions.SubjectNotMatchException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ReferenceDataCacheTests {
+
+    @Autowired
+    private SubjectService subjectService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void subjectsAreServedFromTheCacheUntilAWriteEvictsThem() throws Exception {
+        double hitsBefore = hits(CacheConfig.SUBJECTS);
+        List<ResponseSubjectDTO> first = subjectService.getAllPermission();
+
+        assertSame(first, subjectService.getAllPermission());
+        assertEquals(hitsBefore + 1, hits(CacheConfig.SUBJECTS));
+
+        subjectService.createNew(RequestSubjectDTO.builder().name("Docker " + UUID.randomUUID()).build());
+        List<ResponseSubjectDTO> afterWrite = subjectService.getAllPermission();
+
+        assertNotSame(first, afterWrite);
+        assertEquals(first.size() + 1, afterWrite.size());
+    }
+
+    @Test
+    void trainerSummariesAreCachedAfterCommitAndEvictedByEmployeeUpdates() throws Exception {
+        Subject subject = testData.createSubject("Java");
+        Employee first = testData.createEmployee(List.of(subject));
+        Employee second = testData.createEmployee(List.of(subject));
+        Long groupId = testData.createGroup().getGroupId();
+        HashMap<Long, List<Long>> subjectEmployee = new HashMap<>();
+        subjectEmployee.put(subject.getSubjectId(), List.of(first.getId(), second.getId()));
+
+        ResponseGroupWithListDTO group = groupService.assignToGroup(groupId,
+                AssingDTO.builder().subjectEmployee(subjectEmployee).students(List.of()).build());
+
+        assertEquals(2, group.getEmployees().size());
+        Cache summaries = cacheManager.getCache(CacheConfig.TRAINER_SUMMARIES);
+        assertNotNull(summaries.get(first.getId()));
+
+        transactionTemplate.executeWithoutResult(status ->
+                employeeService.updateEmployee(first.getId(), UpdateEmployeeDTO.builder().firstName("Umbenannt").build()));
+
+        assertNull(summaries.get(first.getId()));
+        assertNotNull(summaries.get(second.getId()));
+        ResponseGroupWithListDTO reloaded = groupService.assignToGroup(groupId,
+                AssingDTO.builder().subjectEmployee(new HashMap<>()).students(List.of()).build());
+        assertTrue(reloaded.getEmployees().stream()
+                .map(ResponseEmployeeDTO::getFirstName)
+                .anyMatch("Umbenannt"::equals));
+    }
+
+    @Test
+    void renamingASubjectEvictsTheTrainerSummaries() throws Exception {
+        Subject subject = testData.createSubject("Java");
+        Employee employee = testData.createEmployee(List.of(subject));
+        Long groupId = testData.createGroup().getGroupId();
+        HashMap<Long, List<Long>> subjectEmployee = new HashMap<>();
+        subjectEmployee.put(subject.getSubjectId(), List.of(employee.getId()));
+        groupService.assignToGroup(groupId, AssingDTO.builder().subjectEmployee(subjectEmployee).students(List.of()).build());
+        Cache summaries = cacheManager.getCache(CacheConfig.TRAINER_SUMMARIES);
+        assertNotNull(summaries.get(employee.getId()));
+
+        subjectService.updateSubject(subject.getSubjectId(), RequestSubjectDTO.builder().name("Kotlin " + UUID.randomUUID()).build());
+
+        // The summaries hold the subjects of each trainer and are dropped with every subject write
+        assertNull(summaries.get(employee.getId()));
+    }
+
+    @Test
+    void cachedTrainerSummariesSerializeAfterTheSessionIsClosed() throws Exception {
+        Subject subject = testData.createSubject("Java");
+        Employee employee = testData.createEmployee(List.of(subject));
+        Long groupId = testData.createGroup().getGroupId();
+        HashMap<Long, List<Long>> subjectEmployee = new HashMap<>();
+        subjectEmployee.put(subject.getSubjectId(), List.of(employee.getId()));
+        groupService.assignToGroup(groupId, AssingDTO.builder().subjectEmployee(subjectEmployee).students(List.of()).build());
+
+        ResponseEmployeeDTO cached = cacheManager.getCache(CacheConfig.TRAINER_SUMMARIES).get(employee.getId(), ResponseEmployeeDTO.class);
+        assertNotNull(cached);
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(cached));
+
+        assertEquals(3, json.get("workDays").size());
+        assertEquals(1, json.get("holidays").size());
+        assertEquals(1, json.get("unavailableDates").size());
+        assertEquals(employee.getUser().getUsername(), json.get("user").get("username").asText());
+    }
+
+    @Test
+    void assignToGroupRejectsTrainersWithoutTheSubject() {
+        Subject taught = testData.createSubject("Java");
+        Subject other = testData.createSubject("SQL");
+        Employee employee = testData.createEmployee(List.of(taught));
+        Long groupId = testData.createGroup().getGroupId();
+        HashMap<Long, List<Long>> subjectEmployee = new HashMap<>();
+        subjectEmployee.put(other.getSubjectId(), List.of(employee.getId()));
+
+        assertThrows(SubjectNotMatchException.class, () -> groupService.assignToGroup(groupId,
+                AssingDTO.builder().subjectEmployee(subjectEmployee).students(List.of()).build()));
+    }
+
+    private double hits(String cacheName) {
+        FunctionCounter counter = meterRegistry.find("cache.gets").tags("cache", cacheName, "result", "hit").functionCounter();
+        assertNotNull(counter, "no metrics for cache " + cacheName);
+        return counter.count();
+    }
+
+}
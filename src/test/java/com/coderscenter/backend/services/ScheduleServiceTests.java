@@ -0,0 +1,158 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.TestData;
+import com.coderscenter.backend.dtos.day.RequestDayDTO;
+import com.coderscenter.backend.dtos.schedule.RequestScheduleDTO;
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleDTO;
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleViewDTO;
+import com.coderscenter.backend.dtos.schedule.ScheduleDayViewDTO;
+import com.coderscenter.backend.dtos.schedule.ScheduleSlotViewDTO;
+import com.coderscenter.backend.dtos.schedule.ScheduleTrainerViewDTO;
+import com.coderscenter.backend.dtos.slot.RequestSlotDTO;
+import com.coderscenter.backend.dtos.slot.ResponseSlotDTO;
+import com.coderscenter.backend.dtos.slot.SlotConflictDTO;
+import com.coderscenter.backend.dtos.subject.ResponseSubjectDTO;
+import com.coderscenter.backend.dtos.week.RequestWeekDTO;
+import com.coderscenter.backend.entities.group_management.Subject;
+import com.coderscenter.backend.entities.profile.Employee;
+import com.coderscenter.backend.enums.DayLabel;
+import com.coderscenter.backend.enums.SlotConflictType;
+import com.coderscenter.backend.exceptions.ResourceNotFoundException;
+import com.coderscenter.backend.exceptions.SlotConflictException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ScheduleServiceTests {
+
+    private static final long VIEW_QUERIES = 6;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void scheduleViewUsesConstantNumberOfQueries() {
+        Long smallSchedule = testData.createSchedule(1, 2, 2).getScheduleId();
+        Long largeSchedule = testData.createSchedule(6, 5, 4).getScheduleId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        scheduleService.getScheduleView(smallSchedule);
+        long smallQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        scheduleService.getScheduleView(largeSchedule);
+        long largeQueries = statistics.getPrepareStatementCount();
+
+        assertEquals(VIEW_QUERIES, smallQueries);
+        assertEquals(VIEW_QUERIES, largeQueries);
+    }
+
+    @Test
+    void scheduleViewListsTrainersAndSubjectsOnce() {
+        Long scheduleId = testData.createSchedule(2, 3, 4).getScheduleId();
+
+        ResponseScheduleViewDTO view = scheduleService.getScheduleView(scheduleId);
+
+        assertEquals(2, view.getWeeks().size());
+        assertTrue(view.getWeeks().stream().allMatch(week -> week.getDays().size() == 3));
+        List<ScheduleSlotViewDTO> slots = view.getWeeks().stream()
+                .flatMap(week -> week.getDays().stream())
+                .map(ScheduleDayViewDTO::getSlots)
+                .flatMap(List::stream)
+                .toList();
+        assertEquals(2 * 3 * 4, slots.size());
+        assertEquals(3, view.getTrainers().size());
+        assertEquals(2, view.getSubjects().size());
+
+        Set<Long> trainerIds = view.getTrainers().stream().map(ScheduleTrainerViewDTO::getEmployeeId).collect(Collectors.toSet());
+        Set<Long> subjectIds = view.getSubjects().stream().map(ResponseSubjectDTO::getSubjectId).collect(Collectors.toSet());
+        assertTrue(slots.stream().allMatch(slot -> trainerIds.contains(slot.getEmployeeId())));
+        assertTrue(slots.stream().allMatch(slot -> subjectIds.contains(slot.getSubjectId())));
+    }
+
+    @Test
+    void scheduleViewOfUnknownScheduleIsNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> scheduleService.getScheduleView(-1L));
+    }
+
+    @Test
+    void newScheduleIsRejectedWhenItDoubleBooksATrainer() {
+        Subject subject = testData.createSubject("Java");
+        Employee employee = testData.createEmployee(List.of(subject));
+        RequestScheduleDTO request = overlappingSlots(testData.createGroup().getGroupId(), subject, employee, false);
+
+        SlotConflictException rejected = assertThrows(SlotConflictException.class, () -> createSchedule(request));
+
+        assertEquals(SlotConflictType.DOUBLE_BOOKED, rejected.getConflicts().get(0).getType());
+    }
+
+    @Test
+    void newScheduleReturnsTheConflictsItWasAllowedToSave() {
+        Subject subject = testData.createSubject("Java");
+        Employee employee = testData.createEmployee(List.of(subject));
+        RequestScheduleDTO request = overlappingSlots(testData.createGroup().getGroupId(), subject, employee, true);
+
+        ResponseScheduleDTO schedule = createSchedule(request);
+
+        List<ResponseSlotDTO> slots = schedule.getWeeks().get(0).getDays().get(0).getSlots();
+        assertEquals(3, slots.size());
+        assertEquals(List.of(SlotConflictType.DOUBLE_BOOKED), slots.get(0).getConflicts().stream().map(SlotConflictDTO::getType).toList());
+        assertEquals(List.of(SlotConflictType.DOUBLE_BOOKED), slots.get(1).getConflicts().stream().map(SlotConflictDTO::getType).toList());
+        assertNull(slots.get(2).getConflicts());
+    }
+
+    // The service reads the lazy subjects of the trainer, in the application the open session of the request covers that
+    private ResponseScheduleDTO createSchedule(RequestScheduleDTO request) {
+        return transactionTemplate.execute(status -> scheduleService.createNew(request));
+    }
+
+    // Monday 13.01.2025: 8:00 - 10:00 and 9:00 - 11:00 overlap, 11:00 - 12:00 follows without a gap
+    private RequestScheduleDTO overlappingSlots(Long groupId, Subject subject, Employee employee, boolean allowConflicts) {
+        List<RequestSlotDTO> slots = List.of(
+                slot("13.01.2025 08:00", "13.01.2025 10:00", subject, employee, allowConflicts),
+                slot("13.01.2025 09:00", "13.01.2025 11:00", subject, employee, allowConflicts),
+                slot("13.01.2025 11:00", "13.01.2025 12:00", subject, employee, allowConflicts));
+        RequestDayDTO day = RequestDayDTO.builder().label(DayLabel.MONTAG).dayDate("13.01.2025").slots(slots).build();
+        RequestWeekDTO week = RequestWeekDTO.builder().label("KW 3").weekStartDate("13.01.2025").days(List.of(day)).build();
+        return RequestScheduleDTO.builder().groupId(groupId).weeks(List.of(week)).build();
+    }
+
+    private RequestSlotDTO slot(String startDate, String endDate, Subject subject, Employee employee, boolean allowConflicts) {
+        return RequestSlotDTO.builder()
+                .slotTopic("Einheit")
+                .startDate(startDate)
+                .endDate(endDate)
+                .subjectId(subject.getSubjectId())
+                .employeeId(employee.getId())
+                .allowConflicts(allowConflicts)
+                .build();
+    }
+}
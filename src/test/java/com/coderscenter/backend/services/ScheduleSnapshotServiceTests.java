@@ -0,0 +1,93 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.TestData;
+import com.coderscenter.backend.dtos.schedule.ResponseScheduleSnapshotDTO;
+import com.coderscenter.backend.dtos.schedule.ResponseSnapshotRollbackDTO;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import com.coderscenter.backend.enums.SnapshotSource;
+import com.coderscenter.backend.repositories.SlotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ScheduleSnapshotServiceTests {
+
+    private static final int WRITERS = 6;
+
+    @Autowired
+    private ScheduleSnapshotService scheduleSnapshotService;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void concurrentSnapshotsOfOneScheduleGetConsecutiveVersions() throws Exception {
+        Long scheduleId = testData.createSchedule(1, 2, 2).getScheduleId();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<ResponseScheduleSnapshotDTO>> snapshots = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                snapshots.add(executor.submit(() -> {
+                    start.await();
+                    return scheduleSnapshotService.createSnapshot(scheduleId, SnapshotSource.MANUAL, null);
+                }));
+            }
+            start.countDown();
+
+            Set<Integer> versions = new HashSet<>();
+            for (Future<ResponseScheduleSnapshotDTO> snapshot : snapshots) {
+                versions.add(snapshot.get().getVersion());
+            }
+            assertEquals(IntStream.rangeClosed(1, WRITERS).boxed().collect(Collectors.toSet()), versions);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rollbackKeepsTheTrainerOfLockedSlots() {
+        Long scheduleId = testData.createSchedule(1, 1, 2).getScheduleId();
+        SortedMap<Long, Long> original = slotRepository.findEmployeeAssignments(scheduleId);
+        List<Long> slotIds = List.copyOf(original.keySet());
+        Integer version = scheduleSnapshotService.createSnapshot(scheduleId, SnapshotSource.MANUAL, null).getVersion();
+
+        // Swap the trainers of both slots, then lock the first one
+        Map<Long, Long> swapped = Map.of(slotIds.get(0), original.get(slotIds.get(1)), slotIds.get(1), original.get(slotIds.get(0)));
+        slotRepository.batchUpdateEmployees(swapped);
+        Slot locked = slotRepository.findById(slotIds.get(0)).orElseThrow();
+        locked.setLocked(true);
+        slotRepository.save(locked);
+
+        ResponseSnapshotRollbackDTO rollback = scheduleSnapshotService.rollback(scheduleId, version);
+
+        assertEquals(1, rollback.getChangedSlots());
+        assertEquals(1, rollback.getSkippedSlots());
+        SortedMap<Long, Long> restored = slotRepository.findEmployeeAssignments(scheduleId);
+        assertEquals(swapped.get(slotIds.get(0)), restored.get(slotIds.get(0)));
+        assertEquals(original.get(slotIds.get(1)), restored.get(slotIds.get(1)));
+    }
+}
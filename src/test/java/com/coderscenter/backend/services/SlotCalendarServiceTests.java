@@ -0,0 +1,90 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.TestData;
+import com.coderscenter.backend.dtos.slot.FreeTimeWindow;
+import com.coderscenter.backend.dtos.slot.SlotCalendarRow;
+import com.coderscenter.backend.exceptions.InvalidDateRangeException;
+import com.coderscenter.backend.repositories.ScheduleRepository;
+import com.coderscenter.backend.repositories.SlotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class SlotCalendarServiceTests {
+
+    @Autowired
+    private SlotCalendarService slotCalendarService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void trainerWeekListsOnlyTheTrainersSlotsOfThatWeek() {
+        Long scheduleId = testData.createSchedule(2, 5, 3).getScheduleId();
+        Long employeeId = slotRepository.findViewRows(scheduleId).get(0).employeeId();
+
+        // Without an end date the week from the start date is returned
+        List<SlotCalendarRow> week = slotCalendarService.getTrainerCalendar(employeeId, "06.01.2025", null);
+
+        assertEquals(5, week.size());
+        assertTrue(week.stream().allMatch(row -> row.employeeId().equals(employeeId) && row.groupName() != null));
+        for (int i = 1; i < week.size(); i++) {
+            assertTrue(week.get(i - 1).startDate().isBefore(week.get(i).startDate()));
+        }
+        assertTrue(week.stream().allMatch(row -> row.startDate().isBefore(LocalDateTime.of(2025, 1, 13, 0, 0))));
+    }
+
+    @Test
+    void groupCalendarListsAllSlotsOfTheRangeInTimeOrder() {
+        Long scheduleId = testData.createSchedule(2, 5, 3).getScheduleId();
+        Long groupId = scheduleRepository.findViewHeader(scheduleId).orElseThrow().groupId();
+
+        List<SlotCalendarRow> rows = slotCalendarService.getGroupCalendar(groupId, "06.01.2025", "07.01.2025");
+
+        assertEquals(2 * 3, rows.size());
+        assertEquals(LocalDateTime.of(2025, 1, 6, 8, 0), rows.get(0).startDate());
+        assertEquals(LocalDateTime.of(2025, 1, 7, 12, 0), rows.get(rows.size() - 1).startDate());
+    }
+
+    @Test
+    void freeTimeContainsTheGapsBetweenSlotsUntilClosing() {
+        Long scheduleId = testData.createSchedule(1, 2, 3).getScheduleId();
+        Long groupId = scheduleRepository.findViewHeader(scheduleId).orElseThrow().groupId();
+        // Free the 10:00 - 12:00 slot of the first day
+        slotRepository.deleteById(slotRepository.findViewRows(scheduleId).get(1).slotId());
+
+        List<FreeTimeWindow> free = slotCalendarService.getGroupFreeTime(groupId, "06.01.2025", "12.01.2025");
+
+        assertEquals(3, free.size());
+        assertEquals(new FreeTimeWindow(free.get(0).dayId(), LocalDateTime.of(2025, 1, 6, 10, 0), LocalDateTime.of(2025, 1, 6, 12, 0), 120), free.get(0));
+        assertEquals(LocalDateTime.of(2025, 1, 6, 14, 0), free.get(1).startDate());
+        assertEquals(240, free.get(1).minutes());
+        assertEquals(LocalDateTime.of(2025, 1, 7, 14, 0), free.get(2).startDate());
+        assertEquals(LocalDateTime.of(2025, 1, 7, 18, 0), free.get(2).endDate());
+    }
+
+    @Test
+    void rejectsInvalidRanges() {
+        assertThrows(InvalidDateRangeException.class, () -> slotCalendarService.getTrainerCalendar(1L, "10.01.2025", "06.01.2025"));
+        assertThrows(InvalidDateRangeException.class, () -> slotCalendarService.getTrainerCalendar(1L, "01.01.2025", "31.12.2025"));
+        assertThrows(InvalidDateRangeException.class, () -> slotCalendarService.getGroupCalendar(1L, "2025-01-06", null));
+    }
+}
@@ -0,0 +1,104 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.components.TrainerAvailabilityIndex;
+import com.coderscenter.backend.components.TrainerAvailabilityIndex.TrainerProfile;
+import com.coderscenter.backend.components.TrainerBookingIndex;
+import com.coderscenter.backend.dtos.slot.ResponseSlotCandidateDTO;
+import com.coderscenter.backend.dtos.slot.SlotBooking;
+import com.coderscenter.backend.dtos.slot.SlotPlacement;
+import com.coderscenter.backend.enums.DayLabel;
+import com.coderscenter.backend.repositories.SlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlotCandidateServiceTests {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 0, 0);
+    private static final LocalDateTime TUESDAY = MONDAY.plusDays(1);
+    private static final Long SLOT_ID = 100L;
+    private static final Long GROUP_ID = 1L;
+    private static final Long SUBJECT_ID = 5L;
+    private static final Long OTHER_SUBJECT_ID = 6L;
+    private static final Long CURRENT_TRAINER = 99L;
+
+    private SlotCandidateService slotCandidateService;
+
+    @BeforeEach
+    void setUp() {
+        SlotRepository slotRepository = mock(SlotRepository.class);
+        when(slotRepository.findPlacement(SLOT_ID)).thenReturn(Optional.of(
+                new SlotPlacement(SLOT_ID, GROUP_ID, SUBJECT_ID, CURRENT_TRAINER, MONDAY.withHour(8), MONDAY.withHour(10))));
+        when(slotRepository.findAllBookings()).thenReturn(List.of(
+                new SlotBooking(SLOT_ID, CURRENT_TRAINER, MONDAY.withHour(8), MONDAY.withHour(10)),
+                new SlotBooking(201L, 2L, MONDAY.withHour(9), MONDAY.withHour(11)),
+                new SlotBooking(301L, 3L, TUESDAY.withHour(8), TUESDAY.withHour(12)),
+                new SlotBooking(401L, 4L, TUESDAY.withHour(8), TUESDAY.withHour(12)),
+                new SlotBooking(402L, 4L, TUESDAY.plusDays(1).withHour(8), TUESDAY.plusDays(1).withHour(12)),
+                new SlotBooking(501L, 5L, TUESDAY.withHour(8), TUESDAY.withHour(9)),
+                new SlotBooking(502L, 5L, TUESDAY.withHour(10), TUESDAY.withHour(11)),
+                new SlotBooking(601L, 6L, TUESDAY.withHour(8), TUESDAY.withHour(10))));
+        TrainerBookingIndex trainerBookingIndex = new TrainerBookingIndex(slotRepository);
+        trainerBookingIndex.reload();
+
+        TrainerAvailabilityIndex trainerAvailabilityIndex = mock(TrainerAvailabilityIndex.class);
+        // In index order, so the result only follows the ranking if the service sorts
+        when(trainerAvailabilityIndex.getTrainers()).thenReturn(List.of(
+                // Not qualified and unavailable: two conflicts
+                trainer(7L, OTHER_SUBJECT_ID, Set.of(MONDAY.toLocalDate())),
+                // Not qualified: one conflict
+                trainer(1L, OTHER_SUBJECT_ID, Set.of()),
+                // Main trainer, but on holiday and booked at the same time
+                trainer(2L, SUBJECT_ID, Set.of(MONDAY.toLocalDate())),
+                // Eligible with 240 minutes in the week
+                trainer(3L, SUBJECT_ID, Set.of()),
+                // Eligible with 120 minutes in two slots
+                trainer(5L, SUBJECT_ID, Set.of()),
+                // Eligible with 120 minutes in one slot
+                trainer(6L, SUBJECT_ID, Set.of()),
+                // Eligible main trainer with the highest load
+                trainer(4L, SUBJECT_ID, Set.of()),
+                trainer(CURRENT_TRAINER, SUBJECT_ID, Set.of())));
+        when(trainerAvailabilityIndex.isMainTrainer(GROUP_ID, SUBJECT_ID, 2L)).thenReturn(true);
+        when(trainerAvailabilityIndex.isMainTrainer(GROUP_ID, SUBJECT_ID, 4L)).thenReturn(true);
+
+        slotCandidateService = new SlotCandidateService(slotRepository, trainerAvailabilityIndex, trainerBookingIndex);
+    }
+
+    @Test
+    void ranksEligibleThenMainTrainerThenConflictsThenWeeklyLoad() {
+        List<ResponseSlotCandidateDTO> candidates = slotCandidateService.getCandidates(SLOT_ID, true, null);
+
+        assertEquals(List.of(4L, 6L, 5L, 3L, 2L, 1L, 7L),
+                candidates.stream().map(ResponseSlotCandidateDTO::getEmployeeId).toList());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7), candidates.stream().map(ResponseSlotCandidateDTO::getRank).toList());
+        ResponseSlotCandidateDTO blockedMainTrainer = candidates.get(4);
+        assertFalse(blockedMainTrainer.isAvailable());
+        assertFalse(blockedMainTrainer.isFree());
+        assertEquals(2, blockedMainTrainer.getConflicts().size());
+        assertEquals(480, candidates.get(0).getWeeklyMinutes());
+    }
+
+    @Test
+    void leavesOutBlockedTrainersAndCutsToTheLimit() {
+        List<ResponseSlotCandidateDTO> candidates = slotCandidateService.getCandidates(SLOT_ID, false, 3);
+
+        assertEquals(List.of(4L, 6L, 5L), candidates.stream().map(ResponseSlotCandidateDTO::getEmployeeId).toList());
+        assertTrue(candidates.stream().allMatch(ResponseSlotCandidateDTO::isEligible));
+    }
+
+    private TrainerProfile trainer(Long employeeId, Long subjectId, Set<LocalDate> holidays) {
+        return new TrainerProfile(employeeId, "Trainer", String.valueOf(employeeId), Set.of(subjectId),
+                EnumSet.range(DayLabel.MONTAG, DayLabel.FREITAG), holidays, Set.of());
+    }
+}
@@ -0,0 +1,143 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.TestData;
+import com.coderscenter.backend.dtos.page.RequestPageDTO;
+import com.coderscenter.backend.dtos.page.ResponsePageDTO;
+import com.coderscenter.backend.dtos.schedule.ScheduleSlotRow;
+import com.coderscenter.backend.dtos.slot.RequestSlotFilterDTO;
+import com.coderscenter.backend.dtos.slot.ResponseSlotDTO;
+import com.coderscenter.backend.entities.notification.TrainerNotification;
+import com.coderscenter.backend.enums.NotificationChangeType;
+import com.coderscenter.backend.exceptions.InvalidDateRangeException;
+import com.coderscenter.backend.exceptions.InvalidPageRequestException;
+import com.coderscenter.backend.repositories.ScheduleRepository;
+import com.coderscenter.backend.repositories.SlotRepository;
+import com.coderscenter.backend.repositories.TrainerNotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class SlotServiceTests {
+
+    @Autowired
+    private SlotService slotService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TrainerNotificationRepository trainerNotificationRepository;
+
+    @Test
+    void filtersSlotsByGroupTrainerAndDateRangeInTheQuery() {
+        Long scheduleId = testData.createSchedule(2, 5, 3).getScheduleId();
+        Long groupId = scheduleRepository.findViewHeader(scheduleId).orElseThrow().groupId();
+        Long employeeId = slotRepository.findViewRows(scheduleId).get(0).employeeId();
+
+        ResponsePageDTO<Object> group = slotService.getAllSlots(page(null, 500, null),
+                RequestSlotFilterDTO.builder().groupId(groupId).build());
+        assertEquals(2 * 5 * 3, group.getTotalElements());
+
+        // First week only: 6.1. - 10.1.2025, both days inclusive
+        ResponsePageDTO<Object> firstWeek = slotService.getAllSlots(page(null, 500, null),
+                RequestSlotFilterDTO.builder().groupId(groupId).from("06.01.2025").to("10.01.2025").build());
+        assertEquals(5 * 3, firstWeek.getTotalElements());
+
+        // Every third slot of a day goes to the same trainer
+        ResponsePageDTO<Object> trainer = slotService.getAllSlots(page(null, 500, null),
+                RequestSlotFilterDTO.builder().groupId(groupId).employeeId(employeeId).build());
+        assertEquals(2 * 5, trainer.getTotalElements());
+        assertTrue(trainer.getContent().stream()
+                .allMatch(slot -> ((ResponseSlotDTO) slot).getEmployee().getEmployeeId().equals(employeeId)));
+    }
+
+    @Test
+    void keysetPagesVisitEverySlotOnce() {
+        Long scheduleId = testData.createSchedule(2, 5, 3).getScheduleId();
+        RequestSlotFilterDTO filter = RequestSlotFilterDTO.builder()
+                .groupId(scheduleRepository.findViewHeader(scheduleId).orElseThrow().groupId())
+                .build();
+
+        Set<Long> visited = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            ResponsePageDTO<Object> page = slotService.getAllSlots(page(null, 7, cursor), filter);
+            assertNull(page.getTotalElements());
+            page.getContent().forEach(slot -> assertTrue(visited.add(((ResponseSlotDTO) slot).getSlotId())));
+            cursor = page.getNextCursor();
+            pages++;
+        }
+        assertEquals(2 * 5 * 3, visited.size());
+        assertEquals(5, pages);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void returnsOnlyRequestedFields() {
+        Long scheduleId = testData.createSchedule(1, 1, 2).getScheduleId();
+        RequestSlotFilterDTO filter = RequestSlotFilterDTO.builder()
+                .groupId(scheduleRepository.findViewHeader(scheduleId).orElseThrow().groupId())
+                .build();
+
+        ResponsePageDTO<Object> page = slotService.getAllSlots(page("slotId, startDate", null, null), filter);
+
+        assertEquals(2, page.getContent().size());
+        Map<String, Object> slot = (Map<String, Object>) page.getContent().get(0);
+        assertEquals(Set.of("slotId", "startDate"), slot.keySet());
+        assertFalse(page.isHasNext());
+    }
+
+    @Test
+    void deletingASlotNotifiesItsTrainer() {
+        Long scheduleId = testData.createSchedule(1, 1, 2).getScheduleId();
+        ScheduleSlotRow row = slotRepository.findViewRows(scheduleId).get(0);
+
+        slotService.deleteSlot(row.slotId());
+
+        assertTrue(slotRepository.findById(row.slotId()).isEmpty());
+        List<TrainerNotification> notifications = trainerNotificationRepository.findAll().stream()
+                .filter(notification -> notification.getSlotId().equals(row.slotId()))
+                .toList();
+        assertEquals(1, notifications.size());
+        assertEquals(row.employeeId(), notifications.get(0).getEmployeeId());
+        assertEquals(NotificationChangeType.REMOVED, notifications.get(0).getChangeType());
+        assertEquals(row.startDate(), notifications.get(0).getStartDate());
+    }
+
+    @Test
+    void rejectsInvalidPageRequests() {
+        RequestSlotFilterDTO noFilter = new RequestSlotFilterDTO();
+        assertThrows(InvalidPageRequestException.class, () -> slotService.getAllSlots(page("password", null, null), noFilter));
+        assertThrows(InvalidPageRequestException.class, () -> slotService.getAllSlots(page(null, 0, null), noFilter));
+        assertThrows(InvalidPageRequestException.class, () -> slotService.getAllSlots(page(null, null, "abc"), noFilter));
+        assertThrows(InvalidDateRangeException.class, () -> slotService.getAllSlots(page(null, null, null),
+                RequestSlotFilterDTO.builder().from("10.01.2025").to("06.01.2025").build()));
+    }
+
+    private RequestPageDTO page(String fields, Integer size, String cursor) {
+        return RequestPageDTO.builder().fields(fields).size(size).cursor(cursor).build();
+    }
+}
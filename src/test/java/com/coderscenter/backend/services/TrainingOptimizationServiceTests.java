@@ -0,0 +1,92 @@
+package com.coderscenter.backend.services;
+
+import com.coderscenter.backend.TestData;
+import com.coderscenter.backend.dtos.optimization.OptimizationJobResponse;
+import com.coderscenter.backend.dtos.optimization.OptimizationResultResponse;
+import com.coderscenter.backend.entities.schedule_management.Slot;
+import com.coderscenter.backend.exceptions.OptimizationConflictException;
+import com.coderscenter.backend.repositories.SlotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TrainingOptimizationServiceTests {
+
+    @Autowired
+    private TrainingOptimizationService trainingOptimizationService;
+
+    @Autowired
+    private OptimizationJobStore optimizationJobStore;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void appliesTheSolutionWithOneBatchedUpdate() {
+        Long scheduleId = testData.createSchedule(1, 1, 2).getScheduleId();
+        SortedMap<Long, Long> before = slotRepository.findEmployeeAssignments(scheduleId);
+        List<Long> slotIds = List.copyOf(before.keySet());
+        // Swap the trainers of both slots
+        Map<Long, Long> solution = Map.of(slotIds.get(0), before.get(slotIds.get(1)), slotIds.get(1), before.get(slotIds.get(0)));
+        String jobId = completedJob(scheduleId, solution);
+
+        OptimizationResultResponse result = trainingOptimizationService.applyOptimization(jobId, scheduleId);
+
+        assertEquals(2, result.getChangedSlots());
+        assertEquals(solution, slotRepository.findEmployeeAssignments(scheduleId));
+    }
+
+    @Test
+    void rejectsASolutionWhenASlotChangedAfterTheSolve() {
+        Long scheduleId = testData.createSchedule(1, 1, 2).getScheduleId();
+        SortedMap<Long, Long> before = slotRepository.findEmployeeAssignments(scheduleId);
+        List<Long> slotIds = List.copyOf(before.keySet());
+        String jobId = completedJob(scheduleId, Map.of(slotIds.get(0), before.get(slotIds.get(1))));
+
+        // A planner locks the slot between solve and apply
+        Slot slot = slotRepository.findById(slotIds.get(0)).orElseThrow();
+        slot.setLocked(true);
+        slotRepository.save(slot);
+
+        assertThrows(OptimizationConflictException.class,
+                () -> trainingOptimizationService.applyOptimization(jobId, scheduleId));
+        assertEquals(before, slotRepository.findEmployeeAssignments(scheduleId));
+    }
+
+    /**
+     * Store a feasible job for the current state of the schedule, as the solver thread does when it finishes.
+     */
+    private String completedJob(Long scheduleId, Map<Long, Long> solution) {
+        String jobId = UUID.randomUUID().toString();
+        optimizationJobStore.save(OptimizationJobResponse.builder()
+                .jobId(jobId)
+                .scheduleId(scheduleId)
+                .scheduleIds(List.of(scheduleId))
+                .scheduleRevision(slotRepository.calculateScheduleRevision(scheduleId, false))
+                .status("completed")
+                .createdAt(LocalDateTime.now())
+                .completedAt(LocalDateTime.now())
+                .feasible(true)
+                .score("0hard/0soft")
+                .optimizedAssignments(solution)
+                .build());
+        return jobId;
+    }
+}